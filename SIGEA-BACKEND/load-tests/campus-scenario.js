@@ -0,0 +1,351 @@
+// Escenario de carga a escala de campus contra una instancia local sembrada con datos sintéticos.
+//
+// 1. Sembrar la base (escribe load-tests/datagen-manifest.json):
+//      java -jar target/SIGEA-BACKEND-0.0.1-SNAPSHOT.jar \
+//          --sigea.datagen.enabled=true --sigea.datagen.run-on-startup=true \
+//          --sigea.datagen.campuses=5 --sigea.datagen.students-per-campus=3000
+// 2. Correr el escenario con k6 (https://k6.io):
+//      ADMIN_EMAIL=admin@sigea.mx ADMIN_PASSWORD=... k6 run load-tests/campus-scenario.js
+//
+// Mezcla, en paralelo:
+//   - login_storm    ráfaga de inicios de sesión de estudiantes
+//   - grade_entry    docentes capturando calificaciones del módulo en curso (alta y corrección)
+//   - dashboards     resumen del estudiante, tablero del docente, analítica del supervisor
+//   - ws_clients     estudiantes conectados por STOMP a /sigea/ws-native
+//   - fanout         avisos de administración a todo un campus, recibidos por ws_clients
+// Al final imprime p50/p95/p99 por endpoint y guarda el resumen completo en
+// load-tests/campus-scenario-summary.json.
+//
+// Variables (opcionales salvo las credenciales de administración):
+//   BASE_URL       (http://localhost:8080)   DURATION       duración de cada escenario (2m)
+//   LOGIN_RATE     logins/s en la ráfaga (20) GRADE_RATE     capturas/s (10)
+//   DASHBOARD_VUS  usuarios en tableros (50)  WS_CLIENTS     conexiones WebSocket (200)
+//   FANOUT_EVERY   intervalo entre avisos (10s)
+//   MANIFEST       manifiesto de datos sintéticos (./datagen-manifest.json)
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check, sleep } from 'k6';
+import exec from 'k6/execution';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const WS_URL = BASE_URL.replace(/^http/, 'ws') + '/sigea/ws-native';
+const DURATION = __ENV.DURATION || '2m';
+const LOGIN_RATE = Number(__ENV.LOGIN_RATE || 20);
+const GRADE_RATE = Number(__ENV.GRADE_RATE || 10);
+const DASHBOARD_VUS = Number(__ENV.DASHBOARD_VUS || 50);
+const WS_CLIENTS = Number(__ENV.WS_CLIENTS || 200);
+const FANOUT_EVERY = __ENV.FANOUT_EVERY || '10s';
+const MANIFEST = __ENV.MANIFEST || './datagen-manifest.json';
+
+// Tokens que se piden una sola vez en setup() (el login tiene su propio escenario)
+const TOKEN_POOL = 40;
+const BROADCAST_PREFIX = 'carga:';
+
+// El manifiesto se lee una vez por arreglo compartido, no una vez por VU
+const loadManifest = () => JSON.parse(open(MANIFEST));
+const meta = new SharedArray('meta', () => {
+    const manifest = loadManifest();
+    return [{ password: manifest.password, fanoutCampus: manifest.campusIds[0] }];
+})[0];
+const password = meta.password;
+const fanoutCampus = meta.fanoutCampus;
+const accounts = (predicate) => () => loadManifest().accounts.filter(predicate);
+const students = new SharedArray('students', accounts((a) => a.role === 'STUDENT'));
+const fanoutStudents = new SharedArray('fanoutStudents', accounts((a) => a.role === 'STUDENT' && a.campusId === fanoutCampus));
+const teachers = new SharedArray('teachers', accounts((a) => a.role === 'TEACHER'));
+const supervisors = new SharedArray('supervisors', accounts((a) => a.role === 'SUPERVISOR'));
+const gradeTargets = new SharedArray('gradeTargets', () => loadManifest().gradeTargets);
+
+// Una métrica por endpoint: los percentiles del resumen salen directo de ellas
+const endpoints = {
+    login: new Trend('ep_login', true),
+    student_summary: new Trend('ep_student_summary', true),
+    teacher_dashboard: new Trend('ep_teacher_dashboard', true),
+    campus_analytics: new Trend('ep_campus_analytics', true),
+    notification_count: new Trend('ep_notification_count', true),
+    notification_list: new Trend('ep_notification_list', true),
+    grade_entry: new Trend('ep_grade_entry', true),
+    grade_update: new Trend('ep_grade_update', true),
+    notification_broadcast: new Trend('ep_notification_broadcast', true),
+    ws_connect: new Trend('ep_ws_connect', true),
+    ws_delivery: new Trend('ep_ws_delivery', true),
+};
+const wsMessages = new Counter('ws_notifications_received');
+const failures = new Counter('endpoint_failures');
+
+export const options = {
+    scenarios: {
+        login_storm: {
+            executor: 'ramping-arrival-rate',
+            exec: 'loginStorm',
+            startRate: 1,
+            timeUnit: '1s',
+            preAllocatedVUs: Math.max(10, LOGIN_RATE * 2),
+            maxVUs: LOGIN_RATE * 10,
+            stages: [
+                { target: LOGIN_RATE, duration: '20s' },
+                { target: LOGIN_RATE, duration: DURATION },
+            ],
+        },
+        grade_entry: {
+            executor: 'constant-arrival-rate',
+            exec: 'gradeEntry',
+            rate: GRADE_RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(5, GRADE_RATE * 2),
+            maxVUs: GRADE_RATE * 10,
+        },
+        dashboards: {
+            executor: 'constant-vus',
+            exec: 'dashboards',
+            vus: DASHBOARD_VUS,
+            duration: DURATION,
+        },
+        ws_clients: {
+            executor: 'per-vu-iterations',
+            exec: 'wsClient',
+            vus: WS_CLIENTS,
+            iterations: 1,
+            // Siguen conectados mientras fanout envía (empieza 15 s después)
+            maxDuration: `${durationMs(DURATION) / 1000 + 30}s`,
+        },
+        fanout: {
+            executor: 'constant-arrival-rate',
+            exec: 'fanout',
+            rate: 1,
+            timeUnit: FANOUT_EVERY,
+            duration: DURATION,
+            // Deja que ws_clients termine de conectarse
+            startTime: '15s',
+            preAllocatedVUs: 1,
+            maxVUs: 2,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max', 'count'],
+};
+
+/* ===================== Utilidades ===================== */
+
+function pick(list) {
+    return list[Math.floor(Math.random() * list.length)];
+}
+
+function auth(token) {
+    return { headers: { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' } };
+}
+
+function record(name, res, expected = 200) {
+    endpoints[name].add(res.timings.duration);
+    const ok = check(res, { [`${name} ${expected}`]: (r) => r.status === expected });
+    if (!ok) failures.add(1, { endpoint: name });
+    return ok;
+}
+
+/* Sin métrica: logins de preparación que no deben contar en login_storm */
+function login(email, pass, metric = 'login') {
+    const params = { headers: { 'Content-Type': 'application/json' } };
+    if (metric) params.tags = { name: metric };
+    const res = http.post(`${BASE_URL}/sigea/auth/login`, JSON.stringify({ email, password: pass }), params);
+    if (metric) record(metric, res);
+    return res.status === 200 ? res.json('token') : null;
+}
+
+/* "90s", "2m", "1h" a milisegundos */
+function durationMs(value) {
+    const match = /^(\d+)(ms|s|m|h)$/.exec(value);
+    if (!match) throw new Error(`Duración inválida: ${value}`);
+    return Number(match[1]) * { ms: 1, s: 1000, m: 60000, h: 3600000 }[match[2]];
+}
+
+function isoDate(date) {
+    return date.toISOString().slice(0, 10);
+}
+
+function stompFrame(command, headers, body = '') {
+    let frame = command + '\n';
+    for (const [key, value] of Object.entries(headers)) frame += `${key}:${value}\n`;
+    return frame + '\n' + body + '\0';
+}
+
+/* ===================== Preparación ===================== */
+
+export function setup() {
+    const adminEmail = __ENV.ADMIN_EMAIL;
+    const adminPassword = __ENV.ADMIN_PASSWORD;
+    if (!adminEmail || !adminPassword) throw new Error('Define ADMIN_EMAIL y ADMIN_PASSWORD');
+    const admin = login(adminEmail, adminPassword, null);
+    if (!admin) throw new Error('No se pudo iniciar sesión como administrador');
+
+    const session = (account) => ({ id: account.id, campusId: account.campusId, token: login(account.email, password, null) });
+
+    // Docentes al azar entre los que tienen calificaciones por capturar
+    const targetTeachers = new Set();
+    for (let i = 0; i < TOKEN_POOL * 10 && targetTeachers.size < TOKEN_POOL && gradeTargets.length > 0; i++) {
+        targetTeachers.add(pick(gradeTargets).teacherId);
+    }
+    const teacherSessions = {};
+    for (const teacher of teachers) {
+        if (targetTeachers.has(teacher.id)) teacherSessions[teacher.id] = session(teacher);
+    }
+    const targets = [];
+    for (const target of gradeTargets) {
+        if (teacherSessions[target.teacherId]) targets.push(target);
+    }
+    const studentSessions = [];
+    for (let i = 0; i < TOKEN_POOL && i < students.length; i++) studentSessions.push(session(pick(students)));
+    const supervisorSessions = [];
+    for (let i = 0; i < supervisors.length; i++) supervisorSessions.push(session(supervisors[i]));
+
+    return { admin, teacherSessions, targets, studentSessions, supervisorSessions };
+}
+
+/* ===================== Escenarios ===================== */
+
+export function loginStorm() {
+    login(pick(students).email, password);
+}
+
+/* Calificaciones que creó este VU, con su id, para corregirlas en lugar de duplicarlas */
+const createdGrades = [];
+
+export function gradeEntry(data) {
+    if (data.targets.length === 0) return;
+    // Misma forma que la captura real: enteros de 6 a 10, cargados hacia 8 y 9
+    const grade = Math.min(10, Math.max(6, Math.round(8.2 + (Math.random() + Math.random() - 1) * 2)));
+
+    // El número de iteración es único entre VUs: cada objetivo se da de alta una sola vez
+    const iteration = exec.scenario.iterationInTest;
+    if (iteration < data.targets.length) {
+        const target = data.targets[iteration];
+        const teacher = data.teacherSessions[target.teacherId];
+        const res = http.post(`${BASE_URL}/sigea/api/qualifications`, JSON.stringify({
+            studentId: target.studentId,
+            groupId: target.groupId,
+            subjectId: target.subjectId,
+            teacherId: target.teacherId,
+            grade,
+        }), Object.assign(auth(teacher.token), { tags: { name: 'grade_entry' } }));
+        if (record('grade_entry', res, 201)) createdGrades.push({ id: res.json('id'), teacher });
+        return;
+    }
+
+    // Agotados los objetivos, el docente corrige una de las que este VU ya creó
+    if (createdGrades.length === 0) return;
+    const created = pick(createdGrades);
+    const res = http.put(`${BASE_URL}/sigea/api/qualifications`, JSON.stringify({ id: created.id, grade }),
+        Object.assign(auth(created.teacher.token), { tags: { name: 'grade_update' } }));
+    record('grade_update', res, 200);
+}
+
+export function dashboards(data) {
+    const student = pick(data.studentSessions);
+    record('student_summary', http.get(`${BASE_URL}/sigea/api/students/${student.id}/summary`,
+        Object.assign(auth(student.token), { tags: { name: 'student_summary' } })));
+    record('notification_count', http.get(`${BASE_URL}/sigea/api/notifications/count/${student.id}`,
+        Object.assign(auth(student.token), { tags: { name: 'notification_count' } })));
+    record('notification_list', http.get(`${BASE_URL}/sigea/api/notifications/${student.id}`,
+        Object.assign(auth(student.token), { tags: { name: 'notification_list' } })));
+
+    const teacherIds = Object.keys(data.teacherSessions);
+    if (teacherIds.length > 0) {
+        const teacher = data.teacherSessions[pick(teacherIds)];
+        record('teacher_dashboard', http.get(`${BASE_URL}/sigea/api/teachers/${teacher.id}/dashboard`,
+            Object.assign(auth(teacher.token), { tags: { name: 'teacher_dashboard' } })));
+    }
+
+    if (data.supervisorSessions.length > 0) {
+        const supervisor = pick(data.supervisorSessions);
+        const to = new Date();
+        const from = new Date(to.getTime() - 90 * 24 * 3600 * 1000);
+        const query = `userCampusId=${supervisor.campusId}&from=${isoDate(from)}&to=${isoDate(to)}&granularity=WEEK`;
+        record('campus_analytics', http.get(
+            `${BASE_URL}/sigea/api/analytics/campuses/supervised-by/${supervisor.id}?${query}`,
+            Object.assign(auth(supervisor.token), { tags: { name: 'campus_analytics' } })));
+    }
+    // Tiempo de lectura entre pantallas
+    sleep(1 + Math.random() * 2);
+}
+
+/**
+ * Un estudiante del campus de fanout conectado hasta el final de la prueba. La latencia
+ * de entrega es la diferencia entre la marca que puso fanout() en el mensaje y la llegada;
+ * solo es válida porque k6 corre en la misma máquina que genera las marcas.
+ */
+export function wsClient() {
+    const account = fanoutStudents[(__VU - 1) % fanoutStudents.length];
+    const token = login(account.email, password, null);
+    if (!token) return;
+
+    const started = Date.now();
+    const res = ws.connect(WS_URL, {}, (socket) => {
+        socket.on('open', () => {
+            socket.send(stompFrame('CONNECT', {
+                'accept-version': '1.2',
+                host: 'localhost',
+                'heart-beat': '0,0',
+                Authorization: `Bearer ${token}`,
+            }));
+        });
+        socket.on('message', (raw) => {
+            if (raw.startsWith('CONNECTED')) {
+                endpoints.ws_connect.add(Date.now() - started);
+                socket.send(stompFrame('SUBSCRIBE', { id: 'notifications', destination: '/user/queue/notifications' }));
+                return;
+            }
+            if (raw.startsWith('ERROR')) {
+                failures.add(1, { endpoint: 'ws_connect' });
+                socket.close();
+                return;
+            }
+            if (!raw.startsWith('MESSAGE')) return;
+            const body = raw.slice(raw.indexOf('\n\n') + 2).replace(/\0$/, '');
+            const message = JSON.parse(body);
+            const text = message.data && message.data.message;
+            if (text && text.startsWith(BROADCAST_PREFIX)) {
+                endpoints.ws_delivery.add(Date.now() - Number(text.slice(BROADCAST_PREFIX.length)));
+                wsMessages.add(1);
+            }
+        });
+        // Conectado durante toda la prueba
+        socket.setTimeout(() => socket.close(), durationMs(DURATION) + 20000);
+    });
+    check(res, { 'ws 101': (r) => r && r.status === 101 });
+}
+
+export function fanout(data) {
+    const res = http.post(`${BASE_URL}/sigea/api/notifications/broadcast`, JSON.stringify({
+        campusId: fanoutCampus,
+        type: 'Info',
+        title: 'Aviso de prueba de carga',
+        message: BROADCAST_PREFIX + Date.now(),
+    }), Object.assign(auth(data.admin), { tags: { name: 'notification_broadcast' } }));
+    record('notification_broadcast', res);
+}
+
+/* ===================== Resumen ===================== */
+
+export function handleSummary(data) {
+    const pad = (value, width) => String(value).padStart(width);
+    const lines = [
+        '',
+        `${'endpoint'.padEnd(24)}${pad('n', 8)}${pad('p50 ms', 10)}${pad('p95 ms', 10)}${pad('p99 ms', 10)}${pad('max ms', 10)}`,
+    ];
+    for (const name of Object.keys(endpoints)) {
+        const metric = data.metrics[`ep_${name}`];
+        if (!metric || !metric.values.count) continue;
+        const v = metric.values;
+        lines.push(`${name.padEnd(24)}${pad(v.count, 8)}${pad(v['p(50)'].toFixed(1), 10)}`
+            + `${pad(v['p(95)'].toFixed(1), 10)}${pad(v['p(99)'].toFixed(1), 10)}${pad(v.max.toFixed(1), 10)}`);
+    }
+    const failed = data.metrics.endpoint_failures ? data.metrics.endpoint_failures.values.count : 0;
+    const received = data.metrics.ws_notifications_received ? data.metrics.ws_notifications_received.values.count : 0;
+    lines.push('', `fallas: ${failed}   notificaciones recibidas por WebSocket: ${received}`, '');
+
+    return {
+        stdout: lines.join('\n'),
+        'load-tests/campus-scenario-summary.json': JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+#
+# Compara hilos de plataforma contra hilos virtuales en los endpoints de uso diario.
+# Arranca el jar dos veces, una por modo. Contra cada instancia corre la misma carga con
+# `hey` (https://github.com/rakyll/hey) e imprime una tabla con req/s y p50/p95/p99.
+#
+# Uso:
+#   ./mvnw -q package -DskipTests
+#   LOGIN_EMAIL=admin@sigea.mx LOGIN_PASSWORD=... ./load-tests/compare-thread-modes.sh
+#
+# Variables (todas opcionales salvo las credenciales):
+#   JAR           jar de la aplicación             (target/SIGEA-BACKEND-0.0.1-SNAPSHOT.jar)
+#   PORT          puerto de la instancia           (8080)
+#   CONCURRENCY   clientes simultáneos             (200)
+#   DURATION      duración por endpoint            (30s)
+#   ENDPOINTS     rutas GET separadas por espacio  (ver DEFAULT_ENDPOINTS)
+#   JAVA_OPTS     opciones extra de la JVM
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-target/SIGEA-BACKEND-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-30s}
+BASE_URL="http://localhost:${PORT}"
+DEFAULT_ENDPOINTS="/sigea/api/careers /sigea/api/campus /sigea/api/groups /sigea/api/curriculums /sigea/api/users"
+ENDPOINTS=${ENDPOINTS:-$DEFAULT_ENDPOINTS}
+
+: "${LOGIN_EMAIL:?Define LOGIN_EMAIL}"
+: "${LOGIN_PASSWORD:?Define LOGIN_PASSWORD}"
+command -v hey >/dev/null || { echo "Se necesita hey en el PATH" >&2; exit 1; }
+[[ -f "$JAR" ]] || { echo "No existe $JAR; compila con ./mvnw package" >&2; exit 1; }
+
+APP_PID=""
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=""
+    fi
+}
+trap stop_app EXIT
+
+start_app() {
+    local virtual=$1
+    # shellcheck disable=SC2086
+    java ${JAVA_OPTS:-} -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" \
+        > "load-tests/app-virtual-${virtual}.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 120); do
+        if curl -fs -o /dev/null "${BASE_URL}/sigea/api/dev-status"; then return 0; fi
+        sleep 1
+    done
+    echo "La aplicación no arrancó; revisa load-tests/app-virtual-${virtual}.log" >&2
+    exit 1
+}
+
+login() {
+    curl -fs -H 'Content-Type: application/json' \
+        -d "{\"email\":\"${LOGIN_EMAIL}\",\"password\":\"${LOGIN_PASSWORD}\"}" \
+        "${BASE_URL}/sigea/auth/login" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p'
+}
+
+# Imprime "req/s p50 p95 p99" (latencias en ms) a partir de la salida de hey
+summarize() {
+    awk '
+        /Requests\/sec:/ { rps = $2 }
+        /50% in/ { p50 = $3 * 1000 }
+        /95% in/ { p95 = $3 * 1000 }
+        /99% in/ { p99 = $3 * 1000 }
+        END { printf "%10.1f %9.1f %9.1f %9.1f\n", rps, p50, p95, p99 }'
+}
+
+run_mode() {
+    local virtual=$1 label=$2 token
+    start_app "$virtual"
+    token=$(login)
+    [[ -n "$token" ]] || { echo "No se pudo iniciar sesión" >&2; exit 1; }
+
+    for endpoint in $ENDPOINTS; do
+        # Calentamiento: JIT, cachés y pool
+        hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}" > /dev/null
+        printf "%-10s %-30s " "$label" "$endpoint"
+        hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}" | summarize
+    done
+    stop_app
+}
+
+printf "%-10s %-30s %10s %9s %9s %9s\n" "modo" "endpoint" "req/s" "p50 ms" "p95 ms" "p99 ms"
+run_mode false plataforma
+run_mode true virtual
@@ -0,0 +1,68 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.SigeaBackendApplication;
+import com.utez.edu.sigeabackend.modules.datagen.DataGenResult;
+import com.utez.edu.sigeabackend.modules.datagen.DataGenSpec;
+import com.utez.edu.sigeabackend.modules.datagen.SyntheticDataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Contexto de Spring compartido por los benchmarks del mismo fork: la aplicación completa
+ * sobre H2 en modo MySQL, sembrada una sola vez con {@link DataGenSpec#benchmark()}.
+ * Arrancarla por cada @Setup haría que el tiempo de arranque dominara la corrida.
+ */
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+    private static DataGenResult data;
+
+    private BenchmarkContext() {}
+
+    public static synchronized ConfigurableApplicationContext context() {
+        if (context == null) start();
+        return context;
+    }
+
+    public static synchronized DataGenResult data() {
+        if (context == null) start();
+        return data;
+    }
+
+    public static <T> T bean(Class<T> type) {
+        return context().getBean(type);
+    }
+
+    private static void start() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+
+        context = new SpringApplicationBuilder(SigeaBackendApplication.class)
+                .properties(
+                        // Puerto libre: WebSocket y los controladores necesitan el contenedor web
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "NON_KEYWORDS=USER,VALUE,YEAR,MONTH,DAY;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.mail.host=localhost",
+                        "jwt.keys.primary=" + Base64.getEncoder().encodeToString(key),
+                        "sigea.datagen.enabled=true",
+                        // Los trabajos de fondo no deben competir con las iteraciones medidas
+                        "sigea.analytics.rollup.rebuild-on-empty=false",
+                        "sigea.analytics.rollup.initial-delay-ms=86400000",
+                        "sigea.catalog.cache.warm-up=false",
+                        "sigea.search.warm-up=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        data = context.getBean(SyntheticDataGenerator.class).generate(DataGenSpec.benchmark());
+        Runtime.getRuntime().addShutdownHook(new Thread(context::close, "benchmark-context-close"));
+    }
+}
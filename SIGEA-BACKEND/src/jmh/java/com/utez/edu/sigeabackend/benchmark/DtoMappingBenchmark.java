@@ -0,0 +1,48 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.modules.services.GroupService;
+import com.utez.edu.sigeabackend.modules.services.UserCareerEnrollmentService;
+import com.utez.edu.sigeabackend.modules.services.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listados completos: consulta más mapeo de entidades a DTO de usuarios, grupos e inscripciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private UserService userService;
+    private GroupService groupService;
+    private UserCareerEnrollmentService enrollmentService;
+
+    @Setup
+    public void setUp() {
+        userService = BenchmarkContext.bean(UserService.class);
+        groupService = BenchmarkContext.bean(GroupService.class);
+        enrollmentService = BenchmarkContext.bean(UserCareerEnrollmentService.class);
+    }
+
+    @Benchmark
+    public ResponseEntity<? extends List<?>> users() {
+        return userService.listAll();
+    }
+
+    @Benchmark
+    public ResponseEntity<? extends List<?>> groups() {
+        return groupService.findAllGroups();
+    }
+
+    @Benchmark
+    public ResponseEntity<? extends List<?>> enrollments() {
+        return enrollmentService.findAll();
+    }
+}
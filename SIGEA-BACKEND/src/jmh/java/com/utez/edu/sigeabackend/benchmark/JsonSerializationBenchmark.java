@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utez.edu.sigeabackend.modules.services.GroupService;
+import com.utez.edu.sigeabackend.modules.services.UserCareerEnrollmentService;
+import com.utez.edu.sigeabackend.modules.services.UserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de los listados grandes con el ObjectMapper de la aplicación,
+ * separada de la consulta que mide {@link DtoMappingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<?> users;
+    private List<?> groups;
+    private List<?> enrollments;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkContext.bean(ObjectMapper.class);
+        users = BenchmarkContext.bean(UserService.class).listAll().getBody();
+        groups = BenchmarkContext.bean(GroupService.class).findAllGroups().getBody();
+        enrollments = BenchmarkContext.bean(UserCareerEnrollmentService.class).findAll().getBody();
+    }
+
+    @Benchmark
+    public byte[] users() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] groups() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(groups);
+    }
+
+    @Benchmark
+    public byte[] enrollments() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(enrollments);
+    }
+}
@@ -0,0 +1,50 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import com.utez.edu.sigeabackend.utils.security.CustomUserDetailsService;
+import com.utez.edu.sigeabackend.utils.security.JWTUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y validación de JWT: lo que hace cada login y cada petición autenticada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JWTUtil jwtUtil;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkContext.bean(JWTUtil.class);
+        long studentId = BenchmarkContext.data().studentIds().getFirst();
+        String email = BenchmarkContext.bean(UserRepository.class)
+                .findById(studentId).orElseThrow().getEmail();
+        user = BenchmarkContext.bean(CustomUserDetailsService.class).loadUserByUsername(email);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+}
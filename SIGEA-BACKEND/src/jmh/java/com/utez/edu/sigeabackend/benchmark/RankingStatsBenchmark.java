@@ -0,0 +1,36 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.CampusStatsDtos.CampusRankingStatsDto;
+import com.utez.edu.sigeabackend.modules.services.RankingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estadísticas de evaluaciones docentes por campus sobre el conjunto sembrado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankingStatsBenchmark {
+
+    private RankingService rankingService;
+    private List<Long> campusIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rankingService = BenchmarkContext.bean(RankingService.class);
+        campusIds = BenchmarkContext.data().campusIds();
+    }
+
+    @Benchmark
+    public ResponseEntity<CampusRankingStatsDto> campusStats() {
+        return rankingService.getCampusRankingStats(campusIds.get(next++ % campusIds.size()));
+    }
+}
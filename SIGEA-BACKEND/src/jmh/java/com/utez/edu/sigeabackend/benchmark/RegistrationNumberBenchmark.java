@@ -0,0 +1,40 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.modules.services.UserCareerEnrollmentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación de matrículas por carrera, para estudiantes y docentes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationNumberBenchmark {
+
+    private UserCareerEnrollmentService enrollmentService;
+    private List<Long> careerIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        enrollmentService = BenchmarkContext.bean(UserCareerEnrollmentService.class);
+        careerIds = BenchmarkContext.data().careerIds();
+    }
+
+    @Benchmark
+    public ResponseEntity<String> student() {
+        return enrollmentService.generateNewRegistrationNumber(careerIds.get(next++ % careerIds.size()), "STUDENT");
+    }
+
+    @Benchmark
+    public ResponseEntity<String> teacher() {
+        return enrollmentService.generateNewRegistrationNumber(careerIds.get(next++ % careerIds.size()), "TEACHER");
+    }
+}
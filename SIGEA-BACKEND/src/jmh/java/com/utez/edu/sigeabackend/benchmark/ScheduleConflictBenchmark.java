@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupEntity;
+import com.utez.edu.sigeabackend.modules.entities.WeekDays;
+import com.utez.edu.sigeabackend.modules.repositories.GroupRepository;
+import com.utez.edu.sigeabackend.modules.services.GroupService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de choques de horario del docente, que corre en cada alta o edición de grupo.
+ * El método es privado; se invoca por reflexión con el {@link Method} resuelto una vez.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleConflictBenchmark {
+
+    private Object groupService;
+    private Method validate;
+    private List<GroupEntity> groups;
+    private int next;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        GroupService bean = BenchmarkContext.bean(GroupService.class);
+        // Un método privado llamado sobre el proxy no llega al bean real
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        groupService = target != null ? target : bean;
+        validate = GroupService.class.getDeclaredMethod("validateTeacherScheduleConflict",
+                Long.class, WeekDays.class, LocalTime.class, LocalTime.class, Long.class);
+        validate.setAccessible(true);
+        groups = BenchmarkContext.bean(GroupRepository.class).findAllById(BenchmarkContext.data().groupIds());
+    }
+
+    /* Re-valida un grupo existente excluyéndose a sí mismo: recorre todos los grupos del docente sin choque */
+    @Benchmark
+    public Object revalidateExistingGroup() throws IllegalAccessException, InvocationTargetException {
+        GroupEntity group = groups.get(next++ % groups.size());
+        return validate.invoke(groupService, group.getTeacher().getId(), group.getWeekDay(),
+                group.getStartTime(), group.getEndTime(), group.getId());
+    }
+}
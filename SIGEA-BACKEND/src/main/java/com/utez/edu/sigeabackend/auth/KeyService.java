@@ -1,6 +1,8 @@
 package com.utez.edu.sigeabackend.auth;
 
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
@@ -13,6 +15,8 @@ import java.util.Base64;
 @Component
 public class KeyService {
 
+    private static final Logger log = LoggerFactory.getLogger(KeyService.class);
+
     @Value("${jwt.keys.primary}")
     private String primaryKeyBase64;
 
@@ -21,10 +25,9 @@ public class KeyService {
 
     @PostConstruct
     public void debugKeys() {
-        System.out.println("=== JWT KEYS DEBUG ===");
-        System.out.println("PRIMARY KEY: " + (primaryKeyBase64 != null ? "LOADED (" + primaryKeyBase64.length() + " chars)" : "NULL"));
-        System.out.println("PREVIOUS KEY: " + (previousKeyBase64 != null && !previousKeyBase64.isBlank() ? "LOADED (" + previousKeyBase64.length() + " chars)" : "EMPTY"));
-        System.out.println("=====================");
+        log.info("Llaves JWT: primaria {}, anterior {}",
+                primaryKeyBase64 != null ? "cargada (" + primaryKeyBase64.length() + " caracteres)" : "sin configurar",
+                previousKeyBase64 != null && !previousKeyBase64.isBlank() ? "cargada (" + previousKeyBase64.length() + " caracteres)" : "vacía");
     }
 
     public Key getSigningKey() {
@@ -149,7 +149,7 @@ public class AuthService {
 
         String avatarUrl = "";
         if (user.getAvatar() != null) {
-            avatarUrl = "/sigea/api/media/raw/" + user.getAvatar().getCode();
+            avatarUrl = "/sigea/api/media/raw/" + user.getAvatar().getCode() + "?size=small";
         }
 
         Map<String, Object> userMap = new HashMap<>();
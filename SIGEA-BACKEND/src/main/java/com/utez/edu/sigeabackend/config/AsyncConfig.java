@@ -0,0 +1,108 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Executor para el procesamiento de imágenes. Pocos hilos para no competir con
+     * las peticiones; si la cola se llena, el hilo que publica hace el trabajo.
+     */
+    @Bean(name = "mediaExecutor")
+    public ThreadPoolTaskExecutor mediaExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("media-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /** Importaciones masivas: una a la vez, las demás esperan en cola */
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * BCrypt de las importaciones. Acotado a los núcleos disponibles (máx. 4) para no
+     * dejar sin CPU a las peticiones; con la cola llena el hilo de importación ayuda.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Actualizaciones del índice de búsqueda. Un solo hilo para aplicarlas en el orden
+     * en que se confirmaron; con la cola llena el hilo que confirmó espera lugar en ella.
+     * No se usa CallerRunsPolicy: la actualización correría antes que las encoladas y en
+     * paralelo con el hilo "search-", y podría dejar un documento viejo sobre uno nuevo.
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(AsyncConfig::waitForQueue);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Recarga de resúmenes de estudiantes y docentes después de un commit. Si la cola se
+     * llena la recarga se descarta: el resumen ya se invalidó y se carga en la siguiente consulta.
+     */
+    @Bean(name = "summaryExecutor")
+    public ThreadPoolTaskExecutor summaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("summary-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /* Encola al final esperando lugar; solo rechaza si el executor se está cerrando */
+    private static void waitForQueue(Runnable task, ThreadPoolExecutor pool) {
+        try {
+            while (!pool.isShutdown()) {
+                if (pool.getQueue().offer(task, 1, TimeUnit.SECONDS)) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new RejectedExecutionException("Executor " + pool + " cerrado o interrumpido");
+    }
+}
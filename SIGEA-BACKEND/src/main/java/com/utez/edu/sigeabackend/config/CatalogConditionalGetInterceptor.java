@@ -0,0 +1,41 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Responde 304 a los GET de un catálogo cuando el cliente ya tiene la versión vigente
+ * (If-None-Match / If-Modified-Since). La comprobación ocurre antes de llegar al
+ * controlador, así que una revalidación no toca la base de datos.
+ */
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CatalogVersionService versions;
+    private final Catalog catalog;
+    private final String cacheControl;
+
+    public CatalogConditionalGetInterceptor(CatalogVersionService versions, Catalog catalog, String cacheControl) {
+        this.versions = versions;
+        this.catalog = catalog;
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+
+        // Se fija antes de escribir el cuerpo para que Spring Security no lo reemplace por no-store
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        // También agrega ETag y Last-Modified a la respuesta cuando sí hay cambios
+        return !webRequest.checkNotModified(versions.etag(catalog), versions.lastModified(catalog));
+    }
+}
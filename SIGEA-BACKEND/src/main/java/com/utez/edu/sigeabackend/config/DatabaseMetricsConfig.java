@@ -0,0 +1,70 @@
+package com.utez.edu.sigeabackend.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Instrumentación de la capa de datos. Actuator ya publica las métricas del pool
+ * (hikaricp.*), la latencia de cada método de repositorio (spring.data.repository.invocations)
+ * y las de Hibernate (hibernate.*); aquí se activan sus percentiles, las estadísticas de
+ * Hibernate, el log de consultas lentas y el conteo de sentencias por petición.
+ * <p>
+ * La detección de fugas de conexiones es propia de cada pool y se configura con
+ * {@code spring.datasource.hikari.leak-detection-threshold} (y
+ * {@code sigea.datasource.replica.hikari.leak-detection-threshold} para la réplica);
+ * 0 la desactiva.
+ */
+@Configuration
+public class DatabaseMetricsConfig {
+
+    /* Métricas con percentiles y buckets de histograma */
+    private static final Set<String> LATENCY_METRICS = Set.of(
+            "spring.data.repository.invocations",
+            "hikaricp.connections.acquire",
+            "hikaricp.connections.usage",
+            RequestQueryMetricsInterceptor.STATEMENTS_PER_REQUEST
+    );
+
+    @Bean
+    public SqlStatementTracker sqlStatementTracker(
+            @Value("${sigea.metrics.n-plus-one.recent:50}") int maxRecentSuspects) {
+        return new SqlStatementTracker(maxRecentSuspects);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer databaseMetricsCustomizer(
+            SqlStatementTracker sqlStatementTracker,
+            @Value("${sigea.jpa.slow-query-ms:500}") long slowQueryMs) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            // Hibernate registra en org.hibernate.SQL_SLOW las sentencias que superan el umbral
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryMs);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementTracker);
+        };
+    }
+
+    @Bean
+    public MeterFilter databaseLatencyPercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!LATENCY_METRICS.contains(id.getName())) return config;
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .expiry(Duration.ofMinutes(5))
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
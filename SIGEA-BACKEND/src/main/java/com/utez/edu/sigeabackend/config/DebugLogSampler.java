@@ -0,0 +1,36 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Muestreo de eventos de depuración en rutas calientes (filtros por petición): con una
+ * tasa N solo se registra uno de cada N eventos. La tasa se cambia en caliente desde
+ * {@code /sigea/api/logging}.
+ */
+@Component
+public class DebugLogSampler {
+
+    private final AtomicLong counter = new AtomicLong();
+    private volatile int rate;
+
+    public DebugLogSampler(@Value("${sigea.logging.debug-sample-rate:100}") int rate) {
+        setRate(rate);
+    }
+
+    /** true para uno de cada {@link #getRate()} eventos */
+    public boolean sample() {
+        int current = rate;
+        return current == 1 || counter.getAndIncrement() % current == 0;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+}
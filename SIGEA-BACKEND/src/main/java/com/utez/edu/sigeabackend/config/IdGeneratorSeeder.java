@@ -0,0 +1,62 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.utez.edu.sigeabackend.modules.entities.IdGenerators;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deja cada segmento de id_generator por encima del id máximo de su tabla antes de
+ * atender peticiones. Necesario al migrar tablas que venían de AUTO_INCREMENT y tras
+ * cargar datos con SQL directo; si el valor ya es suficiente no se toca.
+ * Recibe el EntityManagerFactory solo para ejecutarse después de la actualización del esquema.
+ */
+@Component
+public class IdGeneratorSeeder implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " ("
+                + IdGenerators.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + IdGenerators.VALUE_COLUMN + " BIGINT)");
+
+        for (String segment : IdGenerators.SEGMENTS) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + segment, Long.class);
+            // El optimizador pooled puede entregar hasta ALLOCATION_SIZE - 1 ids por debajo del valor guardado
+            long required = (maxId == null ? 0 : maxId) + IdGenerators.ALLOCATION_SIZE + 1;
+            seed(segment, required);
+        }
+    }
+
+    private void seed(String segment, long required) {
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? " +
+                        "WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                required, segment, required);
+        if (updated > 0) {
+            log.info("id_generator[{}] adelantado a {}", segment, required);
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.SEGMENT_COLUMN + ", "
+                            + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    segment, required);
+            log.info("id_generator[{}] inicializado en {}", segment, required);
+        } catch (DuplicateKeyException e) {
+            // Ya existía con un valor suficiente (o lo creó otra instancia al mismo tiempo)
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lotes JDBC de Hibernate. Solo aplican a entidades cuyo id no es IDENTITY
+ * (notificaciones, calificaciones, rankings con generador por tabla, e inscripciones
+ * a grupo con id compuesto). Ordenar inserts/updates agrupa las sentencias por tabla
+ * para que los lotes no se corten. En MySQL conviene rewriteBatchedStatements=true
+ * en la URL para que cada lote viaje como un solo INSERT multi-fila.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${sigea.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
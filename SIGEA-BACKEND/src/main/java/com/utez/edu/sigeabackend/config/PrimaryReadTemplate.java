@@ -0,0 +1,31 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transacción de solo lectura que se abre siempre en el primario, aunque haya réplica.
+ * Es para las cachés que se recargan justo después de un commit: la réplica puede ir
+ * atrasada y la carga publicaría el estado anterior, que se quedaría en memoria hasta
+ * la siguiente escritura. Sin réplica se comporta como un TransactionTemplate normal.
+ */
+public class PrimaryReadTemplate extends TransactionTemplate {
+
+    public PrimaryReadTemplate(PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        setReadOnly(true);
+    }
+
+    @Override
+    public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+        // La conexión real se abre en la primera sentencia, en este mismo hilo
+        boolean previous = ReadOnlyRoutingDataSource.pinToPrimary(true);
+        try {
+            return super.execute(action);
+        } finally {
+            ReadOnlyRoutingDataSource.pinToPrimary(previous);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Destino de las conexiones de solo lectura: la réplica mientras esté disponible y,
+ * si no, el primario. Si la réplica rechaza la conexión se marca caída en ese momento
+ * para no esperar a la siguiente revisión del monitor. Dentro de un
+ * {@link PrimaryReadTemplate} se usa el primario aunque la réplica esté disponible.
+ */
+class ReadOnlyRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor monitor;
+
+    ReadOnlyRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor monitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+    }
+
+    /** Fija (o libera) el primario para las lecturas del hilo; devuelve el valor anterior */
+    static boolean pinToPrimary(boolean pinned) {
+        boolean previous = PRIMARY_PINNED.get();
+        if (pinned) PRIMARY_PINNED.set(true);
+        else PRIMARY_PINNED.remove();
+        return previous;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(target -> target.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionOpener opener) throws SQLException {
+        if (PRIMARY_PINNED.get()) return opener.open(primary);
+        if (monitor.isAvailable()) {
+            try {
+                Connection connection = opener.open(replica);
+                monitor.recordReplicaRead();
+                return connection;
+            } catch (SQLException e) {
+                monitor.markDown(e.getMessage());
+            }
+        }
+        monitor.recordFallbackRead();
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+}
@@ -0,0 +1,106 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Separa lecturas y escrituras entre dos pools: las transacciones de solo lectura
+ * (@Transactional(readOnly = true)) van a la réplica y el resto al primario, para que
+ * listados y tableros no compitan por conexiones con el registro de calificaciones.
+ * <p>
+ * La conexión real se pide hasta la primera sentencia (LazyConnectionDataSourceProxy),
+ * cuando el gestor de transacciones ya marcó la conexión como de solo lectura.
+ * Las cachés que se recargan después de un commit leen con {@link PrimaryReadTemplate}
+ * para no publicar lo que la réplica todavía no ha recibido.
+ * Se activa con {@code sigea.datasource.replica.enabled=true}; sin ella se usa el
+ * DataSource único que configura Spring Boot.
+ * <pre>
+ * sigea.datasource.replica.url=jdbc:mysql://replica:3306/sigea
+ * sigea.datasource.replica.username=...
+ * sigea.datasource.replica.password=...
+ * sigea.datasource.replica.hikari.maximum-pool-size=20
+ * sigea.datasource.replica.max-lag-seconds=5
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(name = "sigea.datasource.replica.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    /** Pool de escritura, con las propiedades habituales spring.datasource.* */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /** Pool de lectura, con tamaño y tiempos propios en sigea.datasource.replica.hikari.* */
+    @Bean
+    @ConfigurationProperties("sigea.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${sigea.datasource.replica.url}") String url,
+            @Value("${sigea.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${sigea.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("SigeaReplicaPool");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${sigea.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${sigea.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            MeterRegistry meterRegistry) {
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicaDataSource, maxLagSeconds, lagQuery);
+        FunctionCounter.builder("sigea.datasource.reads", monitor, ReplicaHealthMonitor::getReplicaReads)
+                .description("Conexiones de solo lectura por destino")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        FunctionCounter.builder("sigea.datasource.reads", monitor, ReplicaHealthMonitor::getFallbackReads)
+                .description("Conexiones de solo lectura por destino")
+                .tag("target", "primary-fallback")
+                .register(meterRegistry);
+        Gauge.builder("sigea.datasource.replica.available", monitor, m -> m.isAvailable() ? 1 : 0)
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaHealthMonitor replicaHealthMonitor) {
+        return routingDataSource(primaryDataSource, replicaDataSource, replicaHealthMonitor);
+    }
+
+    /**
+     * Conexiones perezosas sobre el primario; las marcadas como de solo lectura antes de
+     * la primera sentencia se abren en la réplica (o en el primario si está caída).
+     */
+    public static DataSource routingDataSource(DataSource primary, DataSource replica,
+                                               ReplicaHealthMonitor monitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(primary, replica, monitor));
+        return proxy;
+    }
+}
@@ -0,0 +1,126 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vigila la réplica de lectura: que acepte conexiones y que su retraso respecto al
+ * primario no supere el máximo configurado. Mientras no esté disponible, las
+ * transacciones de solo lectura se atienden en el primario.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+
+    private volatile boolean available = true;
+    private volatile Long lastLagSeconds;
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+
+    /**
+     * @param maxLagSeconds retraso máximo tolerado; con 0 o menos no se consulta el retraso
+     * @param lagQuery      consulta que devuelve Seconds_Behind_Source (o Seconds_Behind_Master)
+     */
+    public ReplicaHealthMonitor(DataSource replica, long maxLagSeconds, String lagQuery) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+    }
+
+    @Scheduled(initialDelayString = "${sigea.datasource.replica.check-initial-delay-ms:0}",
+            fixedDelayString = "${sigea.datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markDown("la conexión no es válida");
+                return;
+            }
+            if (maxLagSeconds <= 0) {
+                markUp();
+                return;
+            }
+            Long lag = readLag(connection);
+            lastLagSeconds = lag;
+            if (lag == null) {
+                markDown("la replicación está detenida o no hay datos de retraso");
+            } else if (lag > maxLagSeconds) {
+                markDown("retraso de " + lag + " s (máximo " + maxLagSeconds + " s)");
+            } else {
+                markUp();
+            }
+        } catch (SQLException e) {
+            markDown(e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /** Usado por el ruteo cuando la réplica rechaza una conexión entre dos revisiones */
+    public void markDown(String reason) {
+        if (available) {
+            log.warn("Réplica de lectura fuera de servicio, lecturas al primario: {}", reason);
+        }
+        available = false;
+    }
+
+    private void markUp() {
+        if (!available) {
+            log.info("Réplica de lectura disponible de nuevo (retraso: {} s)", lastLagSeconds);
+        }
+        available = true;
+    }
+
+    void recordReplicaRead() {
+        replicaReads.incrementAndGet();
+    }
+
+    void recordFallbackRead() {
+        fallbackReads.incrementAndGet();
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.get();
+    }
+
+    public long getFallbackReads() {
+        return fallbackReads.get();
+    }
+
+    private Long readLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) return null;
+            Object value = column(rs, "Seconds_Behind_Source");
+            if (value == null) value = column(rs, "Seconds_Behind_Master");
+            return value == null ? null : Long.valueOf(value.toString());
+        }
+    }
+
+    private static Object column(ResultSet rs, String name) {
+        try {
+            return rs.getObject(name);
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
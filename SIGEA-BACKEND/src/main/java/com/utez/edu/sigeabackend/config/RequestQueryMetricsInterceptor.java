@@ -0,0 +1,76 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.utez.edu.sigeabackend.config.SqlStatementTracker.RequestStatements;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Registra cuántas sentencias SQL ejecuta cada endpoint (sigea.db.statements.per.request)
+ * y avisa cuando una misma sentencia se repite más veces que el umbral de N+1.
+ */
+public class RequestQueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestQueryMetricsInterceptor.class);
+
+    public static final String STATEMENTS_PER_REQUEST = "sigea.db.statements.per.request";
+    public static final String N_PLUS_ONE_SUSPECTED = "sigea.db.n_plus_one.suspected";
+
+    private final SqlStatementTracker tracker;
+    private final MeterRegistry registry;
+    private final int nPlusOneThreshold;
+
+    public RequestQueryMetricsInterceptor(SqlStatementTracker tracker, MeterRegistry registry, int nPlusOneThreshold) {
+        this.tracker = tracker;
+        this.registry = registry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        tracker.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatements statements = tracker.end();
+        if (statements == null) return;
+
+        String endpoint = request.getMethod() + " " + uriPattern(request);
+        DistributionSummary.builder(STATEMENTS_PER_REQUEST)
+                .description("Sentencias SQL por petición")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(statements.total());
+
+        if (statements.mostRepeatedCount() >= nPlusOneThreshold) {
+            Counter.builder(N_PLUS_ONE_SUSPECTED)
+                    .description("Peticiones que repiten una misma sentencia por encima del umbral")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .increment();
+            tracker.recordSuspect(endpoint, statements);
+            log.warn("Posible N+1 en {}: la misma sentencia se ejecutó {} veces ({} en total): {}",
+                    endpoint, statements.mostRepeatedCount(), statements.total(), statements.mostRepeatedSql());
+        }
+    }
+
+    /* Respuestas asíncronas (streaming): el hilo de la petición se libera sin afterCompletion */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        tracker.end();
+    }
+
+    /* Patrón de la ruta (/groups/{id}) para no crear una serie por cada id */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
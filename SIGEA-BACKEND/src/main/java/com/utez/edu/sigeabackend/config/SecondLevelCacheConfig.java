@@ -0,0 +1,88 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.utez.edu.sigeabackend.modules.entities.CacheRegions;
+import jakarta.persistence.SharedCacheMode;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+
+/**
+ * Caché de segundo nivel de Hibernate (JCache sobre Ehcache 3, en heap) para las entidades
+ * de referencia: roles, campus, carreras y el árbol plan → módulo → materia.
+ * Solo se cachean las entidades anotadas con @Cacheable; cada región tiene un máximo de
+ * entradas (al llenarse, Ehcache expulsa las de uso menos reciente) y un tiempo de vida.
+ * Las escrituras por JPA invalidan la región; SQL directo sobre estas tablas no lo hace.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sigea.jpa.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jpaCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager manager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        // Casi inmutables
+        region(manager, CacheRegions.ROLE, 20, ttl(Duration.ofHours(24)));
+        region(manager, CacheRegions.CAMPUS, 200, ttl(Duration.ofHours(12)));
+        region(manager, CacheRegions.CAREER, 1_000, ttl(Duration.ofHours(12)));
+
+        // Catálogo académico: cambia pocas veces por cuatrimestre
+        region(manager, CacheRegions.CURRICULUM, 1_000, ttl(Duration.ofHours(6)));
+        region(manager, CacheRegions.CURRICULUM_MODULES, 1_000, ttl(Duration.ofHours(6)));
+        region(manager, CacheRegions.MODULE, 5_000, ttl(Duration.ofHours(6)));
+        region(manager, CacheRegions.MODULE_SUBJECTS, 5_000, ttl(Duration.ofHours(6)));
+        region(manager, CacheRegions.SUBJECT, 20_000, ttl(Duration.ofHours(6)));
+
+        // Resultados de consultas marcadas como cacheables; se invalidan por tabla
+        region(manager, CacheRegions.QUERY_RESULTS, 500, ttl(Duration.ofMinutes(10)));
+        // Hibernate recomienda que esta región no expire ni expulse entradas
+        region(manager, CacheRegions.UPDATE_TIMESTAMPS, 10_000, ExpiryPolicyBuilder.noExpiration());
+
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager jpaCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+            // Toda región debe estar declarada arriba
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            // Las colecciones mappedBy se invalidan al guardar el hijo (p. ej. un módulo nuevo en su plan)
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static ExpiryPolicy<Object, Object> ttl(Duration duration) {
+        return ExpiryPolicyBuilder.timeToLiveExpiration(duration);
+    }
+
+    private static void region(CacheManager manager, String name, long maxEntries,
+                               ExpiryPolicy<Object, Object> expiry) {
+        if (manager.getCache(name) != null) return;
+        manager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder
+                        .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(expiry)
+                        .build()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara durante cada petición HTTP.
+ * Una misma sentencia repetida muchas veces en una petición suele ser un N+1
+ * (una consulta por elemento de una lista); se guardan las últimas detectadas.
+ */
+public class SqlStatementTracker implements StatementInspector {
+
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private final int maxRecentSuspects;
+    private final ThreadLocal<Map<String, Integer>> current = new ThreadLocal<>();
+    private final Deque<NPlusOneSuspect> recentSuspects = new ArrayDeque<>();
+
+    public record RequestStatements(int total, String mostRepeatedSql, int mostRepeatedCount) {}
+
+    public record NPlusOneSuspect(LocalDateTime at, String endpoint, String sql, int executions, int totalStatements) {}
+
+    public SqlStatementTracker(int maxRecentSuspects) {
+        this.maxRecentSuspects = maxRecentSuspects;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> statements = current.get();
+        if (statements != null) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /** Empieza a contar en el hilo de la petición */
+    public void begin() {
+        current.set(new HashMap<>());
+    }
+
+    /** Deja de contar y devuelve el resumen; null si no se llamó a {@link #begin()} */
+    public RequestStatements end() {
+        Map<String, Integer> statements = current.get();
+        current.remove();
+        if (statements == null) return null;
+
+        int total = 0;
+        String top = null;
+        int topCount = 0;
+        for (Map.Entry<String, Integer> e : statements.entrySet()) {
+            total += e.getValue();
+            if (e.getValue() > topCount) {
+                top = e.getKey();
+                topCount = e.getValue();
+            }
+        }
+        return new RequestStatements(total, top, topCount);
+    }
+
+    public void recordSuspect(String endpoint, RequestStatements statements) {
+        String sql = statements.mostRepeatedSql();
+        if (sql.length() > MAX_SQL_LENGTH) sql = sql.substring(0, MAX_SQL_LENGTH) + "...";
+        NPlusOneSuspect suspect = new NPlusOneSuspect(LocalDateTime.now(), endpoint, sql,
+                statements.mostRepeatedCount(), statements.total());
+        synchronized (recentSuspects) {
+            recentSuspects.addFirst(suspect);
+            while (recentSuspects.size() > maxRecentSuspects) recentSuspects.removeLast();
+        }
+    }
+
+    public List<NPlusOneSuspect> recentSuspects() {
+        synchronized (recentSuspects) {
+            return List.copyOf(recentSuspects);
+        }
+    }
+
+    public void clearSuspects() {
+        synchronized (recentSuspects) {
+            recentSuspects.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Modo de hilos virtuales. Se activa con la propiedad de Spring Boot
+ * {@code spring.threads.virtual.enabled=true}. Con ella usan hilos virtuales las
+ * peticiones de Tomcat (Spring Boot) y los canales de WebSocket ({@link WebSocketConfig}).
+ * <p>
+ * @Async y @Scheduled siguen con hilos de plataforma:
+ * <ul>
+ *   <li>Spring Boot solo crea su executor virtual si no hay otro bean {@link java.util.concurrent.Executor},
+ *       y {@link AsyncConfig} define los suyos. El único @Async es {@code mediaExecutor}, que es de CPU;
+ *       {@code summaryExecutor} y {@code searchIndexExecutor} tienen un solo hilo y una cola acotada para
+ *       respetar el orden y limitar el trabajo pendiente, cosa que un executor virtual sin límite no haría.</li>
+ *   <li>Tampoco crea su scheduler virtual, porque {@link WebSocketConfig} ya define un
+ *       {@link org.springframework.scheduling.TaskScheduler} para los heartbeats. Las tareas @Scheduled
+ *       son pocas y periódicas, así que no vale la pena cambiarlas.</li>
+ * </ul>
+ * <p>
+ * Aquí se agregan dos salvaguardas:
+ * <ul>
+ *   <li>cada pool Hikari queda detrás de un {@link BoundedDataSource}, con tantos
+ *       permisos como conexiones;</li>
+ *   <li>{@link VirtualThreadPinningMonitor} reporta los hilos fijados.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${sigea.threads.virtual.pinned-threshold-ms:20}") long thresholdMs,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), meterRegistry);
+    }
+
+    /**
+     * Envuelve cada pool Hikari ya configurado. Con {@code sigea.threads.virtual.db-permits}
+     * mayor que 0 se usa ese límite; si no, el tamaño máximo del pool.
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSources(
+            @Value("${sigea.threads.virtual.db-permits:0}") int configuredPermits) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) return bean;
+                int permits = configuredPermits > 0 ? configuredPermits : hikari.getMaximumPoolSize();
+                return new BoundedDataSource(hikari, permits, Duration.ofMillis(hikari.getConnectionTimeout()));
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder boundedDataSourceMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, dataSource) -> {
+            if (!(dataSource instanceof BoundedDataSource bounded)) return;
+            Gauge.builder("sigea.datasource.permits.in_use", bounded, BoundedDataSource::getInUse)
+                    .description("Conexiones concedidas por el semáforo del pool")
+                    .tag("datasource", name)
+                    .register(registry);
+            Gauge.builder("sigea.datasource.permits.waiting", bounded, BoundedDataSource::getWaiting)
+                    .description("Hilos esperando permiso para pedir una conexión")
+                    .tag("datasource", name)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.utez.edu.sigeabackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detecta hilos virtuales fijados a su hilo portador (bloqueo dentro de un bloque
+ * synchronized o de código nativo) con el evento JFR jdk.VirtualThreadPinned. Cada
+ * ocurrencia incrementa sigea.threads.virtual.pinned; la primera de cada punto del
+ * código se reporta en el log con su stack trace.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.utez.edu.sigeabackend.";
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final int MAX_FRAMES = 15;
+
+    private final RecordingStream stream;
+    private final Counter pinned;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry registry) {
+        this.pinned = Counter.builder("sigea.threads.virtual.pinned")
+                .description("Hilos virtuales fijados a su portador más tiempo que el umbral")
+                .register(registry);
+        this.stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stack = event.getStackTrace();
+        if (stack == null) return;
+        String site = site(stack);
+        if (reported.size() < MAX_REPORTED_SITES && reported.add(site)) {
+            log.warn("Hilo virtual fijado {} ms en {}:\n{}", event.getDuration().toMillis(), site, format(stack));
+        }
+    }
+
+    /* Primer marco de la aplicación; si no hay, el marco superior */
+    private static String site(RecordedStackTrace stack) {
+        for (RecordedFrame frame : stack.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) return describe(frame);
+        }
+        return stack.getFrames().isEmpty() ? "?" : describe(stack.getFrames().get(0));
+    }
+
+    private static String format(RecordedStackTrace stack) {
+        StringBuilder sb = new StringBuilder();
+        stack.getFrames().stream().limit(MAX_FRAMES).forEach(f -> sb.append("\tat ").append(describe(f)).append('\n'));
+        return sb.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
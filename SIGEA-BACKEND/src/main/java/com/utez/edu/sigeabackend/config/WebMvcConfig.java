@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.config;
+
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /* Catálogos autenticados: el navegador puede guardarlos pero siempre revalida */
+    private static final String PRIVATE_REVALIDATE = "private, no-cache";
+    /* Catálogo público (carrusel): también lo puede guardar el CDN */
+    private static final String PUBLIC_REVALIDATE = "public, no-cache";
+
+    private final CatalogVersionService catalogVersions;
+    private final SqlStatementTracker sqlStatementTracker;
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public WebMvcConfig(CatalogVersionService catalogVersions,
+                        SqlStatementTracker sqlStatementTracker,
+                        MeterRegistry meterRegistry,
+                        @Value("${sigea.metrics.n-plus-one.threshold:10}") int nPlusOneThreshold) {
+        this.catalogVersions = catalogVersions;
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestQueryMetricsInterceptor(sqlStatementTracker, meterRegistry, nPlusOneThreshold))
+                .addPathPatterns("/sigea/api/**");
+
+        registry.addInterceptor(new CatalogConditionalGetInterceptor(catalogVersions, Catalog.CAREERS, PRIVATE_REVALIDATE))
+                .addPathPatterns("/sigea/api/careers/**");
+
+        registry.addInterceptor(new CatalogConditionalGetInterceptor(catalogVersions, Catalog.CAREERS, PUBLIC_REVALIDATE))
+                .addPathPatterns("/sigea/api/public/careers/**");
+
+        registry.addInterceptor(new CatalogConditionalGetInterceptor(catalogVersions, Catalog.ACADEMIC, PRIVATE_REVALIDATE))
+                .addPathPatterns("/sigea/api/curriculums/**", "/sigea/api/modules/**", "/sigea/api/subjects/**")
+                .excludePathPatterns("/sigea/api/curriculums/cache/**");
+
+        registry.addInterceptor(new CatalogConditionalGetInterceptor(catalogVersions, Catalog.CAMPUSES, PRIVATE_REVALIDATE))
+                .addPathPatterns("/sigea/api/campus/**");
+    }
+}
@@ -6,6 +6,7 @@ import com.utez.edu.sigeabackend.utils.security.JwtChannelInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
@@ -24,6 +25,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
 
+    /* Modo de hilos virtuales (ver VirtualThreadConfig) */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     public WebSocketConfig(JWTUtil jwtUtil, CustomUserDetailsService userDetailsService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
@@ -41,6 +46,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(new JwtChannelInterceptor(jwtUtil, userDetailsService));
+        if (virtualThreads) registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
     }
 
     @Override
@@ -56,6 +67,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         registry.addEndpoint("/sigea/ws-native")
                 .setAllowedOrigins(allowedOrigins);
+
+        // Con hilos virtuales cada frame entrante corre en su propio hilo: se conserva el orden por sesión
+        if (virtualThreads) registry.setPreserveReceiveOrder(true);
     }
 
     @Override
@@ -64,6 +78,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/topic", "/queue")
                 .setTaskScheduler(heartBeatScheduler());
         registry.setUserDestinationPrefix("/user");
+        // Con hilos virtuales cada envío corre en su propio hilo: se conserva el orden por sesión
+        if (virtualThreads) registry.setPreservePublishOrder(true);
     }
 
     private String[] getAllowedOrigins() {
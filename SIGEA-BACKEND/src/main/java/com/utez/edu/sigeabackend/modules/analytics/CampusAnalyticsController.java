@@ -0,0 +1,36 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/sigea/api/analytics")
+public class CampusAnalyticsController {
+
+    private final CampusAnalyticsService service;
+
+    public CampusAnalyticsController(CampusAnalyticsService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/analytics/campuses/supervised-by/{userId}?userCampusId=&from=&to=&granularity=WEEK
+    @GetMapping("/campuses/supervised-by/{userId}")
+    public ResponseEntity<CampusAnalyticsDto> supervisedCampuses(
+            @PathVariable Long userId,
+            @RequestParam Long userCampusId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") RollupGranularity granularity) {
+        return service.supervisedCampuses(userId, userCampusId, from, to, granularity);
+    }
+
+    // POST /sigea/api/analytics/rollups/rebuild - Reconstruye el cubo desde las tablas de origen
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        return service.rebuild();
+    }
+}
@@ -0,0 +1,147 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto;
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto.BucketDto;
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto.CampusSeriesDto;
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto.CareerMetricsDto;
+import com.utez.edu.sigeabackend.modules.analytics.dto.CampusAnalyticsDto.MetricsDto;
+import com.utez.edu.sigeabackend.modules.entities.CampusEntity;
+import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Consultas de rango sobre el cubo de analítica para los campus que supervisa un usuario.
+ * Solo lee campus_rollup (agregado por día o semana), así que el costo depende del rango
+ * pedido y no del historial acumulado.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CampusAnalyticsService {
+
+    private final CampusRepository campusRepository;
+    private final CampusRollupRepository rollupRepository;
+    private final CampusRollupEngine engine;
+    private final int maxDays;
+
+    public CampusAnalyticsService(CampusRepository campusRepository,
+                                  CampusRollupRepository rollupRepository,
+                                  CampusRollupEngine engine,
+                                  @Value("${sigea.analytics.max-range-days:732}") int maxDays) {
+        this.campusRepository = campusRepository;
+        this.rollupRepository = rollupRepository;
+        this.engine = engine;
+        this.maxDays = maxDays;
+    }
+
+    public ResponseEntity<CampusAnalyticsDto> supervisedCampuses(Long userId, Long userCampusId,
+                                                                 LocalDate from, LocalDate to,
+                                                                 RollupGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La fecha inicial no puede ser posterior a la final");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "El rango no puede ser mayor a " + maxDays + " días");
+        }
+        // Las semanas se identifican por su lunes: se incluye la semana que contiene "from"
+        LocalDate start = granularity.bucketStart(from);
+
+        Map<Long, String> campusNames = new LinkedHashMap<>();
+        for (CampusEntity campus : campusRepository.findAllSupervisedByUser(userId, userCampusId)) {
+            campusNames.put(campus.getId(), campus.getName());
+        }
+        if (campusNames.isEmpty()) {
+            return ResponseEntity.ok(new CampusAnalyticsDto(granularity.name(), start, to, List.of()));
+        }
+
+        Map<Long, List<BucketDto>> buckets = new HashMap<>();
+        Map<Long, Accumulator> totals = new HashMap<>();
+        for (RollupSourceRow.Bucket row : rollupRepository.findBuckets(granularity, campusNames.keySet(), start, to)) {
+            buckets.computeIfAbsent(row.getCampusId(), k -> new ArrayList<>())
+                    .add(new BucketDto(row.getBucketStart(), metrics(row)));
+            totals.computeIfAbsent(row.getCampusId(), k -> new Accumulator()).add(row);
+        }
+
+        List<RollupSourceRow.Career> careerRows = rollupRepository.findCareerTotals(granularity, campusNames.keySet(), start, to);
+        Set<Long> careerIds = new HashSet<>();
+        for (RollupSourceRow.Career row : careerRows) {
+            if (row.getCareerId() != null) careerIds.add(row.getCareerId());
+        }
+        Map<Long, String> careerNames = new HashMap<>();
+        if (!careerIds.isEmpty()) {
+            for (RollupSourceRow.CareerName c : rollupRepository.findCareerNames(careerIds)) {
+                careerNames.put(c.getId(), c.getName());
+            }
+        }
+        Map<Long, List<CareerMetricsDto>> careers = new HashMap<>();
+        for (RollupSourceRow.Career row : careerRows) {
+            // Sin carrera: evaluaciones sin grupo asignadas al campus del docente
+            careers.computeIfAbsent(row.getCampusId(), k -> new ArrayList<>())
+                    .add(new CareerMetricsDto(row.getCareerId(), careerNames.get(row.getCareerId()), metrics(row)));
+        }
+
+        List<CampusSeriesDto> campuses = new ArrayList<>(campusNames.size());
+        campusNames.forEach((campusId, name) -> campuses.add(new CampusSeriesDto(
+                campusId,
+                name,
+                totals.getOrDefault(campusId, new Accumulator()).toDto(),
+                buckets.getOrDefault(campusId, List.of()),
+                careers.getOrDefault(campusId, List.of())
+        )));
+        return ResponseEntity.ok(new CampusAnalyticsDto(granularity.name(), start, to, campuses));
+    }
+
+    /** La reconstrucción corre en la siguiente ejecución de la tarea del cubo */
+    public ResponseEntity<Void> rebuild() {
+        engine.requestRebuild();
+        return ResponseEntity.accepted().build();
+    }
+
+    private static MetricsDto metrics(RollupSourceRow.Totals row) {
+        Accumulator single = new Accumulator();
+        single.add(row);
+        return single.toDto();
+    }
+
+    private static final class Accumulator {
+        long enrollments;
+        long gradesCaptured;
+        long gradeSum;
+        long rankings;
+        long starSum;
+        long activeStudents;
+
+        void add(RollupSourceRow.Totals row) {
+            enrollments += value(row.getEnrollments());
+            gradesCaptured += value(row.getGradesCaptured());
+            gradeSum += value(row.getGradeSum());
+            rankings += value(row.getRankings());
+            starSum += value(row.getStarSum());
+            activeStudents += value(row.getActiveStudents());
+        }
+
+        MetricsDto toDto() {
+            return new MetricsDto(
+                    enrollments,
+                    gradesCaptured,
+                    gradesCaptured == 0 ? null : (double) gradeSum / gradesCaptured,
+                    rankings,
+                    rankings == 0 ? null : (double) starSum / rankings,
+                    activeStudents
+            );
+        }
+
+        private static long value(Long v) {
+            return v == null ? 0 : v;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Mantiene el cubo de analítica por campus (tabla campus_rollup). Las escrituras de
+ * inscripciones, calificaciones y evaluaciones (ver {@link RollupListener}) marcan su
+ * semana como pendiente después del commit; una tarea periódica recalcula esas semanas
+ * completas (sus días y la semana) desde las tablas de origen. La reconstrucción total
+ * recorre el historial en bloques de semanas, así que la memoria no crece con él.
+ * <p>
+ * Las semanas pendientes también se guardan en campus_rollup_dirty_week y se vuelven a
+ * cargar al arrancar: un reinicio entre el commit y el recálculo no deja semanas viejas.
+ */
+@Service
+public class CampusRollupEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CampusRollupEngine.class);
+
+    /* Tamaño máximo de la lista IN por consulta */
+    private static final int BATCH_SIZE = 1_000;
+
+    private final RollupSourceRepository source;
+    private final CampusRollupRepository repository;
+    private final RollupDirtyWeekRepository dirtyWeekRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate requiresNew;
+    private final int chunkWeeks;
+    private final boolean rebuildOnEmpty;
+
+    /* Lunes de las semanas por recalcular */
+    private final NavigableSet<LocalDate> dirtyWeeks = new ConcurrentSkipListSet<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    public CampusRollupEngine(RollupSourceRepository source,
+                              CampusRollupRepository repository,
+                              RollupDirtyWeekRepository dirtyWeekRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${sigea.analytics.rollup.chunk-weeks:4}") int chunkWeeks,
+                              @Value("${sigea.analytics.rollup.rebuild-on-empty:true}") boolean rebuildOnEmpty) {
+        this.source = source;
+        this.repository = repository;
+        this.dirtyWeekRepository = dirtyWeekRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // Las marcas también se guardan desde afterCompletion, fuera de la transacción que terminó
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkWeeks = Math.max(1, chunkWeeks);
+        this.rebuildOnEmpty = rebuildOnEmpty;
+    }
+
+    /**
+     * Primera vez (tabla vacía): se reconstruye en la siguiente ejecución de la tarea.
+     * Si no, se retoman las semanas que quedaron pendientes antes del reinicio.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (rebuildOnEmpty && repository.count() == 0) {
+                rebuildRequested.set(true);
+                return;
+            }
+            List<LocalDate> pending = dirtyWeekRepository.findAllWeeks();
+            dirtyWeeks.addAll(pending);
+            if (!pending.isEmpty()) log.info("Semanas del cubo de analítica pendientes de recalcular: {}", pending.size());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo revisar el cubo de analítica al arrancar", e);
+        }
+    }
+
+    /** Programa la reconstrucción completa desde las tablas de origen */
+    public void requestRebuild() {
+        rebuildRequested.set(true);
+    }
+
+    /**
+     * Marca la semana de la fecha para recalcularla. Dentro de una transacción se marca
+     * después del commit, para que el recálculo ya vea la fila.
+     */
+    public void markChanged(LocalDateTime at) {
+        if (at == null) return;
+        LocalDate week = RollupGranularity.WEEK.bucketStart(at.toLocalDate());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markDirty(Set.of(week));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<LocalDate> pending = (Set<LocalDate>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<LocalDate> weeks = new HashSet<>();
+            pending = weeks;
+            TransactionSynchronizationManager.bindResource(this, weeks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CampusRollupEngine.this);
+                    if (status == STATUS_COMMITTED) markDirty(weeks);
+                }
+            });
+        }
+        pending.add(week);
+    }
+
+    public void markChanged(Date at) {
+        if (at != null) markChanged(new Timestamp(at.getTime()).toLocalDateTime());
+    }
+
+    /*
+     * Solo va a la base la primera marca de cada semana desde su último recálculo;
+     * las siguientes ya la encuentran pendiente en memoria.
+     */
+    private void markDirty(Set<LocalDate> weeks) {
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDate week : weeks) {
+            if (!dirtyWeeks.add(week)) continue;
+            try {
+                requiresNew.executeWithoutResult(status -> {
+                    if (dirtyWeekRepository.touch(week, now) == 0) {
+                        dirtyWeekRepository.save(new RollupDirtyWeekEntity(week, now));
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Otro nodo la marcó al mismo tiempo: la fila ya existe
+            } catch (RuntimeException e) {
+                log.warn("No se pudo guardar la semana {} pendiente del cubo de analítica", week, e);
+            }
+        }
+    }
+
+    /* Un solo hilo de tareas programadas: recálculos y reconstrucciones nunca se cruzan */
+    @Scheduled(initialDelayString = "${sigea.analytics.rollup.initial-delay-ms:60000}",
+               fixedDelayString = "${sigea.analytics.rollup.interval-ms:60000}")
+    public void flush() {
+        if (rebuildRequested.getAndSet(false)) {
+            rebuildNow();
+            return;
+        }
+        LocalDate week;
+        while ((week = dirtyWeeks.pollFirst()) != null) {
+            try {
+                LocalDateTime started = LocalDateTime.now();
+                recompute(week, week.plusWeeks(1));
+                LocalDate done = week;
+                transaction.executeWithoutResult(status -> dirtyWeekRepository.deleteMarkedBefore(done, started));
+            } catch (RuntimeException e) {
+                dirtyWeeks.add(week);
+                log.warn("No se pudo recalcular el cubo de analítica de la semana {}", week, e);
+                return;
+            }
+        }
+    }
+
+    private void rebuildNow() {
+        long start = System.nanoTime();
+        LocalDateTime started = LocalDateTime.now();
+        try {
+            LocalDate first = Stream.of(
+                            toDate(source.findFirstEnrollment()),
+                            toDate(source.findFirstGrade()),
+                            toDate(source.findFirstRanking()))
+                    .filter(Objects::nonNull)
+                    .min(Comparator.naturalOrder())
+                    .orElse(LocalDate.now());
+            LocalDate from = RollupGranularity.WEEK.bucketStart(first);
+            LocalDate end = RollupGranularity.WEEK.bucketStart(LocalDate.now()).plusWeeks(1);
+
+            int cells = 0;
+            for (LocalDate chunk = from; chunk.isBefore(end); chunk = chunk.plusWeeks(chunkWeeks)) {
+                LocalDate to = chunk.plusWeeks(chunkWeeks).isAfter(end) ? end : chunk.plusWeeks(chunkWeeks);
+                cells += recompute(chunk, to);
+            }
+            transaction.executeWithoutResult(status -> {
+                repository.deleteByBucketStartBefore(from);
+                dirtyWeekRepository.deleteAllMarkedBefore(started);
+            });
+            log.info("Cubo de analítica reconstruido desde {}: {} celdas en {} ms",
+                    from, cells, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("No se pudo reconstruir el cubo de analítica", e);
+        }
+    }
+
+    private static LocalDate toDate(LocalDateTime at) {
+        return at == null ? null : at.toLocalDate();
+    }
+
+    private static LocalDate toDate(Date at) {
+        return at == null ? null : new Timestamp(at.getTime()).toLocalDateTime().toLocalDate();
+    }
+
+    /* ===================== Recálculo ===================== */
+
+    /**
+     * Reemplaza las celdas de [from, to); ambos son lunes, así que las semanas
+     * del rango quedan completas. Devuelve las celdas escritas.
+     */
+    private int recompute(LocalDate from, LocalDate to) {
+        Integer written = transaction.execute(status -> {
+            LocalDateTime start = from.atStartOfDay();
+            LocalDateTime end = to.atStartOfDay();
+
+            Map<Long, RollupSourceRow.Group> groups = new HashMap<>();
+            for (RollupSourceRow.Group g : source.findGroups()) groups.put(g.getGroupId(), g);
+
+            Cube cube = new Cube(groups);
+            for (RollupSourceRow.Enrollment e : source.findEnrollments(start, end)) {
+                cube.enrollment(e.getGroupId(), e.getStudentId(), e.getAt().toLocalDate());
+            }
+            for (RollupSourceRow.Grade g : source.findGrades(Timestamp.valueOf(start), Timestamp.valueOf(end))) {
+                cube.grade(g.getGroupId(), g.getStudentId(), g.getGrade(), toDate(g.getAt()));
+            }
+            List<RollupSourceRow.Ranking> rankings = source.findRankings(start, end);
+            Map<Long, List<Long>> groupsByStudent = groupsByStudent(rankings);
+            for (RollupSourceRow.Ranking r : rankings) {
+                Long groupId = rankedGroup(r, groupsByStudent, groups);
+                cube.ranking(groupId, r.getTeacherCampusId(), r.getStudentId(), r.getStar(), r.getAt().toLocalDate());
+            }
+
+            repository.deleteByBucketStartRange(from, to);
+            List<CampusRollupEntity> cells = cube.cells(LocalDateTime.now());
+            repository.saveAll(cells);
+            return cells.size();
+        });
+        return written == null ? 0 : written;
+    }
+
+    private Map<Long, List<Long>> groupsByStudent(List<RollupSourceRow.Ranking> rankings) {
+        List<Long> studentIds = rankings.stream().map(RollupSourceRow.Ranking::getStudentId).distinct().toList();
+        Map<Long, List<Long>> byStudent = new HashMap<>();
+        for (int from = 0; from < studentIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = studentIds.subList(from, Math.min(from + BATCH_SIZE, studentIds.size()));
+            for (RollupSourceRow.StudentGroup sg : source.findStudentGroups(batch)) {
+                byStudent.computeIfAbsent(sg.getStudentId(), k -> new ArrayList<>()).add(sg.getGroupId());
+            }
+        }
+        return byStudent;
+    }
+
+    /* Grupo del alumno con ese docente; null si no hay ninguno */
+    private static Long rankedGroup(RollupSourceRow.Ranking r, Map<Long, List<Long>> groupsByStudent,
+                                    Map<Long, RollupSourceRow.Group> groups) {
+        for (Long groupId : groupsByStudent.getOrDefault(r.getStudentId(), List.of())) {
+            RollupSourceRow.Group g = groups.get(groupId);
+            if (g != null && Objects.equals(g.getTeacherId(), r.getTeacherId())) return groupId;
+        }
+        return null;
+    }
+
+    /* ===================== Acumulación ===================== */
+
+    /** Celdas en construcción, por día y por semana */
+    private static final class Cube {
+        private final Map<Long, RollupSourceRow.Group> groups;
+        private final Map<CampusRollupEntity.Id, Cell> cells = new HashMap<>();
+
+        Cube(Map<Long, RollupSourceRow.Group> groups) {
+            this.groups = groups;
+        }
+
+        void enrollment(Long groupId, Long studentId, LocalDate day) {
+            for (Cell cell : cells(groupId, null, day)) {
+                cell.enrollments++;
+                cell.students.add(studentId);
+            }
+        }
+
+        void grade(Long groupId, Long studentId, Integer grade, LocalDate day) {
+            if (grade == null) return;
+            for (Cell cell : cells(groupId, null, day)) {
+                cell.gradesCaptured++;
+                cell.gradeSum += grade;
+                cell.students.add(studentId);
+            }
+        }
+
+        void ranking(Long groupId, Long teacherCampusId, Long studentId, Integer star, LocalDate day) {
+            if (star == null) return;
+            for (Cell cell : cells(groupId, teacherCampusId, day)) {
+                cell.rankings++;
+                cell.starSum += star;
+                cell.students.add(studentId);
+            }
+        }
+
+        /* Celda del día y de la semana; vacío si no se puede ubicar el campus */
+        private List<Cell> cells(Long groupId, Long fallbackCampusId, LocalDate day) {
+            RollupSourceRow.Group group = groupId == null ? null : groups.get(groupId);
+            Long campusId = group != null ? group.getCampusId() : fallbackCampusId;
+            if (campusId == null) return List.of();
+            long cellGroup = group != null ? group.getGroupId() : CampusRollupEntity.NO_GROUP;
+            Long careerId = group != null ? group.getCareerId() : null;
+
+            List<Cell> result = new ArrayList<>(2);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                CampusRollupEntity.Id id = new CampusRollupEntity.Id(
+                        granularity, granularity.bucketStart(day), campusId, cellGroup);
+                result.add(cells.computeIfAbsent(id, k -> new Cell(careerId)));
+            }
+            return result;
+        }
+
+        List<CampusRollupEntity> cells(LocalDateTime now) {
+            List<CampusRollupEntity> entities = new ArrayList<>(cells.size());
+            cells.forEach((id, c) -> entities.add(new CampusRollupEntity(id, c.careerId, c.enrollments,
+                    c.gradesCaptured, c.gradeSum, c.rankings, c.starSum, c.students.size(), now)));
+            return entities;
+        }
+    }
+
+    private static final class Cell {
+        final Long careerId;
+        int enrollments;
+        int gradesCaptured;
+        long gradeSum;
+        int rankings;
+        long starSum;
+        final Set<Long> students = new HashSet<>();
+
+        Cell(Long careerId) {
+            this.careerId = careerId;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Una celda del cubo: actividad de un grupo en una cubeta (día o semana).
+ * Las evaluaciones a docentes que no se pueden asociar a un grupo quedan en el grupo 0
+ * del campus del docente. Se recalcula completa desde las tablas de origen; nunca se
+ * edita fila por fila.
+ */
+@Entity
+@Table(name = "campus_rollup", indexes = {
+        @Index(name = "idx_campus_rollup_range", columnList = "granularity, campus_id, bucket_start")
+})
+public class CampusRollupEntity implements Persistable<CampusRollupEntity.Id> {
+
+    /** Grupo de las evaluaciones sin grupo identificado */
+    public static final long NO_GROUP = 0L;
+
+    @Embeddable
+    public static class Id implements Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 8)
+        private RollupGranularity granularity;
+
+        @Column(name = "bucket_start")
+        private LocalDate bucketStart;
+
+        @Column(name = "campus_id")
+        private long campusId;
+
+        @Column(name = "group_id")
+        private long groupId;
+
+        public Id() {
+        }
+
+        public Id(RollupGranularity granularity, LocalDate bucketStart, long campusId, long groupId) {
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+            this.campusId = campusId;
+            this.groupId = groupId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Id that)) return false;
+            return campusId == that.campusId && groupId == that.groupId
+                    && granularity == that.granularity && Objects.equals(bucketStart, that.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart, campusId, groupId);
+        }
+
+        public RollupGranularity getGranularity() { return granularity; }
+        public LocalDate getBucketStart() { return bucketStart; }
+        public long getCampusId() { return campusId; }
+        public long getGroupId() { return groupId; }
+    }
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(name = "career_id")
+    private Long careerId;
+
+    /** Inscripciones a grupos con fecha de entrada en la cubeta */
+    @Column(name = "enrollments", nullable = false)
+    private int enrollments;
+
+    @Column(name = "grades_captured", nullable = false)
+    private int gradesCaptured;
+
+    @Column(name = "grade_sum", nullable = false)
+    private long gradeSum;
+
+    @Column(name = "rankings", nullable = false)
+    private int rankings;
+
+    @Column(name = "star_sum", nullable = false)
+    private long starSum;
+
+    /** Alumnos distintos con inscripción, calificación o evaluación en la cubeta */
+    @Column(name = "active_students", nullable = false)
+    private int activeStudents;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /* Las filas se insertan después de borrar su rango: siempre son nuevas para Spring Data */
+    @Transient
+    private boolean isNew = true;
+
+    public CampusRollupEntity() {
+    }
+
+    public CampusRollupEntity(Id id, Long careerId, int enrollments, int gradesCaptured, long gradeSum,
+                              int rankings, long starSum, int activeStudents, LocalDateTime updatedAt) {
+        this.id = id;
+        this.careerId = careerId;
+        this.enrollments = enrollments;
+        this.gradesCaptured = gradesCaptured;
+        this.gradeSum = gradeSum;
+        this.rankings = rankings;
+        this.starSum = starSum;
+        this.activeStudents = activeStudents;
+        this.updatedAt = updatedAt;
+    }
+
+    public Id getId() { return id; }
+    public Long getCareerId() { return careerId; }
+    public int getEnrollments() { return enrollments; }
+    public int getGradesCaptured() { return gradesCaptured; }
+    public long getGradeSum() { return gradeSum; }
+    public int getRankings() { return rankings; }
+    public long getStarSum() { return starSum; }
+    public int getActiveStudents() { return activeStudents; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
@@ -0,0 +1,54 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface CampusRollupRepository extends JpaRepository<CampusRollupEntity, CampusRollupEntity.Id> {
+
+    String TOTALS = "SUM(r.enrollments) AS enrollments, SUM(r.gradesCaptured) AS gradesCaptured, " +
+            "SUM(r.gradeSum) AS gradeSum, SUM(r.rankings) AS rankings, SUM(r.starSum) AS starSum, " +
+            "SUM(r.activeStudents) AS activeStudents ";
+    String RANGE = "FROM CampusRollupEntity r " +
+            "WHERE r.id.granularity = :granularity AND r.id.campusId IN :campusIds " +
+            "AND r.id.bucketStart >= :from AND r.id.bucketStart <= :to ";
+
+    /**
+     * Borra las celdas (días y semanas) que empiezan en [from, to) antes de recalcularlas
+     */
+    @Modifying
+    @Query("DELETE FROM CampusRollupEntity r WHERE r.id.bucketStart >= :from AND r.id.bucketStart < :to")
+    int deleteByBucketStartRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM CampusRollupEntity r WHERE r.id.bucketStart < :before")
+    int deleteByBucketStartBefore(@Param("before") LocalDate before);
+
+    /**
+     * Serie de tiempo por campus
+     */
+    @Query("SELECT r.id.campusId AS campusId, r.id.bucketStart AS bucketStart, " + TOTALS + RANGE +
+            "GROUP BY r.id.campusId, r.id.bucketStart ORDER BY r.id.campusId, r.id.bucketStart")
+    List<RollupSourceRow.Bucket> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                             @Param("campusIds") Collection<Long> campusIds,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    /**
+     * Totales del rango por campus y carrera
+     */
+    @Query("SELECT r.id.campusId AS campusId, r.careerId AS careerId, " + TOTALS + RANGE +
+            "GROUP BY r.id.campusId, r.careerId")
+    List<RollupSourceRow.Career> findCareerTotals(@Param("granularity") RollupGranularity granularity,
+                                                  @Param("campusIds") Collection<Long> campusIds,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    @Query("SELECT c.id AS id, c.name AS name FROM CareerEntity c WHERE c.id IN :ids")
+    List<RollupSourceRow.CareerName> findCareerNames(@Param("ids") Collection<Long> ids);
+}
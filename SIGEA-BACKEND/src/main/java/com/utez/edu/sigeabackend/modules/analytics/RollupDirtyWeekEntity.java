@@ -0,0 +1,49 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Semana del cubo pendiente de recalcular. Es la copia persistente de las marcas que
+ * {@link CampusRollupEngine} lleva en memoria, para no perderlas si la aplicación se
+ * reinicia antes del siguiente recálculo. {@code markedAt} es la última vez que se marcó.
+ */
+@Entity
+@Table(name = "campus_rollup_dirty_week")
+public class RollupDirtyWeekEntity implements Persistable<LocalDate> {
+
+    /** Lunes de la semana */
+    @Id
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+
+    /* Solo se inserta cuando la actualización no encontró la fila */
+    @Transient
+    private boolean isNew = true;
+
+    public RollupDirtyWeekEntity() {
+    }
+
+    public RollupDirtyWeekEntity(LocalDate weekStart, LocalDateTime markedAt) {
+        this.weekStart = weekStart;
+        this.markedAt = markedAt;
+    }
+
+    @Override
+    public LocalDate getId() { return weekStart; }
+    public LocalDate getWeekStart() { return weekStart; }
+    public LocalDateTime getMarkedAt() { return markedAt; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
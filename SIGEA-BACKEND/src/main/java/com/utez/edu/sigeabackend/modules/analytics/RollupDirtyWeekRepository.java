@@ -0,0 +1,33 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RollupDirtyWeekRepository extends JpaRepository<RollupDirtyWeekEntity, LocalDate> {
+
+    @Query("SELECT d.weekStart FROM RollupDirtyWeekEntity d")
+    List<LocalDate> findAllWeeks();
+
+    /** Vuelve a marcar una semana que ya estaba pendiente; 0 si no había fila */
+    @Modifying
+    @Query("UPDATE RollupDirtyWeekEntity d SET d.markedAt = :at WHERE d.weekStart = :week")
+    int touch(@Param("week") LocalDate week, @Param("at") LocalDateTime at);
+
+    /**
+     * Quita la marca de una semana ya recalculada, salvo que se haya vuelto a marcar
+     * después de empezar el recálculo
+     */
+    @Modifying
+    @Query("DELETE FROM RollupDirtyWeekEntity d WHERE d.weekStart = :week AND d.markedAt < :before")
+    int deleteMarkedBefore(@Param("week") LocalDate week, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM RollupDirtyWeekEntity d WHERE d.markedAt < :before")
+    int deleteAllMarkedBefore(@Param("before") LocalDateTime before);
+}
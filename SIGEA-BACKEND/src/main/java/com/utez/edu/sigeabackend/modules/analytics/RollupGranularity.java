@@ -0,0 +1,21 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Tamaño de las cubetas de tiempo del cubo de analítica
+ */
+public enum RollupGranularity {
+    DAY,
+    WEEK;
+
+    /** Primer día de la cubeta que contiene la fecha (las semanas empiezan en lunes) */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupStudentEntity;
+import com.utez.edu.sigeabackend.modules.entities.QualificationEntity;
+import com.utez.edu.sigeabackend.modules.entities.RankingEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Listener JPA de los hechos del cubo de analítica: cada inscripción, calificación o
+ * evaluación marca su semana para recalcularla. Las actualizaciones masivas con JPQL
+ * no pasan por aquí.
+ */
+public class RollupListener {
+
+    private final ObjectProvider<CampusRollupEngine> engine;
+
+    public RollupListener(ObjectProvider<CampusRollupEngine> engine) {
+        this.engine = engine;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        CampusRollupEngine rollups = engine.getIfAvailable();
+        if (rollups == null) return;
+
+        switch (entity) {
+            case QualificationEntity q -> rollups.markChanged(q.getDate());
+            case GroupStudentEntity gs -> rollups.markChanged(gs.getEntryDate());
+            case RankingEntity r -> rollups.markChanged(r.getDate());
+            default -> { }
+        }
+    }
+}
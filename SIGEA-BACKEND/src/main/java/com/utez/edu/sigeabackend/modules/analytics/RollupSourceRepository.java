@@ -0,0 +1,49 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Lecturas de las tablas de origen del cubo, por rango de fechas [from, to)
+ */
+public interface RollupSourceRepository extends Repository<UserEntity, Long> {
+
+    @Query("SELECT g.id AS groupId, c.id AS careerId, cp.id AS campusId, " +
+            "g.teacher.id AS teacherId, g.curriculum.id AS curriculumId " +
+            "FROM GroupEntity g JOIN g.career c JOIN c.campus cp")
+    List<RollupSourceRow.Group> findGroups();
+
+    @Query("SELECT gs.id.groupId AS groupId, gs.id.studentId AS studentId, gs.entryDate AS at " +
+            "FROM GroupStudentEntity gs WHERE gs.entryDate >= :from AND gs.entryDate < :to")
+    List<RollupSourceRow.Enrollment> findEnrollments(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT q.group.id AS groupId, q.student.id AS studentId, q.grade AS grade, q.date AS at " +
+            "FROM QualificationEntity q WHERE q.date >= :from AND q.date < :to")
+    List<RollupSourceRow.Grade> findGrades(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("SELECT r.teacher.id AS teacherId, tc.id AS teacherCampusId, r.student.id AS studentId, " +
+            "r.moduleId AS moduleId, r.star AS star, r.date AS at " +
+            "FROM RankingEntity r JOIN r.teacher t LEFT JOIN t.campus tc " +
+            "WHERE r.date >= :from AND r.date < :to")
+    List<RollupSourceRow.Ranking> findRankings(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT gs.id.studentId AS studentId, gs.id.groupId AS groupId " +
+            "FROM GroupStudentEntity gs WHERE gs.id.studentId IN :studentIds")
+    List<RollupSourceRow.StudentGroup> findStudentGroups(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT MIN(gs.entryDate) FROM GroupStudentEntity gs")
+    LocalDateTime findFirstEnrollment();
+
+    @Query("SELECT MIN(q.date) FROM QualificationEntity q")
+    Date findFirstGrade();
+
+    @Query("SELECT MIN(r.date) FROM RankingEntity r")
+    LocalDateTime findFirstRanking();
+}
@@ -0,0 +1,75 @@
+package com.utez.edu.sigeabackend.modules.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Hechos de las tablas de origen y totales del cubo
+ */
+public interface RollupSourceRow {
+
+    /** Grupo con su carrera, campus, docente y plan */
+    interface Group {
+        Long getGroupId();
+        Long getCareerId();
+        Long getCampusId();
+        Long getTeacherId();
+        Long getCurriculumId();
+    }
+
+    interface Enrollment {
+        Long getGroupId();
+        Long getStudentId();
+        LocalDateTime getAt();
+    }
+
+    interface Grade {
+        Long getGroupId();
+        Long getStudentId();
+        Integer getGrade();
+        Date getAt();
+    }
+
+    interface Ranking {
+        Long getTeacherId();
+        Long getTeacherCampusId();
+        Long getStudentId();
+        Long getModuleId();
+        Integer getStar();
+        LocalDateTime getAt();
+    }
+
+    /** Grupo en el que está (o estuvo) inscrito un alumno */
+    interface StudentGroup {
+        Long getStudentId();
+        Long getGroupId();
+    }
+
+    /** Sumas de un conjunto de celdas del cubo */
+    interface Totals {
+        Long getEnrollments();
+        Long getGradesCaptured();
+        Long getGradeSum();
+        Long getRankings();
+        Long getStarSum();
+        Long getActiveStudents();
+    }
+
+    /** Totales de un campus en una cubeta */
+    interface Bucket extends Totals {
+        Long getCampusId();
+        LocalDate getBucketStart();
+    }
+
+    /** Totales de una carrera de un campus en el rango; careerId nulo para evaluaciones sin grupo */
+    interface Career extends Totals {
+        Long getCampusId();
+        Long getCareerId();
+    }
+
+    interface CareerName {
+        Long getId();
+        String getName();
+    }
+}
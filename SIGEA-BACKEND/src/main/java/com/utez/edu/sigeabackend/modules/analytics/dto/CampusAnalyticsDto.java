@@ -0,0 +1,46 @@
+package com.utez.edu.sigeabackend.modules.analytics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Comparativo de los campus de un supervisor en un rango de fechas: totales, serie
+ * por día o semana y totales por carrera. Los alumnos activos se cuentan sin repetir
+ * dentro de cada celda (día o semana × grupo); al sumar varias celdas un alumno puede
+ * contarse más de una vez, así que ese total es aproximado.
+ */
+public record CampusAnalyticsDto(
+        String                  granularity,
+        LocalDate               from,
+        LocalDate               to,
+        List<CampusSeriesDto>   campuses
+) {
+
+    public record CampusSeriesDto(
+            long                    campusId,
+            String                  campusName,
+            MetricsDto              totals,
+            List<BucketDto>         buckets,
+            List<CareerMetricsDto>  careers
+    ) { }
+
+    public record BucketDto(
+            LocalDate   bucketStart,
+            MetricsDto  metrics
+    ) { }
+
+    public record CareerMetricsDto(
+            Long        careerId,
+            String      careerName,
+            MetricsDto  metrics
+    ) { }
+
+    public record MetricsDto(
+            long    enrollments,
+            long    gradesCaptured,
+            Double  averageGrade,
+            long    rankings,
+            Double  averageStars,
+            long    activeStudents
+    ) { }
+}
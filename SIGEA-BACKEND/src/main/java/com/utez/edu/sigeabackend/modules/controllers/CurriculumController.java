@@ -1,6 +1,7 @@
 package com.utez.edu.sigeabackend.modules.controllers;
 
 import com.utez.edu.sigeabackend.modules.entities.CurriculumEntity;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.AcademicCatalogCacheStatsDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.CurriculumDto;
 import com.utez.edu.sigeabackend.modules.services.CurriculumService;
 import org.springframework.http.HttpStatus;
@@ -31,6 +32,12 @@ public class CurriculumController {
         return curriculumService.findByCareerId(careerId);
     }
 
+    // GET /sigea/api/curriculums/cache/stats - Métricas de la caché del catálogo académico
+    @GetMapping("/cache/stats")
+    public ResponseEntity<AcademicCatalogCacheStatsDto> cacheStats() {
+        return ResponseEntity.ok(curriculumService.cacheStats());
+    }
+
     // POST /sigea/api/curriculums
     @PostMapping
     public ResponseEntity<CurriculumDto> create(@RequestBody CurriculumEntity curriculumEntity) {
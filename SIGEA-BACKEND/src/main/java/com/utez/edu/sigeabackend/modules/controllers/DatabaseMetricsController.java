@@ -0,0 +1,30 @@
+package com.utez.edu.sigeabackend.modules.controllers;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.metrics.DatabaseMetricsDto;
+import com.utez.edu.sigeabackend.modules.services.DatabaseMetricsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sigea/api/metrics/db")
+public class DatabaseMetricsController {
+
+    private final DatabaseMetricsService service;
+
+    public DatabaseMetricsController(DatabaseMetricsService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/metrics/db - Pool, latencia de repositorios, Hibernate, consultas lentas y N+1
+    @GetMapping
+    public ResponseEntity<DatabaseMetricsDto> snapshot() {
+        return ResponseEntity.ok(service.snapshot());
+    }
+
+    // DELETE /sigea/api/metrics/db - Reinicia las estadísticas de Hibernate y los N+1 recientes
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        service.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,6 +6,8 @@ import com.utez.edu.sigeabackend.modules.entities.UserEntity;
 import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
 import com.utez.edu.sigeabackend.modules.repositories.RoleRepository;
 import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,15 +37,18 @@ public class DevUserController {
     private final RoleRepository roleRepository;
     private final CampusRepository campusRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CatalogVersionService catalogVersions;
 
     public DevUserController(UserRepository userRepository,
                              RoleRepository roleRepository,
                              CampusRepository campusRepository,
-                             PasswordEncoder passwordEncoder) {
+                             PasswordEncoder passwordEncoder,
+                             CatalogVersionService catalogVersions) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.campusRepository = campusRepository;
         this.passwordEncoder = passwordEncoder;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
@@ -77,6 +82,7 @@ public class DevUserController {
             // Crear usuario DEV
             UserEntity devUser = createDevUserEntity(userData);
             userRepository.save(devUser);
+            catalogVersions.bump(Catalog.CAMPUSES);
 
             logger.info("Usuario especial creado exitosamente");
 
@@ -3,6 +3,7 @@ package com.utez.edu.sigeabackend.modules.controllers;
 import com.utez.edu.sigeabackend.modules.entities.GroupStatus;
 import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.GroupRequestDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.GroupResponseDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.UpcomingModuleBoundaryDto;
 import com.utez.edu.sigeabackend.modules.services.GroupService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +42,15 @@ public class GroupController {
         return service.findGroupsByCampus(campusId);
     }
 
+    // GET /sigea/api/groups/upcoming-modules?days=14&careerId=
+    @GetMapping("/upcoming-modules")
+    public ResponseEntity<List<UpcomingModuleBoundaryDto>> findUpcomingModuleBoundaries(
+            @RequestParam(defaultValue = "14") int days,
+            @RequestParam(required = false) Long careerId
+    ) {
+        return service.findUpcomingModuleBoundaries(days, careerId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GroupResponseDto> findById(@PathVariable long id) {
         return service.findById(id);
@@ -5,8 +5,10 @@ import com.utez.edu.sigeabackend.modules.entities.dto.academics.GroupStudentDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.StudentGroupCheckDto;
 import com.utez.edu.sigeabackend.modules.services.GroupStudentService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -69,6 +71,15 @@ public class GroupStudentController {
         return ResponseEntity.ok(list);
     }
 
+    // Exportación de todas las inscripciones activas, una por línea (NDJSON), sin límite de tamaño
+    @GetMapping(value = "/students-with-group/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStudentsWithGroup() {
+        StreamingResponseBody body = service::exportAllStudentsWithGroup;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/group/{groupId}")
     public ResponseEntity<List<GroupStudentDto>> getByGroup(@PathVariable long groupId) {
         List<GroupStudentDto> list = service.getStudentsInGroup(groupId);
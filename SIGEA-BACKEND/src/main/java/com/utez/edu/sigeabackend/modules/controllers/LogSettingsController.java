@@ -0,0 +1,29 @@
+package com.utez.edu.sigeabackend.modules.controllers;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.metrics.LogSettingsDto;
+import com.utez.edu.sigeabackend.modules.services.LogSettingsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sigea/api/logging")
+public class LogSettingsController {
+
+    private final LogSettingsService service;
+
+    public LogSettingsController(LogSettingsService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/logging - Estado de la depuración del filtro JWT y su muestreo
+    @GetMapping
+    public ResponseEntity<LogSettingsDto> current() {
+        return ResponseEntity.ok(service.current());
+    }
+
+    // PUT /sigea/api/logging - Activa o desactiva la depuración sin reiniciar
+    @PutMapping
+    public ResponseEntity<LogSettingsDto> update(@RequestBody LogSettingsDto dto) {
+        return ResponseEntity.ok(service.update(dto));
+    }
+}
@@ -2,6 +2,7 @@ package com.utez.edu.sigeabackend.modules.controllers;
 
 import com.utez.edu.sigeabackend.modules.entities.NotificationCountMessage;
 import com.utez.edu.sigeabackend.modules.entities.NotificationEntity;
+import com.utez.edu.sigeabackend.modules.entities.dto.notifications.BroadcastNotificationRequest;
 import com.utez.edu.sigeabackend.modules.services.NotificationService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -37,6 +38,15 @@ public class NotificationController {
         return ResponseEntity.ok(service.getNotificationsByUserId(userId));
     }
 
+    /**
+     * Enviar un aviso a varios usuarios o a todo un campus (solo administración)
+     * POST /sigea/api/notifications/broadcast
+     */
+    @PostMapping("/broadcast")
+    public ResponseEntity<Integer> broadcast(@RequestBody BroadcastNotificationRequest request) {
+        return ResponseEntity.ok(service.broadcast(request));
+    }
+
     /**
      * Marcar una notificación específica como leída
      * PUT /sigea/api/notifications/{notificationId}/read/{userId}
@@ -0,0 +1,30 @@
+package com.utez.edu.sigeabackend.modules.controllers;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.cache.SecondLevelCacheStatsDto;
+import com.utez.edu.sigeabackend.modules.services.SecondLevelCacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sigea/api/jpa-cache")
+public class SecondLevelCacheController {
+
+    private final SecondLevelCacheService service;
+
+    public SecondLevelCacheController(SecondLevelCacheService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/jpa-cache/stats - Aciertos/fallos por región de la caché de segundo nivel
+    @GetMapping("/stats")
+    public ResponseEntity<SecondLevelCacheStatsDto> stats() {
+        return ResponseEntity.ok(service.stats());
+    }
+
+    // DELETE /sigea/api/jpa-cache - Vacía todas las regiones
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        service.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,13 +1,18 @@
 package com.utez.edu.sigeabackend.modules.controllers;
 
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.*;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.EnrollmentImportDtos.ImportJobDto;
+import com.utez.edu.sigeabackend.modules.services.EnrollmentImportService;
 import com.utez.edu.sigeabackend.modules.services.UserCareerEnrollmentService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -15,9 +20,12 @@ import java.util.List;
 public class UserCareerEnrollmentController {
 
     private final UserCareerEnrollmentService service;
+    private final EnrollmentImportService importService;
 
-    public UserCareerEnrollmentController(UserCareerEnrollmentService service) {
+    public UserCareerEnrollmentController(UserCareerEnrollmentService service,
+                                          EnrollmentImportService importService) {
         this.service = service;
+        this.importService = importService;
     }
 
     /** GET /sigea/api/enrollments - Obtener todas las inscripciones */
@@ -58,13 +66,13 @@ public class UserCareerEnrollmentController {
         return service.findActiveByCareer(careerId);
     }
 
-    /** GET /sigea/api/enrollments/generate-number/{careerId} - Generar nueva matrícula para una carrera */
+    /** GET /sigea/api/enrollments/generate-number/{careerId} - Vista previa de la siguiente matrícula (no la reserva) */
     @GetMapping("/generate-number/{careerId}")
     public ResponseEntity<String> generateRegistrationNumber(@PathVariable Long careerId) {
         return service.generateNewRegistrationNumber(careerId);
     }
 
-    /** GET /sigea/api/enrollments/generate-number/{careerId}/role/{userRole} - Generar matrícula considerando el rol */
+    /** GET /sigea/api/enrollments/generate-number/{careerId}/role/{userRole} - Vista previa de la matrícula considerando el rol */
     @GetMapping("/generate-number/{careerId}/role/{userRole}")
     public ResponseEntity<String> generateRegistrationNumberByRole(
             @PathVariable Long careerId,
@@ -77,6 +85,24 @@ public class UserCareerEnrollmentController {
         }
     }
 
+    /**
+     * POST /sigea/api/enrollments/import?careerId=&roleId= - Importar usuarios e inscribirlos desde CSV.
+     * Columnas: nombre, apellido paterno, apellido materno, email, matrícula (opcional).
+     * Responde 202 con el jobId; roleId es opcional (STUDENT por defecto).
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> importEnrollments(@RequestParam Long careerId,
+                                                         @RequestParam(required = false) Long roleId,
+                                                         @RequestPart("file") MultipartFile file) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.startImport(careerId, roleId, file));
+    }
+
+    /** GET /sigea/api/enrollments/import/{jobId} - Avance y errores por fila de una importación */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobDto> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(importService.getJob(jobId));
+    }
+
     /** POST /sigea/api/enrollments - Crear nueva inscripción */
     @PostMapping
     public ResponseEntity<UserCareerEnrollmentDto> createEnrollment(@Valid @RequestBody CreateEnrollmentDto dto) {
@@ -0,0 +1,33 @@
+package com.utez.edu.sigeabackend.modules.datagen;
+
+import java.util.List;
+
+/**
+ * Ids y conteos de lo generado, para que benchmarks y pruebas de carga elijan sus
+ * parámetros sin volver a consultar la base de datos. Se escribe tal cual como
+ * manifiesto JSON para los escenarios de load-tests/.
+ */
+public record DataGenResult(
+        List<Long>        campusIds,
+        List<Long>        careerIds,
+        List<Long>        teacherIds,
+        List<Long>        studentIds,
+        List<Long>        supervisorIds,
+        List<Long>        groupIds,
+        List<Account>     accounts,
+        List<GradeTarget> gradeTargets,
+        String            password,
+        long              enrollments,
+        long              groupStudents,
+        long              qualifications,
+        long              rankings,
+        long              notifications,
+        long              elapsedMs
+) {
+
+    /** Usuario generado; todos comparten {@link #password()} */
+    public record Account(long id, String email, String role, long campusId) { }
+
+    /** Calificación aún no capturada en un grupo activo: la materia del módulo en curso */
+    public record GradeTarget(long teacherId, long groupId, long subjectId, long studentId) { }
+}
@@ -0,0 +1,74 @@
+package com.utez.edu.sigeabackend.modules.datagen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utez.edu.sigeabackend.modules.analytics.CampusRollupEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Siembra una base local a escala de campus al arrancar, para reproducir problemas de
+ * rendimiento con load-tests/campus-scenario.js:
+ * <pre>
+ * java -jar app.jar --sigea.datagen.enabled=true --sigea.datagen.run-on-startup=true \
+ *      --sigea.datagen.campuses=5 --sigea.datagen.students-per-campus=3000
+ * </pre>
+ * Corre con ApplicationReadyEvent, después de DataInitializer (que crea los roles). Escribe
+ * el resultado como manifiesto JSON (cuentas, grupos y calificaciones por capturar) que el
+ * escenario de carga lee. Con una semilla ya sembrada no hace nada.
+ */
+@Component
+@ConditionalOnProperty(name = {"sigea.datagen.enabled", "sigea.datagen.run-on-startup"}, havingValue = "true")
+public class DataGenRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final CampusRollupEngine rollupEngine;
+    private final ObjectMapper objectMapper;
+    private final DataGenSpec spec;
+    private final Path manifest;
+
+    public DataGenRunner(SyntheticDataGenerator generator,
+                         CampusRollupEngine rollupEngine,
+                         ObjectMapper objectMapper,
+                         @Value("${sigea.datagen.seed:2024}") long seed,
+                         @Value("${sigea.datagen.campuses:3}") int campuses,
+                         @Value("${sigea.datagen.teachers-per-campus:60}") int teachersPerCampus,
+                         @Value("${sigea.datagen.students-per-campus:2000}") int studentsPerCampus,
+                         @Value("${sigea.datagen.manifest:load-tests/datagen-manifest.json}") String manifest) {
+        this.generator = generator;
+        this.rollupEngine = rollupEngine;
+        this.objectMapper = objectMapper;
+        this.spec = DataGenSpec.campusScale(seed, campuses, teachersPerCampus, studentsPerCampus);
+        this.manifest = Path.of(manifest);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (generator.exists(spec)) {
+            log.info("Ya hay datos sintéticos con la semilla {}; se conserva el manifiesto {}", spec.seed(), manifest);
+            return;
+        }
+        DataGenResult result = generator.generate(spec);
+
+        // Las fechas reescritas con UPDATE masivo no pasan por RollupListener
+        rollupEngine.requestRebuild();
+
+        try {
+            if (manifest.getParent() != null) Files.createDirectories(manifest.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifest.toFile(), result);
+            log.info("Manifiesto de datos sintéticos escrito en {}", manifest.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("No se pudo escribir el manifiesto {}", manifest, e);
+        }
+    }
+}
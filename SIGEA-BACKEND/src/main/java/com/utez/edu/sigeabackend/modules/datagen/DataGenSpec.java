@@ -0,0 +1,50 @@
+package com.utez.edu.sigeabackend.modules.datagen;
+
+/**
+ * Tamaño de los datos sintéticos. Con la misma semilla y el mismo tamaño se generan
+ * exactamente los mismos datos, así que dos corridas de benchmark son comparables.
+ *
+ * @param seed                 semilla del generador aleatorio
+ * @param campuses             campus
+ * @param careersPerCampus     carreras por campus
+ * @param curriculaPerCareer   planes de estudio por carrera
+ * @param modulesPerCurriculum módulos por plan
+ * @param subjectsPerModule    materias por módulo
+ * @param teachersPerCampus    docentes por campus
+ * @param studentsPerCampus    estudiantes por campus
+ * @param groupsPerCareer      grupos por carrera
+ * @param studentsPerGroup     alumnos por grupo (promedio; cada grupo varía entre 70 % y 110 %)
+ * @param notificationsPerUser notificaciones por usuario (promedio)
+ */
+public record DataGenSpec(
+        long  seed,
+        int   campuses,
+        int   careersPerCampus,
+        int   curriculaPerCareer,
+        int   modulesPerCurriculum,
+        int   subjectsPerModule,
+        int   teachersPerCampus,
+        int   studentsPerCampus,
+        int   groupsPerCareer,
+        int   studentsPerGroup,
+        int   notificationsPerUser
+) {
+
+    /** Tamaño de los benchmarks JMH: unos segundos de carga en H2 */
+    public static DataGenSpec benchmark() {
+        return new DataGenSpec(42L, 3, 4, 2, 4, 4, 20, 600, 6, 25, 3);
+    }
+
+    /**
+     * Escala de campus real a partir de pocos parámetros: seis carreras por campus, planes
+     * de cinco módulos con cuatro materias y grupos de 30 alumnos, con grupos suficientes
+     * para que cada estudiante curse en promedio dos.
+     */
+    public static DataGenSpec campusScale(long seed, int campuses, int teachersPerCampus, int studentsPerCampus) {
+        int careers = 6;
+        int studentsPerGroup = 30;
+        int groupsPerCareer = Math.max(1, 2 * studentsPerCampus / careers / studentsPerGroup);
+        return new DataGenSpec(seed, campuses, careers, 2, 5, 4, teachersPerCampus, studentsPerCampus,
+                groupsPerCareer, studentsPerGroup, 8);
+    }
+}
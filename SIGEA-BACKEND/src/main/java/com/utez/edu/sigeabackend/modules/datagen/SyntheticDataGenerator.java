@@ -0,0 +1,494 @@
+package com.utez.edu.sigeabackend.modules.datagen;
+
+import com.utez.edu.sigeabackend.modules.datagen.DataGenResult.Account;
+import com.utez.edu.sigeabackend.modules.datagen.DataGenResult.GradeTarget;
+import com.utez.edu.sigeabackend.modules.entities.*;
+import com.utez.edu.sigeabackend.modules.entities.UserCampusSupervisionEntity.SupervisionType;
+import com.utez.edu.sigeabackend.modules.repositories.RoleRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Genera datos sintéticos con la forma de un sistema en uso: campus con carreras, planes
+ * de estudio con módulos y materias, docentes, estudiantes y supervisores, grupos con
+ * horario sin choques, calificaciones de los módulos ya cursados, evaluaciones a docentes
+ * y notificaciones. Solo existe con {@code sigea.datagen.enabled=true}; lo usan los
+ * benchmarks JMH y {@link DataGenRunner}.
+ * <p>
+ * Cada campus se escribe en su propia transacción, vaciando el contexto de persistencia
+ * cada {@value #FLUSH_EVERY} entidades, así que la memoria no crece con el tamaño pedido.
+ * Todos los usuarios generados comparten la contraseña {@link #PASSWORD}.
+ */
+@Service
+@ConditionalOnProperty(name = "sigea.datagen.enabled", havingValue = "true")
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String PASSWORD = "Sigea-DataGen-1";
+    public static final String EMAIL_DOMAIN = "@datagen.sigea.mx";
+
+    private static final int FLUSH_EVERY = 500;
+    private static final int UPDATE_CHUNK = 1000;
+    private static final int MAX_GRADE_TARGETS = 5000;
+    private static final int GRADE_TARGETS_PER_GROUP = 4;
+    private static final int NOTIFICATION_DAYS = 90;
+    private static final int SLOTS_PER_DAY = 6;
+    private static final WeekDays[] CLASS_DAYS = {
+            WeekDays.LUN, WeekDays.MAR, WeekDays.MIE, WeekDays.JUE, WeekDays.VIE, WeekDays.SAB
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "María", "José", "Juan", "Guadalupe", "Luis", "Ana", "Carlos", "Fernanda", "Miguel", "Sofía",
+            "Jorge", "Valeria", "Alejandro", "Daniela", "Ricardo", "Ximena", "Diego", "Camila", "Eduardo", "Paola"
+    };
+    private static final String[] SURNAMES = {
+            "Hernández", "García", "Martínez", "López", "González", "Pérez", "Rodríguez", "Sánchez", "Ramírez", "Cruz",
+            "Flores", "Gómez", "Morales", "Vázquez", "Reyes", "Jiménez", "Torres", "Díaz", "Gutiérrez", "Ruiz"
+    };
+    private static final String[] COMMENTS = {
+            "Explica con claridad", "Muy buena disposición", "Podría dar más ejemplos",
+            "Puntual y organizado", "Las clases son dinámicas", "Revisa las tareas a tiempo"
+    };
+
+    /* Tipo, título y mensaje; el peso de cada tipo se decide en notifications() */
+    private static final String[][] NOTICES = {
+            {"Info", "Aviso del campus", "Consulta el calendario de actividades de la semana"},
+            {"Info", "Cambio de aula", "Tu grupo cambia de aula a partir de la próxima sesión"},
+            {"Success", "Calificación registrada", "Se registró una nueva calificación en tu grupo"},
+            {"Warning", "Evaluación docente pendiente", "Tienes evaluaciones docentes por responder"},
+            {"Danger", "Documentos pendientes", "Entrega tus documentos en servicios escolares"}
+    };
+
+    private final EntityManager em;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transaction;
+
+    public SyntheticDataGenerator(EntityManager em,
+                                  RoleRepository roleRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /** Si ya hay datos con esta semilla (los correos son únicos, no se puede generar dos veces) */
+    public boolean exists(DataGenSpec spec) {
+        Long count = transaction.execute(status -> em.createQuery(
+                        "SELECT COUNT(u) FROM UserEntity u WHERE u.email = :email", Long.class)
+                .setParameter("email", email("d" + spec.seed() + "-1.1"))
+                .getSingleResult());
+        return count != null && count > 0;
+    }
+
+    public DataGenResult generate(DataGenSpec spec) {
+        long start = System.nanoTime();
+        Run run = new Run(spec, new Random(spec.seed()), passwordEncoder.encode(PASSWORD),
+                roleId("STUDENT"), roleId("TEACHER"), roleId("SUPERVISOR"), LocalDate.now());
+
+        for (int c = 0; c < spec.campuses(); c++) {
+            int campusIndex = c;
+            transaction.executeWithoutResult(status -> {
+                generateCampus(run, campusIndex);
+                backdate(run);
+            });
+        }
+        transaction.executeWithoutResult(status -> generateSupervisors(run));
+
+        DataGenResult result = new DataGenResult(
+                List.copyOf(run.campusIds), List.copyOf(run.careerIds), List.copyOf(run.teacherIds),
+                List.copyOf(run.studentIds), List.copyOf(run.supervisorIds), List.copyOf(run.groupIds),
+                List.copyOf(run.accounts), List.copyOf(run.gradeTargets), PASSWORD,
+                run.enrollments, run.groupStudents, run.qualifications, run.rankings, run.notifications,
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("Datos sintéticos generados en {} ms: {} campus, {} carreras, {} docentes, {} estudiantes, "
+                        + "{} grupos, {} calificaciones, {} evaluaciones, {} notificaciones",
+                result.elapsedMs(), result.campusIds().size(), result.careerIds().size(), result.teacherIds().size(),
+                result.studentIds().size(), result.groupIds().size(), result.qualifications(), result.rankings(),
+                result.notifications());
+        return result;
+    }
+
+    private long roleId(String roleName) {
+        return roleRepository.findByRoleName(roleName)
+                .orElseThrow(() -> new IllegalStateException("No existe el rol " + roleName))
+                .getId();
+    }
+
+    /* ===================== Generación por campus ===================== */
+
+    /** Estado de una corrida; las listas de ids sobreviven a los clear() del contexto */
+    private static final class Run {
+        final DataGenSpec spec;
+        final Random random;
+        final String passwordHash;
+        final long studentRoleId;
+        final long teacherRoleId;
+        final long supervisorRoleId;
+        final LocalDate today;
+        final String yearPrefix;
+
+        final List<Long> campusIds = new ArrayList<>();
+        final List<Long> careerIds = new ArrayList<>();
+        final List<Long> teacherIds = new ArrayList<>();
+        final List<Long> studentIds = new ArrayList<>();
+        final List<Long> supervisorIds = new ArrayList<>();
+        final List<Long> groupIds = new ArrayList<>();
+        final List<Account> accounts = new ArrayList<>();
+        final List<GradeTarget> gradeTargets = new ArrayList<>();
+        long enrollments;
+        long groupStudents;
+        long qualifications;
+        long rankings;
+        long notifications;
+        int pending;
+
+        /* Fechas a reescribir al cerrar el campus: @PrePersist y @CreationTimestamp ponen "ahora" */
+        final Map<LocalDateTime, List<Long>> rankingDates = new HashMap<>();
+        final Map<LocalDateTime, List<Long>> notificationDates = new HashMap<>();
+
+        Run(DataGenSpec spec, Random random, String passwordHash,
+            long studentRoleId, long teacherRoleId, long supervisorRoleId, LocalDate today) {
+            this.spec = spec;
+            this.random = random;
+            this.passwordHash = passwordHash;
+            this.studentRoleId = studentRoleId;
+            this.teacherRoleId = teacherRoleId;
+            this.supervisorRoleId = supervisorRoleId;
+            this.today = today;
+            this.yearPrefix = String.valueOf(today.getYear() % 100);
+        }
+    }
+
+    /** Plan de estudios: módulos en orden, con sus materias y duración en semanas */
+    private record Plan(long curriculumId, List<Long> moduleIds, List<List<Long>> subjectIds, List<Integer> moduleWeeks) {
+        int totalWeeks() {
+            return moduleWeeks.stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private void generateCampus(Run run, int c) {
+        DataGenSpec spec = run.spec;
+        String tag = spec.seed() + "-" + (c + 1);
+
+        CampusEntity campus = new CampusEntity("Campus " + tag);
+        persist(run, campus);
+        long campusId = campus.getId();
+        run.campusIds.add(campusId);
+
+        List<Long> teachers = new ArrayList<>(spec.teachersPerCampus());
+        for (int t = 0; t < spec.teachersPerCampus(); t++) {
+            teachers.add(user(run, campusId, run.teacherRoleId, "TEACHER", "d" + tag + "." + (t + 1)));
+        }
+        List<Long> students = new ArrayList<>(spec.studentsPerCampus());
+        for (int s = 0; s < spec.studentsPerCampus(); s++) {
+            students.add(user(run, campusId, run.studentRoleId, "STUDENT", "e" + tag + "." + (s + 1)));
+        }
+        run.teacherIds.addAll(teachers);
+        run.studentIds.addAll(students);
+
+        // Horarios ocupados por docente: cada grupo toma el siguiente bloque libre
+        Map<Long, Integer> nextSlot = new HashMap<>();
+
+        for (int k = 0; k < spec.careersPerCampus(); k++) {
+            String differentiator = "G" + (run.careerIds.size() + 1);
+            CareerEntity career = new CareerEntity("Carrera " + tag + "." + (k + 1), differentiator,
+                    em.getReference(CampusEntity.class, campusId));
+            persist(run, career);
+            long careerId = career.getId();
+            run.careerIds.add(careerId);
+
+            List<Plan> plans = new ArrayList<>(spec.curriculaPerCareer());
+            for (int p = 0; p < spec.curriculaPerCareer(); p++) {
+                plans.add(plan(run, careerId, "Plan " + tag + "." + (k + 1) + "." + (p + 1)));
+            }
+
+            // Docentes y estudiantes de la carrera, repartidos entre las carreras del campus
+            List<Long> careerTeachers = slice(teachers, k, spec.careersPerCampus());
+            List<Long> careerStudents = slice(students, k, spec.careersPerCampus());
+            int sequence = 0;
+            for (Long teacherId : careerTeachers) {
+                enroll(run, teacherId, careerId, campusId, registration(run, differentiator, ++sequence) + "-M");
+            }
+            for (Long studentId : careerStudents) {
+                enroll(run, studentId, careerId, campusId, registration(run, differentiator, ++sequence));
+            }
+
+            for (int g = 0; g < spec.groupsPerCareer() && !careerTeachers.isEmpty(); g++) {
+                Long teacherId = careerTeachers.get(run.random.nextInt(careerTeachers.size()));
+                Plan plan = plans.get(run.random.nextInt(plans.size()));
+                int slot = nextSlot.merge(teacherId, 1, Integer::sum) - 1;
+                // Grupos de tamaño desigual: entre 70 % y 110 % del promedio
+                int size = (int) Math.round(spec.studentsPerGroup() * (0.7 + 0.4 * run.random.nextDouble()));
+                group(run, "Grupo " + tag + "." + (k + 1) + "." + (g + 1), careerId, teacherId, plan, slot,
+                        sample(run.random, careerStudents, size));
+            }
+        }
+
+        for (Long userId : teachers) notifications(run, userId);
+        for (Long userId : students) notifications(run, userId);
+
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * Un supervisor por campus, que además supervisa el campus siguiente: así la analítica
+     * de campus supervisados devuelve más de uno cuando hay varios.
+     */
+    private void generateSupervisors(Run run) {
+        int campuses = run.campusIds.size();
+        for (int c = 0; c < campuses; c++) {
+            long campusId = run.campusIds.get(c);
+            long supervisorId = user(run, campusId, run.supervisorRoleId, "SUPERVISOR", "s" + run.spec.seed() + "-" + (c + 1));
+            run.supervisorIds.add(supervisorId);
+            if (campuses > 1) {
+                persist(run, new UserCampusSupervisionEntity(
+                        em.getReference(UserEntity.class, supervisorId),
+                        em.getReference(CampusEntity.class, run.campusIds.get((c + 1) % campuses)),
+                        SupervisionType.ADDITIONAL,
+                        supervisorId));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private long user(Run run, long campusId, long roleId, String roleName, String key) {
+        String email = email(key);
+        UserEntity user = new UserEntity(
+                pick(run.random, FIRST_NAMES), pick(run.random, SURNAMES), pick(run.random, SURNAMES),
+                email, run.passwordHash);
+        user.setCampus(em.getReference(CampusEntity.class, campusId));
+        user.setRole(em.getReference(RoleEntity.class, roleId));
+        persist(run, user);
+        run.accounts.add(new Account(user.getId(), email, roleName, campusId));
+        return user.getId();
+    }
+
+    private Plan plan(Run run, long careerId, String name) {
+        DataGenSpec spec = run.spec;
+        CurriculumEntity curriculum = new CurriculumEntity();
+        curriculum.setName(name);
+        curriculum.setCareer(em.getReference(CareerEntity.class, careerId));
+        persist(run, curriculum);
+
+        List<Long> moduleIds = new ArrayList<>(spec.modulesPerCurriculum());
+        List<List<Long>> subjectIds = new ArrayList<>(spec.modulesPerCurriculum());
+        List<Integer> moduleWeeks = new ArrayList<>(spec.modulesPerCurriculum());
+        for (int m = 0; m < spec.modulesPerCurriculum(); m++) {
+            ModuleEntity module = new ModuleEntity();
+            module.setName("Módulo " + (m + 1));
+            module.setCurriculum(em.getReference(CurriculumEntity.class, curriculum.getId()));
+            persist(run, module);
+            moduleIds.add(module.getId());
+
+            List<Long> subjects = new ArrayList<>(spec.subjectsPerModule());
+            int weeks = 0;
+            for (int s = 0; s < spec.subjectsPerModule(); s++) {
+                SubjectEntity subject = new SubjectEntity();
+                subject.setName("Materia " + (m + 1) + "." + (s + 1));
+                subject.setWeeks(1 + run.random.nextInt(4));
+                subject.setModule(em.getReference(ModuleEntity.class, module.getId()));
+                persist(run, subject);
+                subjects.add(subject.getId());
+                weeks += subject.getWeeks();
+            }
+            subjectIds.add(subjects);
+            moduleWeeks.add(weeks);
+        }
+        return new Plan(curriculum.getId(), moduleIds, subjectIds, moduleWeeks);
+    }
+
+    private void enroll(Run run, long userId, long careerId, long campusId, String registrationNumber) {
+        persist(run, new UserCareerEnrollmentEntity(
+                em.getReference(UserEntity.class, userId),
+                em.getReference(CareerEntity.class, careerId),
+                em.getReference(CampusEntity.class, campusId),
+                registrationNumber));
+        run.enrollments++;
+    }
+
+    /**
+     * Un grupo en el bloque horario {@code slot} de su docente, iniciado hace un número
+     * aleatorio de semanas: los módulos que ya terminaron tienen calificaciones y evaluaciones,
+     * y las materias del módulo en curso quedan como objetivos de captura para las pruebas de carga.
+     */
+    private void group(Run run, String name, long careerId, long teacherId, Plan plan, int slot, List<Long> members) {
+        int totalWeeks = plan.totalWeeks();
+        LocalDate startDate = run.today.minusWeeks(run.random.nextInt(totalWeeks + 8));
+        LocalDate endDate = startDate.plusWeeks(totalWeeks);
+        LocalTime startTime = LocalTime.of(7 + 2 * (slot / CLASS_DAYS.length % SLOTS_PER_DAY), 0);
+        boolean active = !endDate.isBefore(run.today);
+
+        GroupEntity group = new GroupEntity();
+        group.setName(name);
+        group.setWeekDay(CLASS_DAYS[slot % CLASS_DAYS.length]);
+        group.setStartTime(startTime);
+        group.setEndTime(startTime.plusHours(2));
+        group.setStartDate(startDate);
+        group.setEndDate(endDate);
+        group.setStatus(active ? GroupStatus.ACTIVE : GroupStatus.COMPLETED);
+        group.setTeacher(em.getReference(UserEntity.class, teacherId));
+        group.setCareer(em.getReference(CareerEntity.class, careerId));
+        group.setCurriculum(em.getReference(CurriculumEntity.class, plan.curriculumId()));
+        persist(run, group);
+        long groupId = group.getId();
+        run.groupIds.add(groupId);
+
+        long elapsedWeeks = ChronoUnit.WEEKS.between(startDate, run.today);
+        int targets = 0;
+        for (Long studentId : members) {
+            GroupStudentEntity member = new GroupStudentEntity(
+                    em.getReference(GroupEntity.class, groupId), em.getReference(UserEntity.class, studentId));
+            member.setEntryDate(startDate.atTime(startTime));
+            persist(run, member);
+            run.groupStudents++;
+
+            int weeks = 0;
+            for (int m = 0; m < plan.moduleIds().size(); m++) {
+                weeks += plan.moduleWeeks().get(m);
+                List<Long> subjects = plan.subjectIds().get(m);
+                if (weeks > elapsedWeeks) {
+                    if (active && targets < GRADE_TARGETS_PER_GROUP && run.gradeTargets.size() < MAX_GRADE_TARGETS) {
+                        run.gradeTargets.add(new GradeTarget(teacherId, groupId,
+                                subjects.get(run.random.nextInt(subjects.size())), studentId));
+                        targets++;
+                    }
+                    break;
+                }
+                LocalDate closedAt = startDate.plusWeeks(weeks);
+                Date gradedAt = Date.from(closedAt.atStartOfDay(ZoneId.systemDefault()).toInstant());
+                for (Long subjectId : subjects) {
+                    if (run.random.nextInt(100) < 95) qualification(run, studentId, groupId, subjectId, teacherId, gradedAt);
+                }
+                if (run.random.nextInt(100) < 60) ranking(run, studentId, teacherId, plan.moduleIds().get(m), closedAt);
+            }
+        }
+    }
+
+    /* Calificaciones alrededor de 8.2, dentro del rango válido de 6 a 10 */
+    private void qualification(Run run, long studentId, long groupId, long subjectId, long teacherId, Date date) {
+        int grade = (int) Math.round(8.2 + run.random.nextGaussian() * 1.2);
+        persist(run, new QualificationEntity(null,
+                em.getReference(UserEntity.class, studentId),
+                em.getReference(GroupEntity.class, groupId),
+                em.getReference(SubjectEntity.class, subjectId),
+                em.getReference(UserEntity.class, teacherId),
+                Math.max(6, Math.min(10, grade)), date));
+        run.qualifications++;
+    }
+
+    /* Estrellas cargadas hacia 4 y 5: 3 %, 7 %, 20 %, 35 %, 35 %; se responde en la semana del cierre */
+    private void ranking(Run run, long studentId, long teacherId, long moduleId, LocalDate closedAt) {
+        int roll = run.random.nextInt(100);
+        int star = roll < 3 ? 1 : roll < 10 ? 2 : roll < 30 ? 3 : roll < 65 ? 4 : 5;
+        RankingEntity ranking = new RankingEntity(pick(run.random, COMMENTS), star,
+                em.getReference(UserEntity.class, teacherId), em.getReference(UserEntity.class, studentId));
+        ranking.setModuleId(moduleId);
+        persist(run, ranking);
+        run.rankings++;
+
+        LocalDate answered = closedAt.plusDays(run.random.nextInt(7));
+        if (answered.isAfter(run.today)) answered = run.today;
+        run.rankingDates.computeIfAbsent(answered.atTime(12, 0), k -> new ArrayList<>()).add(ranking.getId());
+    }
+
+    /**
+     * Notificaciones de los últimos {@value #NOTIFICATION_DAYS} días. La cantidad por usuario
+     * sigue una exponencial (pocos usuarios acumulan muchas), casi todas son informativas y
+     * las de más de una semana suelen estar leídas.
+     */
+    private void notifications(Run run, long userId) {
+        int count = (int) (-run.spec.notificationsPerUser() * Math.log(1 - run.random.nextDouble()));
+        for (int i = 0; i < count; i++) {
+            int roll = run.random.nextInt(100);
+            String[] notice = NOTICES[roll < 45 ? run.random.nextInt(2) : roll < 75 ? 2 : roll < 95 ? 3 : 4];
+            int ageDays = run.random.nextInt(NOTIFICATION_DAYS);
+            LocalDateTime createdAt = run.today.minusDays(ageDays).atTime(8 + run.random.nextInt(12), 0);
+            boolean read = run.random.nextInt(100) < (ageDays > 7 ? 85 : 30);
+
+            NotificationEntity notification = new NotificationEntity();
+            notification.setUserId(userId);
+            notification.setType(notice[0]);
+            notification.setTitle(notice[1]);
+            notification.setMessage(notice[2]);
+            notification.setRead(read);
+            if (read) notification.setReadAt(createdAt.plusHours(1 + run.random.nextInt(48)));
+            persist(run, notification);
+            run.notifications++;
+            run.notificationDates.computeIfAbsent(createdAt, k -> new ArrayList<>()).add(notification.getId());
+        }
+    }
+
+    /** Reescribe con UPDATE masivo las fechas que los callbacks de inserción fijaron en "ahora" */
+    private void backdate(Run run) {
+        bulkUpdate("UPDATE RankingEntity r SET r.date = :date WHERE r.id IN :ids", run.rankingDates);
+        bulkUpdate("UPDATE NotificationEntity n SET n.createdAt = :date WHERE n.id IN :ids", run.notificationDates);
+        run.rankingDates.clear();
+        run.notificationDates.clear();
+    }
+
+    private void bulkUpdate(String jpql, Map<LocalDateTime, List<Long>> idsByDate) {
+        for (Map.Entry<LocalDateTime, List<Long>> entry : idsByDate.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK) {
+                em.createQuery(jpql)
+                        .setParameter("date", entry.getKey())
+                        .setParameter("ids", ids.subList(from, Math.min(from + UPDATE_CHUNK, ids.size())))
+                        .executeUpdate();
+            }
+        }
+    }
+
+    /* ===================== Utilidades ===================== */
+
+    private void persist(Run run, Object entity) {
+        em.persist(entity);
+        if (++run.pending % FLUSH_EVERY == 0) {
+            em.flush();
+            em.clear();
+        }
+    }
+
+    private static String email(String key) {
+        return key + EMAIL_DOMAIN;
+    }
+
+    private static String registration(Run run, String differentiator, int sequence) {
+        return run.yearPrefix + differentiator + String.format("%04d", sequence);
+    }
+
+    /* Elementos i, i + n, i + 2n... (reparto uniforme) */
+    private static List<Long> slice(List<Long> all, int index, int parts) {
+        List<Long> slice = new ArrayList<>();
+        for (int i = index; i < all.size(); i += parts) slice.add(all.get(i));
+        return slice.isEmpty() ? all : slice;
+    }
+
+    private static List<Long> sample(Random random, List<Long> from, int size) {
+        List<Long> copy = new ArrayList<>(from);
+        Collections.shuffle(copy, random);
+        return copy.subList(0, Math.min(size, copy.size()));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
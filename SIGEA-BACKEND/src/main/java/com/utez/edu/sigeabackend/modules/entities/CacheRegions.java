@@ -0,0 +1,23 @@
+package com.utez.edu.sigeabackend.modules.entities;
+
+/**
+ * Regiones de la caché de segundo nivel de Hibernate. Cada región se crea con su
+ * límite y expiración en SecondLevelCacheConfig; una región no declarada hace fallar el arranque.
+ */
+public final class CacheRegions {
+
+    public static final String ROLE = "sigea.role";
+    public static final String CAMPUS = "sigea.campus";
+    public static final String CAREER = "sigea.career";
+    public static final String CURRICULUM = "sigea.curriculum";
+    public static final String CURRICULUM_MODULES = "sigea.curriculum.modules";
+    public static final String MODULE = "sigea.module";
+    public static final String MODULE_SUBJECTS = "sigea.module.subjects";
+    public static final String SUBJECT = "sigea.subject";
+
+    /* Regiones de la caché de consultas (nombres por defecto de Hibernate) */
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {}
+}
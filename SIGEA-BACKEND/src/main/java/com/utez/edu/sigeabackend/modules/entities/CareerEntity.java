@@ -1,11 +1,18 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
 import com.utez.edu.sigeabackend.modules.media.MediaEntity;
+import com.utez.edu.sigeabackend.modules.search.SearchIndexListener;
+import com.utez.edu.sigeabackend.modules.summary.SummaryListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners({SearchIndexListener.class, SummaryListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CAREER)
 @Table(name = "career")
 // *** CONSTRAINT ÚNICA REMOVIDA - Varios diferenciadores pueden ser iguales ***
 public class CareerEntity {
@@ -31,9 +38,10 @@ public class CareerEntity {
     private CampusEntity campus;
 
     /**
-     * Relación uno-a-uno con MediaEntity para la imagen de la carrera
+     * Imagen de la carrera. Muchos-a-uno: la media se deduplica por contenido y
+     * varias carreras pueden compartir la misma imagen
      */
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "image_id", foreignKey = @ForeignKey(name = "fk_career_image"))
     private MediaEntity image;
 
@@ -1,9 +1,13 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CURRICULUM)
 @Table(name = "curriculum")
 public class CurriculumEntity {
     @Id
@@ -21,6 +25,7 @@ public class CurriculumEntity {
     private CareerEntity career;
 
     // Relation: Un curriculum tiene muchos módulos
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CURRICULUM_MODULES)
     @OneToMany(mappedBy = "curriculum", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ModuleEntity> modules;
 
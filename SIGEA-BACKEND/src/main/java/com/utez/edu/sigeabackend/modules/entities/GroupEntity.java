@@ -1,6 +1,8 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.utez.edu.sigeabackend.modules.search.SearchIndexListener;
+import com.utez.edu.sigeabackend.modules.summary.SummaryListener;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -8,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners({SearchIndexListener.class, SummaryListener.class})
 @Table(name = "group_table")
 public class GroupEntity {
 
@@ -1,15 +1,20 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.utez.edu.sigeabackend.modules.analytics.RollupListener;
+import com.utez.edu.sigeabackend.modules.summary.SummaryListener;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@EntityListeners({SummaryListener.class, RollupListener.class})
 @Table(name = "student_group")
 
-public class   GroupStudentEntity {
+public class   GroupStudentEntity implements Persistable<GroupStudentEntity.Id> {
     @Embeddable
     public static class Id implements Serializable {
         @Column(name = "group_id")
@@ -82,6 +87,13 @@ public class   GroupStudentEntity {
     @Column(name = "exit_date")
     private LocalDateTime exitDate;
 
+    /*
+     * El id es asignado, así que Spring Data no puede saber si la fila es nueva y haría
+     * merge (un SELECT por fila). Las instancias creadas en código son nuevas hasta persistirse.
+     */
+    @Transient
+    private boolean isNew = true;
+
     public GroupStudentEntity() {}
 
     public GroupStudentEntity(GroupEntity group, UserEntity student) {
@@ -117,6 +129,14 @@ public class   GroupStudentEntity {
     public LocalDateTime getExitDate() { return exitDate; }
     public void setExitDate(LocalDateTime exitDate) { this.exitDate = exitDate; }
 
+    @Override
+    @JsonIgnore
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     public boolean isActive() {
         return GroupStudentStatus.ACTIVE.equals(this.status);
     }
@@ -0,0 +1,26 @@
+package com.utez.edu.sigeabackend.modules.entities;
+
+import java.util.List;
+
+/**
+ * Generador de ids por tabla (hi-lo "pooled") para las tablas de escritura masiva.
+ * A diferencia de IDENTITY, Hibernate conoce el id antes del INSERT y puede agrupar
+ * las inserciones en lotes JDBC. Cada entidad reserva ALLOCATION_SIZE ids por viaje
+ * a la tabla id_generator; IdGeneratorSeeder la inicializa por encima del id máximo existente.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String NOTIFICATIONS = "notifications";
+    public static final String QUALIFICATION = "qualification";
+    public static final String RANKING = "ranking";
+
+    /** Cada segmento se llama como la tabla (con columna id) cuyos ids genera */
+    public static final List<String> SEGMENTS = List.of(NOTIFICATIONS, QUALIFICATION, RANKING);
+
+    private IdGenerators() {}
+}
@@ -1,9 +1,13 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MODULE)
 @Table(name = "module")
 public class ModuleEntity {
     @Id
@@ -20,6 +24,7 @@ public class ModuleEntity {
     private CurriculumEntity curriculum;
 
     // Relación uno-a-muchos con SubjectEntity
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MODULE_SUBJECTS)
     @OneToMany(mappedBy = "module", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SubjectEntity> subjects;
 
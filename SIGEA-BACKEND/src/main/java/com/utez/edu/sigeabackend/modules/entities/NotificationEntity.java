@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Table(name = "notifications")
 public class NotificationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.NOTIFICATIONS, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "El ID del usuario es obligatorio")
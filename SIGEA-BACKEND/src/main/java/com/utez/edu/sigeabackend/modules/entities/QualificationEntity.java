@@ -1,13 +1,19 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
+import com.utez.edu.sigeabackend.modules.analytics.RollupListener;
+import com.utez.edu.sigeabackend.modules.summary.SummaryListener;
 import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
+@EntityListeners({SummaryListener.class, RollupListener.class})
 @Table(name = "qualification")
 public class QualificationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "qualification_id")
+    @TableGenerator(name = "qualification_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.QUALIFICATION, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Estudiante evaluado
@@ -1,13 +1,19 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
+import com.utez.edu.sigeabackend.modules.analytics.RollupListener;
+import com.utez.edu.sigeabackend.modules.summary.SummaryListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners({SummaryListener.class, RollupListener.class})
 @Table(name = "ranking")
 public class RankingEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ranking_id")
+    @TableGenerator(name = "ranking_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.RANKING, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private long id;
 
@@ -0,0 +1,103 @@
+package com.utez.edu.sigeabackend.modules.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * Contador de matrículas por (campus, diferenciador, año, tipo): la matrícula es única
+ * por campus y varias carreras del mismo campus pueden compartir diferenciador, así que
+ * comparten también el contador. Cada reserva toma un bloque completo de números para
+ * que las inscripciones no consulten la BD una por una.
+ */
+@Entity
+@Table(name = "registration_number_sequence", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_registration_number_sequence",
+                columnNames = {"campus_id", "differentiator", "year_prefix", "sequence_type"})
+})
+public class RegistrationSequenceEntity {
+
+    public enum SequenceType { STUDENT, TEACHER }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "campus_id", nullable = false)
+    private Long campusId;
+
+    @Column(name = "differentiator", nullable = false)
+    private String differentiator;
+
+    /** Últimos dos dígitos del año, igual que en la matrícula */
+    @Column(name = "year_prefix", nullable = false, length = 2)
+    private String yearPrefix;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sequence_type", nullable = false, length = 10)
+    private SequenceType sequenceType;
+
+    /** Siguiente número aún no reservado por ningún nodo */
+    @Column(name = "next_value", nullable = false)
+    private int nextValue;
+
+    public RegistrationSequenceEntity() {}
+
+    public RegistrationSequenceEntity(Long campusId, String differentiator, String yearPrefix,
+                                      SequenceType sequenceType, int nextValue) {
+        this.campusId = campusId;
+        this.differentiator = differentiator;
+        this.yearPrefix = yearPrefix;
+        this.sequenceType = sequenceType;
+        this.nextValue = nextValue;
+    }
+
+    // Getters & setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCampusId() {
+        return campusId;
+    }
+
+    public void setCampusId(Long campusId) {
+        this.campusId = campusId;
+    }
+
+    public String getDifferentiator() {
+        return differentiator;
+    }
+
+    public void setDifferentiator(String differentiator) {
+        this.differentiator = differentiator;
+    }
+
+    public String getYearPrefix() {
+        return yearPrefix;
+    }
+
+    public void setYearPrefix(String yearPrefix) {
+        this.yearPrefix = yearPrefix;
+    }
+
+    public SequenceType getSequenceType() {
+        return sequenceType;
+    }
+
+    public void setSequenceType(SequenceType sequenceType) {
+        this.sequenceType = sequenceType;
+    }
+
+    public int getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(int nextValue) {
+        this.nextValue = nextValue;
+    }
+}
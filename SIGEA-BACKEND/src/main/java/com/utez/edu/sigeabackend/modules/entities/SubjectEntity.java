@@ -1,8 +1,12 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBJECT)
 @Table(name = "subject")
 public class SubjectEntity {
     @Id
@@ -1,9 +1,11 @@
 package com.utez.edu.sigeabackend.modules.entities;
 
+import com.utez.edu.sigeabackend.modules.search.SearchIndexListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "user_career_enrollment", uniqueConstraints = {
         @UniqueConstraint(name = "uq_user_career", columnNames = {"user_id", "career_id"}),
         @UniqueConstraint(name = "uq_registration_number_campus",
@@ -2,6 +2,7 @@ package com.utez.edu.sigeabackend.modules.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.utez.edu.sigeabackend.modules.media.MediaEntity;
+import com.utez.edu.sigeabackend.modules.search.SearchIndexListener;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(
         name = "user",
         uniqueConstraints = {
@@ -70,7 +72,7 @@ public class UserEntity {
     )
     private LocalDateTime createdAt;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "avatar_id", foreignKey = @ForeignKey(name = "fk_user_avatar"))
     private MediaEntity avatar;
 
@@ -0,0 +1,11 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.academics;
+
+public record AcademicCatalogCacheStatsDto(
+        int     curricula,
+        int     careers,
+        long    hits,
+        long    misses,
+        long    loads,
+        long    invalidations,
+        double  hitRatio
+) {}
@@ -0,0 +1,31 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.academics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EnrollmentImportDtos {
+
+    public enum ImportStatus { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    /** Estado de una importación; se consulta por jobId mientras corre */
+    public record ImportJobDto(
+            String jobId,
+            ImportStatus status,
+            Long careerId,
+            String roleName,
+            int totalRows,
+            int processedRows,
+            int createdRows,
+            int failedRows,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            List<ImportRowErrorDto> errors
+    ) {}
+
+    /** Error de una fila: número de línea del CSV, email (si se pudo leer) y motivo */
+    public record ImportRowErrorDto(
+            int line,
+            String email,
+            String message
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.cache;
+
+import java.util.List;
+
+public record SecondLevelCacheStatsDto(
+        boolean            statisticsEnabled,
+        long               hits,
+        long               misses,
+        long               puts,
+        double             hitRatio,
+        long               queryCacheHits,
+        long               queryCacheMisses,
+        long               queryCachePuts,
+        long               entityLoads,
+        long               queryExecutions,
+        List<RegionStats>  regions
+) {
+    public record RegionStats(
+            String  region,
+            long    hits,
+            long    misses,
+            long    puts,
+            double  hitRatio
+    ) {}
+}
@@ -0,0 +1,18 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.groupDtos;
+
+/**
+ * Próximo cambio en la línea de tiempo de un grupo: inicio de un módulo (MODULE_START)
+ * o fin del plan de estudios (CURRICULUM_END, sin módulo)
+ */
+public record UpcomingModuleBoundaryDto(
+        Long groupId,
+        String groupName,
+        Long careerId,
+        Long curriculumId,
+        String type,
+        Long moduleId,
+        String moduleName,
+        Integer moduleNumber,
+        long week,
+        String date
+) { }
@@ -0,0 +1,78 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.metrics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record DatabaseMetricsDto(
+        List<PoolStats>              pools,
+        List<RepositoryMethodStats>  repositories,
+        HibernateStats               hibernate,
+        List<EndpointStatements>     statementsPerRequest,
+        long                         slowQueryThresholdMs,
+        List<SlowQuery>              slowQueries,
+        int                          nPlusOneThreshold,
+        List<NPlusOneSuspect>        nPlusOneSuspects
+) {
+    public record PoolStats(
+            String  pool,
+            int     active,
+            int     idle,
+            int     pending,
+            int     total,
+            int     max,
+            long    acquisitions,
+            double  acquireMeanMs,
+            double  acquireP95Ms,
+            double  acquireMaxMs,
+            double  usageP95Ms,
+            long    timeouts
+    ) {}
+
+    public record RepositoryMethodStats(
+            String  repository,
+            String  method,
+            String  state,
+            long    count,
+            double  totalMs,
+            double  meanMs,
+            double  p95Ms,
+            double  maxMs
+    ) {}
+
+    public record HibernateStats(
+            boolean statisticsEnabled,
+            long    queryExecutions,
+            long    queryExecutionMaxTimeMs,
+            String  slowestQuery,
+            long    preparedStatements,
+            long    entityLoads,
+            long    entityFetches,
+            long    collectionLoads,
+            long    collectionFetches,
+            long    transactions,
+            long    flushes
+    ) {}
+
+    public record EndpointStatements(
+            String  endpoint,
+            long    requests,
+            double  mean,
+            double  p95,
+            double  max
+    ) {}
+
+    public record SlowQuery(
+            String  query,
+            long    executions,
+            long    avgMs,
+            long    maxMs
+    ) {}
+
+    public record NPlusOneSuspect(
+            LocalDateTime at,
+            String        endpoint,
+            String        sql,
+            int           executions,
+            int           totalStatements
+    ) {}
+}
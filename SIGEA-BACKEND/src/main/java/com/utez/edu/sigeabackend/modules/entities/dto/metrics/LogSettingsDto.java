@@ -0,0 +1,10 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.metrics;
+
+/**
+ * Depuración del filtro JWT: si está activa y la tasa de muestreo (uno de cada N
+ * eventos exitosos; los fallos siempre se registran). En PUT, los campos nulos no cambian.
+ */
+public record LogSettingsDto(
+        Boolean  filterDebug,
+        Integer  sampleRate
+) { }
@@ -0,0 +1,14 @@
+package com.utez.edu.sigeabackend.modules.entities.dto.notifications;
+
+import java.util.List;
+
+/**
+ * Aviso para varios usuarios: los de {@code userIds} o, si no vienen, todos los del campus.
+ */
+public record BroadcastNotificationRequest(
+        List<Long> userIds,
+        Long campusId,
+        String type,
+        String title,
+        String message
+){}
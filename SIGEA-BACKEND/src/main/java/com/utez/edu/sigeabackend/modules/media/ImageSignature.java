@@ -0,0 +1,41 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import java.util.Optional;
+
+/**
+ * Detecta el tipo real de una imagen por sus primeros bytes (magic numbers),
+ * sin confiar en el Content-Type que manda el cliente.
+ */
+final class ImageSignature {
+
+    /** Bytes necesarios para reconocer todos los formatos soportados */
+    static final int HEADER_LENGTH = 12;
+
+    private ImageSignature() {}
+
+    static Optional<String> detect(byte[] header, int length) {
+        if (startsWith(header, length, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of("image/jpeg");
+        }
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of("image/png");
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8')) {
+            return Optional.of("image/gif");
+        }
+        if (startsWith(header, length, 'R', 'I', 'F', 'F')
+                && length >= HEADER_LENGTH
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return Optional.of("image/webp");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int length, int... signature) {
+        if (length < signature.length) return false;
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+}
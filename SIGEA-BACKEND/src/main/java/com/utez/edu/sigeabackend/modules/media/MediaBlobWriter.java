@@ -0,0 +1,56 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Inserta la media pasando el contenido como stream al driver JDBC, en lugar de
+ * armar un byte[] con todo el archivo como hace Hibernate con el campo data.
+ */
+@Component
+public class MediaBlobWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO media (code, file_name, content_type, size, data, purpose, content_hash, ref_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    public MediaBlobWriter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Devuelve el id generado; el stream se consume y se cierra aquí */
+    public Long insert(String code, String fileName, String contentType, long size,
+                       MediaEntity.Purpose purpose, String contentHash, InputStream content) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        try (InputStream in = content) {
+            jdbc.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, code);
+                ps.setString(2, fileName);
+                ps.setString(3, contentType);
+                ps.setLong(4, size);
+                ps.setBinaryStream(5, in, size);
+                ps.setString(6, purpose.name());
+                ps.setString(7, contentHash);
+                ps.setTimestamp(8, Timestamp.valueOf(LocalDateTime.now()));
+                return ps;
+            }, keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Objects.requireNonNull(keys.getKey(), "Sin id generado para la media").longValue();
+    }
+}
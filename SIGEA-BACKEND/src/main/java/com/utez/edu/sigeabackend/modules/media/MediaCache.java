@@ -0,0 +1,121 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import com.utez.edu.sigeabackend.modules.media.dto.MediaCacheStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché en memoria de los bytes de media, indexada por código.
+ * Se limita por peso (bytes totales) y expulsa las entradas menos usadas (LRU).
+ * Opcionalmente guarda los bytes fuera del heap (direct buffers) para no inflar el GC.
+ * La media es inmutable por código, solo se invalida al eliminarla.
+ */
+@Component
+public class MediaCache {
+
+    /** Entrada servida al controlador: tipo de contenido + bytes + fecha de creación (epoch ms) */
+    public record CachedMedia(String contentType, byte[] data, long lastModified) {}
+
+    private record Slot(String contentType, ByteBuffer buffer, long lastModified) {
+        int weight() { return buffer.capacity(); }
+    }
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+
+    /* LinkedHashMap en orden de acceso => LRU; protegido por el monitor de la instancia */
+    private final LinkedHashMap<String, Slot> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MediaCache(@Value("${sigea.media.cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${sigea.media.cache.off-heap:false}") boolean offHeap) {
+        this.maxBytes = Math.max(0, maxBytes);
+        this.maxEntryBytes = this.maxBytes / 4; // una sola imagen no puede ocupar más de 1/4 de la caché
+        this.offHeap = offHeap;
+    }
+
+    public CachedMedia get(String code) {
+        Slot slot;
+        synchronized (this) {
+            slot = entries.get(code);
+        }
+        if (slot == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new CachedMedia(slot.contentType(), toBytes(slot.buffer()), slot.lastModified());
+    }
+
+    public void put(String code, CachedMedia media) {
+        byte[] data = media.data();
+        if (data == null || data.length == 0 || data.length > maxEntryBytes) return;
+
+        Slot slot = new Slot(media.contentType(), toBuffer(data), media.lastModified());
+        synchronized (this) {
+            Slot previous = entries.put(code, slot);
+            if (previous != null) currentBytes -= previous.weight();
+            currentBytes += slot.weight();
+            evictIfNeeded();
+        }
+    }
+
+    /** Invalida una entrada (solo necesario cuando la media se elimina) */
+    public synchronized void evict(String code) {
+        Slot removed = entries.remove(code);
+        if (removed != null) currentBytes -= removed.weight();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public MediaCacheStatsDto stats() {
+        long h = hits.get();
+        long m = misses.get();
+        int size;
+        long bytes;
+        synchronized (this) {
+            size = entries.size();
+            bytes = currentBytes;
+        }
+        double hitRatio = (h + m) == 0 ? 0.0 : (double) h / (h + m);
+        return new MediaCacheStatsDto(size, bytes, maxBytes, offHeap, h, m, evictions.get(), hitRatio);
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Slot>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Slot eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.weight();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private ByteBuffer toBuffer(byte[] data) {
+        if (!offHeap) return ByteBuffer.wrap(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        return direct.asReadOnlyBuffer();
+    }
+
+    private byte[] toBytes(ByteBuffer buffer) {
+        if (buffer.hasArray()) return buffer.array(); // heap: se comparte el arreglo, nadie lo modifica
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return copy;
+    }
+}
@@ -1,11 +1,14 @@
 package com.utez.edu.sigeabackend.modules.media;
 
+import com.utez.edu.sigeabackend.modules.media.dto.MediaCacheStatsDto;
 import com.utez.edu.sigeabackend.modules.media.dto.MediaUploadResponseDto;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @RestController
@@ -24,12 +27,57 @@ public class MediaController {
         return ResponseEntity.ok(service.storeAndReturnDto(file, purpose));
     }
 
+    /**
+     * GET /sigea/api/media/raw/{code}?size=thumb|small|full - Imagen original o una variante.
+     * Si la variante no se generará (imagen pequeña o formato sin decodificador) el original
+     * se entrega con la etiqueta y la caché larga de la variante. Solo mientras la variante
+     * está pendiente se entrega sin caché larga, para que el navegador la vuelva a pedir.
+     */
     @GetMapping("/raw/{code}")
-    public ResponseEntity<byte[]> raw(@PathVariable String code) {
-        MediaEntity m = service.getByCode(code);
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(m.getContentType()))
-                .cacheControl(CacheControl.maxAge(30, TimeUnit.DAYS))
-                .body(m.getData());
+    public ResponseEntity<byte[]> raw(@PathVariable String code,
+                                      @RequestParam(required = false) String size,
+                                      WebRequest request) {
+        MediaVariantEntity.Size variant = MediaVariantEntity.Size.fromParam(size);
+        String variantTag = variant == null ? code : code + "-" + variant.name().toLowerCase();
+
+        // La media es inmutable por código: el propio código es un ETag fuerte y la
+        // revalidación se responde con 304 sin consultar caché ni base de datos
+        if (request.checkNotModified(variantTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(variantTag)
+                    .cacheControl(CacheControl.maxAge(30, TimeUnit.DAYS))
+                    .build();
+        }
+
+        if (variant != null) {
+            Optional<MediaCache.CachedMedia> resized = service.getVariant(code, variant);
+            if (resized.isPresent()) {
+                return body(resized.get(), variantTag, CacheControl.maxAge(30, TimeUnit.DAYS));
+            }
+            if (service.variantsProcessed(code)) {
+                return body(service.getRaw(code), variantTag, CacheControl.maxAge(30, TimeUnit.DAYS));
+            }
+            // Con la etiqueta del original la revalidación no coincide y trae la variante ya generada
+            return body(service.getRaw(code), code, CacheControl.noCache());
+        }
+
+        return body(service.getRaw(code), code, CacheControl.maxAge(30, TimeUnit.DAYS));
+    }
+
+    /** GET /sigea/api/media/cache/stats - Métricas de la caché de media (hits/misses/bytes) */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<MediaCacheStatsDto> cacheStats() {
+        return ResponseEntity.ok(service.cacheStats());
+    }
+
+    private static ResponseEntity<byte[]> body(MediaCache.CachedMedia m, String etag, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(m.contentType()))
+                .cacheControl(cacheControl)
+                .eTag(etag);
+        if (m.lastModified() > 0) {
+            response.lastModified(m.lastModified());
+        }
+        return response.body(m.data());
     }
 }
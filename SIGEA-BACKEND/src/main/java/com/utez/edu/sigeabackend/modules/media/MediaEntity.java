@@ -6,7 +6,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "media",
         indexes = { @Index(name = "idx_media_purpose", columnList = "purpose"),
-                @Index(name = "idx_media_code",    columnList = "code", unique = true) })
+                @Index(name = "idx_media_code",    columnList = "code", unique = true),
+                @Index(name = "idx_media_hash",    columnList = "content_hash") })
 public class MediaEntity {
 
     @Id
@@ -27,6 +28,14 @@ public class MediaEntity {
     @Column(nullable = false)
     private Long size;
 
+    /* ─── SHA-256 del contenido (hex); mismo contenido => misma fila ─── */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /* ─── usuarios/carreras que apuntan a esta media; en 0 la recoge el barrido ─── */
+    @Column(name = "ref_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int refCount;
+
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, columnDefinition = "LONGBLOB")
     private byte[] data;
@@ -35,6 +44,14 @@ public class MediaEntity {
     @Column(length = 20, nullable = false)
     private Purpose purpose;
 
+    /* ─── última vez que la deduplicación la entregó; el barrido respeta la gracia desde aquí ─── */
+    @Column(name = "reused_at")
+    private LocalDateTime reusedAt;
+
+    /* ─── cuándo terminó el intento de generar variantes; null = pendiente ─── */
+    @Column(name = "variants_processed_at")
+    private LocalDateTime variantsProcessedAt;
+
     @Column(name = "created_at",
             nullable = false,
             updatable = false,
@@ -62,12 +79,24 @@ public class MediaEntity {
     public Long getSize()              { return size; }
     public void setSize(Long s)        { this.size = s; }
 
+    public String getContentHash()     { return contentHash; }
+    public void setContentHash(String h) { this.contentHash = h; }
+
+    public int getRefCount()           { return refCount; }
+    public void setRefCount(int r)     { this.refCount = r; }
+
     public byte[] getData()            { return data; }
     public void setData(byte[] d)      { this.data = d; }
 
     public Purpose getPurpose()        { return purpose; }
     public void setPurpose(Purpose p)  { this.purpose = p; }
 
+    public LocalDateTime getReusedAt() { return reusedAt; }
+    public void setReusedAt(LocalDateTime t) { this.reusedAt = t; }
+
+    public LocalDateTime getVariantsProcessedAt() { return variantsProcessedAt; }
+    public void setVariantsProcessedAt(LocalDateTime t) { this.variantsProcessedAt = t; }
+
     public LocalDateTime getCreatedAt(){ return createdAt; }
     public void setCreatedAt(LocalDateTime t) { this.createdAt = t; }
 }
@@ -0,0 +1,73 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Barrido periódico de la media huérfana (avatares e imágenes de carrera que ya
+ * nadie referencia). Las fotos de stock y tarjetas no tienen dueño y nunca se borran.
+ * También calcula el hash de las filas antiguas para que participen en la deduplicación.
+ */
+@Component
+public class MediaGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaGarbageCollector.class);
+
+    private static final Set<MediaEntity.Purpose> COLLECTABLE =
+            EnumSet.of(MediaEntity.Purpose.AVATAR, MediaEntity.Purpose.CAREER_IMAGE);
+    private static final int BATCH_SIZE = 100;
+    private static final int HASH_BATCH_SIZE = 20;
+
+    private final MediaRepository repo;
+    private final MediaVariantRepository variantRepo;
+    private final MediaService mediaService;
+    private final long graceMinutes;
+
+    public MediaGarbageCollector(MediaRepository repo,
+                                 MediaVariantRepository variantRepo,
+                                 MediaService mediaService,
+                                 @Value("${sigea.media.gc.grace-minutes:60}") long graceMinutes) {
+        this.repo = repo;
+        this.variantRepo = variantRepo;
+        this.mediaService = mediaService;
+        this.graceMinutes = graceMinutes;
+    }
+
+    /* El periodo de gracia evita borrar una subida cuyo dueño aún no se guarda */
+    @Scheduled(initialDelayString = "${sigea.media.gc.initial-delay-ms:300000}",
+               fixedDelayString = "${sigea.media.gc.interval-ms:3600000}")
+    @Transactional
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(graceMinutes);
+        List<Long> candidates = repo.findOrphanIds(COLLECTABLE, before, PageRequest.of(0, BATCH_SIZE));
+        List<Long> ids = candidates.isEmpty() ? candidates : repo.lockStillOrphan(candidates, before);
+        if (!ids.isEmpty()) {
+            List<String> codes = repo.findCodesByIdIn(ids);
+            variantRepo.deleteByMediaIdIn(ids);
+            int deleted = repo.deleteByIdIn(ids);
+            codes.forEach(mediaService::evictCached);
+            log.info("Media huérfana eliminada: {}", deleted);
+        }
+
+        backfillHashes();
+    }
+
+    private void backfillHashes() {
+        List<Long> ids = repo.findIdsWithoutHash(PageRequest.of(0, HASH_BATCH_SIZE));
+        for (Long id : ids) {
+            repo.findById(id).ifPresent(m -> m.setContentHash(
+                    HexFormat.of().formatHex(MediaService.sha256().digest(m.getData()))));
+        }
+    }
+}
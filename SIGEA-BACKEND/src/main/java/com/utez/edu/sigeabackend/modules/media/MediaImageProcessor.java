@@ -0,0 +1,103 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Redimensiona y recomprime imágenes con los codecs incluidos en el JDK (ImageIO).
+ * Imágenes con transparencia se guardan como PNG, el resto como JPEG.
+ */
+@Component
+public class MediaImageProcessor {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    public record ProcessedImage(String contentType, int width, int height, byte[] data) {}
+
+    /** Devuelve vacío si ImageIO no puede decodificar el formato (p. ej. SVG o WebP) */
+    public Optional<BufferedImage> decode(byte[] data) throws IOException {
+        return Optional.ofNullable(ImageIO.read(new ByteArrayInputStream(data)));
+    }
+
+    public ProcessedImage resize(BufferedImage source, int maxDimension) throws IOException {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage scaled = scale(source, targetWidth, targetHeight, alpha);
+
+        return alpha
+                ? new ProcessedImage("image/png", targetWidth, targetHeight, writePng(scaled))
+                : new ProcessedImage("image/jpeg", targetWidth, targetHeight, writeJpeg(scaled));
+    }
+
+    /** Reducción progresiva a la mitad para conservar calidad en reducciones grandes */
+    private BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+
+            BufferedImage step = new BufferedImage(w, h, type);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!alpha) {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, w, h);
+                }
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (w != targetWidth || h != targetHeight);
+
+        return current;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) throw new IOException("No hay codificador JPEG disponible");
+        ImageWriter writer = writers.next();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] writePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) throw new IOException("No hay codificador PNG disponible");
+        return out.toByteArray();
+    }
+}
@@ -1,11 +1,89 @@
 package com.utez.edu.sigeabackend.modules.media;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MediaRepository extends JpaRepository<MediaEntity, Long> {
     Optional<MediaEntity> findByCode(String code);
+
+    /* Solo metadatos: no toca la columna data */
+    @Query("SELECT new com.utez.edu.sigeabackend.modules.media.StoredMedia(" +
+            "m.id, m.code, m.fileName, m.contentType, m.size, m.purpose) " +
+            "FROM MediaEntity m WHERE m.contentHash = :hash AND m.purpose = :purpose ORDER BY m.id")
+    List<StoredMedia> findStoredByContentHashAndPurpose(@Param("hash") String contentHash,
+                                                        @Param("purpose") MediaEntity.Purpose purpose,
+                                                        Pageable page);
+
+    /**
+     * Aparta una media entregada por la deduplicación: reinicia su periodo de gracia y deja
+     * la fila bloqueada hasta el commit. Devuelve 0 si el barrido la borró antes.
+     */
+    @Modifying
+    @Query("UPDATE MediaEntity m SET m.reusedAt = CURRENT_TIMESTAMP WHERE m.id = :id")
+    int markReused(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MediaEntity m SET m.refCount = m.refCount + 1 WHERE m.id = :id")
+    int incrementRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MediaEntity m SET m.refCount = CASE WHEN m.refCount > 0 THEN m.refCount - 1 ELSE 0 END WHERE m.id = :id")
+    int decrementRefCount(@Param("id") Long id);
+
+    /**
+     * Media huérfana: sin referencias contadas y, por seguridad, sin ningún usuario
+     * o carrera apuntándole (filas anteriores al conteo tienen ref_count = 0)
+     */
+    @Query("SELECT m.id FROM MediaEntity m " +
+            "WHERE m.refCount <= 0 AND m.purpose IN :purposes AND m.createdAt < :before " +
+            "AND (m.reusedAt IS NULL OR m.reusedAt < :before) " +
+            "AND NOT EXISTS (SELECT 1 FROM UserEntity u WHERE u.avatar = m) " +
+            "AND NOT EXISTS (SELECT 1 FROM CareerEntity c WHERE c.image = m) " +
+            "ORDER BY m.id")
+    List<Long> findOrphanIds(@Param("purposes") Collection<MediaEntity.Purpose> purposes,
+                             @Param("before") LocalDateTime before,
+                             Pageable page);
+
+    /**
+     * Vuelve a comprobar las huérfanas con bloqueo de escritura justo antes de borrarlas:
+     * una deduplicación o referencia que llegó después de {@link #findOrphanIds} la rescata.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id FROM MediaEntity m " +
+            "WHERE m.id IN :ids AND m.refCount <= 0 " +
+            "AND (m.reusedAt IS NULL OR m.reusedAt < :before)")
+    List<Long> lockStillOrphan(@Param("ids") Collection<Long> ids, @Param("before") LocalDateTime before);
+
+    @Query("SELECT m.code FROM MediaEntity m WHERE m.id IN :ids")
+    List<String> findCodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.id FROM MediaEntity m WHERE m.contentHash IS NULL ORDER BY m.id")
+    List<Long> findIdsWithoutHash(Pageable page);
+
+    /* Ya se intentó generar variantes: las que no existan no se van a generar */
+    boolean existsByCodeAndVariantsProcessedAtIsNotNull(String code);
+
+    @Modifying
+    @Query("UPDATE MediaEntity m SET m.variantsProcessedAt = CURRENT_TIMESTAMP WHERE m.id = :id")
+    int markVariantsProcessed(@Param("id") Long id);
+
+    /* Media anterior a las variantes o cuyo procesamiento se perdió (reinicio, error) */
+    @Query("SELECT m.id FROM MediaEntity m WHERE m.variantsProcessedAt IS NULL AND m.createdAt < :before ORDER BY m.id")
+    List<Long> findIdsWithoutProcessedVariants(@Param("before") LocalDateTime before, Pageable page);
+
+    @Modifying
+    @Query("DELETE FROM MediaEntity m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
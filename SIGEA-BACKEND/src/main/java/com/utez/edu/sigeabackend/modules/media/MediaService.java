@@ -1,28 +1,101 @@
 package com.utez.edu.sigeabackend.modules.media;
 
+import com.utez.edu.sigeabackend.modules.media.dto.MediaCacheStatsDto;
 import com.utez.edu.sigeabackend.modules.media.dto.MediaUploadResponseDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Objects;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class MediaService {
 
-    private static final long MAX_SIZE = 5 * 1024 * 1024; // 2 MB
+    private static final long MAX_SIZE = 5 * 1024 * 1024; // 5 MB
+    private static final int BUFFER_SIZE = 8 * 1024;
     private final MediaRepository repo;
+    private final MediaVariantRepository variantRepo;
+    private final MediaBlobWriter blobWriter;
+    private final MediaCache cache;
+    private final ApplicationEventPublisher events;
 
-    public MediaService(MediaRepository repo) { this.repo = repo; }
+    public MediaService(MediaRepository repo,
+                        MediaVariantRepository variantRepo,
+                        MediaBlobWriter blobWriter,
+                        MediaCache cache,
+                        ApplicationEventPublisher events) {
+        this.repo = repo;
+        this.variantRepo = variantRepo;
+        this.blobWriter = blobWriter;
+        this.cache = cache;
+        this.events = events;
+    }
 
+    @Transactional
     public MediaUploadResponseDto storeAndReturnDto(
             MultipartFile file,
             MediaEntity.Purpose purpose) throws IOException {
 
-        MediaEntity saved = store(file, purpose);
-        return toDto(saved);
+        return toDto(store(file, purpose));
+    }
+
+    /**
+     * Guarda la subida o, si ya existe una media con el mismo contenido (SHA-256) y el
+     * mismo propósito, devuelve esa fila sin volver a copiar los bytes. La fila reusada se
+     * aparta del barrido de huérfanas en la misma transacción, antes de devolverla.
+     * El archivo nunca se carga completo en memoria: una primera pasada con un buffer
+     * fijo detecta el tipo real, mide y calcula el hash; la segunda lo envía como
+     * stream a la base de datos solo si el contenido es nuevo.
+     */
+    @Transactional
+    public StoredMedia store(MultipartFile file, MediaEntity.Purpose purpose) throws IOException {
+        if (file.isEmpty()) throw new IllegalArgumentException("Archivo vacío");
+
+        ScannedUpload upload = scan(file);
+        Optional<StoredMedia> existing = repo.findStoredByContentHashAndPurpose(upload.hash(), purpose, PageRequest.of(0, 1))
+                .stream().findFirst();
+        if (existing.isPresent() && repo.markReused(existing.get().id()) == 1) return existing.get();
+
+        String code = UUID.randomUUID().toString();
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : code;
+        Long id = blobWriter.insert(code, fileName, upload.contentType(), upload.size(),
+                purpose, upload.hash(), file.getInputStream());
+
+        // Las variantes se generan en segundo plano una vez confirmada la transacción
+        events.publishEvent(new MediaStoredEvent(id));
+        return new StoredMedia(id, code, fileName, upload.contentType(), upload.size(), purpose);
+    }
+
+    /** Referencia perezosa para asignar como avatar/imagen sin cargar el BLOB */
+    public MediaEntity reference(StoredMedia media) {
+        return repo.getReferenceById(media.id());
+    }
+
+    /**
+     * Mueve una referencia (avatar de usuario, imagen de carrera) de una media a otra.
+     * La anterior queda huérfana si nadie más la usa y la recoge {@link MediaGarbageCollector}.
+     */
+    @Transactional
+    public void replaceReference(MediaEntity previous, MediaEntity next) {
+        if (previous != null && next != null && previous.getId().equals(next.getId())) return;
+        if (next != null) repo.incrementRefCount(next.getId());
+        if (previous != null) repo.decrementRefCount(previous.getId());
+    }
+
+    @Transactional
+    public void releaseReference(MediaEntity media) {
+        replaceReference(media, null);
     }
 
     public MediaEntity getByCode(String code) {
@@ -30,36 +103,114 @@ public class MediaService {
                 .orElseThrow(() -> new EntityNotFoundException("Media not found"));
     }
 
-    private MediaEntity store(MultipartFile file,
-                              MediaEntity.Purpose purpose) throws IOException {
+    /** Bytes + content type para servir /raw; se leen de la caché antes de ir a la BD */
+    @Transactional(readOnly = true)
+    public MediaCache.CachedMedia getRaw(String code) {
+        MediaCache.CachedMedia cached = cache.get(code);
+        if (cached != null) return cached;
+
+        MediaEntity m = getByCode(code);
+        MediaCache.CachedMedia loaded = new MediaCache.CachedMedia(
+                m.getContentType(), m.getData(), toEpochMillis(m.getCreatedAt()));
+        cache.put(code, loaded);
+        return loaded;
+    }
+
+    /**
+     * Variante redimensionada; vacío si aún no se genera o si la imagen no la necesita
+     * (formato no soportado o el original ya es más ligero).
+     */
+    @Transactional(readOnly = true)
+    public Optional<MediaCache.CachedMedia> getVariant(String code, MediaVariantEntity.Size size) {
+        String key = variantKey(code, size);
+        MediaCache.CachedMedia cached = cache.get(key);
+        if (cached != null) return Optional.of(cached);
 
-        validate(file);
+        return variantRepo.findByMediaCodeAndSize(code, size).map(v -> {
+            MediaCache.CachedMedia loaded = new MediaCache.CachedMedia(
+                    v.getContentType(), v.getData(), toEpochMillis(v.getCreatedAt()));
+            cache.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    /** Si ya se intentó generar variantes: una variante que falta ya no va a aparecer */
+    @Transactional(readOnly = true)
+    public boolean variantsProcessed(String code) {
+        return repo.existsByCodeAndVariantsProcessedAtIsNotNull(code);
+    }
+
+    @Transactional
+    public void delete(String code) {
+        repo.findByCode(code).ifPresent(m -> {
+            variantRepo.deleteByMediaId(m.getId());
+            repo.delete(m);
+        });
+        evictCached(code);
+    }
+
+    /** Quita de la caché el original y todas sus variantes */
+    void evictCached(String code) {
+        cache.evict(code);
+        for (MediaVariantEntity.Size size : MediaVariantEntity.Size.values()) {
+            cache.evict(variantKey(code, size));
+        }
+    }
 
-        MediaEntity m = new MediaEntity();
-        m.setCode(UUID.randomUUID().toString());
-        m.setFileName(file.getOriginalFilename());
-        m.setContentType(file.getContentType());
-        m.setSize(file.getSize());
-        m.setData(file.getBytes());
-        m.setPurpose(purpose);
+    public MediaCacheStatsDto cacheStats() {
+        return cache.stats();
+    }
+
+    private record ScannedUpload(String contentType, long size, String hash) {}
+
+    /* Primera pasada: tipo por magic bytes, límite de tamaño y SHA-256 con un buffer fijo */
+    private ScannedUpload scan(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        String contentType = null;
+        long size = 0;
+
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (contentType == null) {
+                    contentType = ImageSignature.detect(buffer, read)
+                            .orElseThrow(() -> new IllegalArgumentException("Solo imágenes (JPEG, PNG, GIF o WebP)"));
+                }
+                size += read;
+                if (size > MAX_SIZE) throw new IllegalArgumentException("Archivo > 5 MB");
+                digest.update(buffer, 0, read);
+            }
+        }
+        if (size == 0) throw new IllegalArgumentException("Archivo vacío");
+
+        return new ScannedUpload(contentType, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
 
-        return repo.save(m);
+    private static String variantKey(String code, MediaVariantEntity.Size size) {
+        return code + ":" + size.name();
     }
 
-    private void validate(MultipartFile file) {
-        if (file.isEmpty())                              throw new IllegalArgumentException("Archivo vacío");
-        if (file.getSize() > MAX_SIZE)                   throw new IllegalArgumentException("Archivo > 5 MB");
-        if (!Objects.requireNonNull(file.getContentType()).startsWith("image/")) throw new IllegalArgumentException("Solo imágenes");
+    private static long toEpochMillis(LocalDateTime t) {
+        return t != null ? t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
     }
 
-    private MediaUploadResponseDto toDto(MediaEntity m) {
+    public MediaUploadResponseDto toDto(StoredMedia m) {
         return new MediaUploadResponseDto(
-                m.getId(),
-                m.getFileName(),
-                m.getContentType(),
-                m.getSize(),
-                m.getPurpose().name(),
-                "/sigea/api/media/raw/" + m.getCode()
+                m.id(),
+                m.fileName(),
+                m.contentType(),
+                m.size(),
+                m.purpose().name(),
+                "/sigea/api/media/raw/" + m.code()
         );
     }
 }
@@ -0,0 +1,4 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+/** Se publica al guardar una media nueva; dispara la generación de variantes */
+public record MediaStoredEvent(Long mediaId) {}
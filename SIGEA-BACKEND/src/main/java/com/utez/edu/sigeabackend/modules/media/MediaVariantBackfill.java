@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Procesa por lotes la media que nunca pasó por {@link MediaVariantService}: la subida
+ * antes de que existieran las variantes y la que perdió su evento (reinicio, error).
+ * Hasta que se procesa, /raw?size= la sirve sin caché larga.
+ */
+@Component
+public class MediaVariantBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaVariantBackfill.class);
+
+    /* Las subidas recientes aún tienen su evento en el executor de media */
+    private static final long PENDING_GRACE_MINUTES = 5;
+
+    private final MediaRepository repo;
+    private final MediaVariantService variantService;
+    private final int batchSize;
+
+    public MediaVariantBackfill(MediaRepository repo,
+                                MediaVariantService variantService,
+                                @Value("${sigea.media.variants.backfill-batch-size:20}") int batchSize) {
+        this.repo = repo;
+        this.variantService = variantService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${sigea.media.variants.backfill-initial-delay-ms:120000}",
+               fixedDelayString = "${sigea.media.variants.backfill-interval-ms:60000}")
+    public void backfill() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(PENDING_GRACE_MINUTES);
+        List<Long> ids = repo.findIdsWithoutProcessedVariants(before, PageRequest.of(0, batchSize));
+        for (Long id : ids) {
+            try {
+                variantService.process(id);
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron procesar las variantes de la media {}", id, e);
+            }
+        }
+        if (!ids.isEmpty()) log.info("Variantes de media procesadas en segundo plano: {}", ids.size());
+    }
+}
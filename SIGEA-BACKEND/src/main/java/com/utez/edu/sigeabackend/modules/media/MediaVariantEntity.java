@@ -0,0 +1,99 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import jakarta.persistence.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión redimensionada/recomprimida de una imagen. Se guarda junto al original
+ * y se sirve con /sigea/api/media/raw/{code}?size=thumb|small|full
+ */
+@Entity
+@Table(name = "media_variant",
+        uniqueConstraints = { @UniqueConstraint(name = "uq_media_variant_size", columnNames = {"media_id", "size"}) })
+public class MediaVariantEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "variant_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "media_id", nullable = false, foreignKey = @ForeignKey(name = "fk_variant_media"))
+    private MediaEntity media;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private Size size;
+
+    @Column(name = "content_type", length = 100, nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Lob @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+
+    @Column(name = "created_at",
+            nullable = false,
+            updatable = false,
+            columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    /** Tamaños fijos: lado mayor máximo en píxeles */
+    public enum Size {
+        THUMB(64), SMALL(256), FULL(1280);
+
+        private final int maxDimension;
+
+        Size(int maxDimension) { this.maxDimension = maxDimension; }
+
+        public int getMaxDimension() { return maxDimension; }
+
+        /** null / vacío / "original" => sin variante */
+        public static Size fromParam(String value) {
+            if (value == null || value.isBlank() || "original".equalsIgnoreCase(value)) return null;
+            try {
+                return Size.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Tamaño inválido: " + value + " (thumb, small, full u original)");
+            }
+        }
+    }
+
+    @PrePersist
+    protected void onCreate() { createdAt = LocalDateTime.now(); }
+
+    /* getters / setters */
+    public Long getId()                    { return id; }
+    public void setId(Long id)             { this.id = id; }
+
+    public MediaEntity getMedia()          { return media; }
+    public void setMedia(MediaEntity m)    { this.media = m; }
+
+    public Size getSize()                  { return size; }
+    public void setSize(Size s)            { this.size = s; }
+
+    public String getContentType()         { return contentType; }
+    public void setContentType(String c)   { this.contentType = c; }
+
+    public Integer getWidth()              { return width; }
+    public void setWidth(Integer w)        { this.width = w; }
+
+    public Integer getHeight()             { return height; }
+    public void setHeight(Integer h)       { this.height = h; }
+
+    public byte[] getData()                { return data; }
+    public void setData(byte[] d)          { this.data = d; }
+
+    public LocalDateTime getCreatedAt()    { return createdAt; }
+    public void setCreatedAt(LocalDateTime t) { this.createdAt = t; }
+}
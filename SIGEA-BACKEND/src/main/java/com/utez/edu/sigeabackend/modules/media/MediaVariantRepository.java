@@ -0,0 +1,28 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface MediaVariantRepository extends JpaRepository<MediaVariantEntity, Long> {
+
+    @Query("SELECT v FROM MediaVariantEntity v WHERE v.media.code = :code AND v.size = :size")
+    Optional<MediaVariantEntity> findByMediaCodeAndSize(@Param("code") String code,
+                                                        @Param("size") MediaVariantEntity.Size size);
+
+    boolean existsByMediaId(Long mediaId);
+
+    @Modifying
+    @Query("DELETE FROM MediaVariantEntity v WHERE v.media.id = :mediaId")
+    int deleteByMediaId(@Param("mediaId") Long mediaId);
+
+    @Modifying
+    @Query("DELETE FROM MediaVariantEntity v WHERE v.media.id IN :mediaIds")
+    int deleteByMediaIdIn(@Param("mediaIds") Collection<Long> mediaIds);
+}
@@ -0,0 +1,92 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Genera las variantes thumb/small/full de cada imagen subida. Corre en el
+ * executor de media después del commit, así la subida no espera al redimensionado.
+ */
+@Service
+public class MediaVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaVariantService.class);
+
+    private final MediaRepository mediaRepository;
+    private final MediaVariantRepository variantRepository;
+    private final MediaImageProcessor processor;
+
+    public MediaVariantService(MediaRepository mediaRepository,
+                               MediaVariantRepository variantRepository,
+                               MediaImageProcessor processor) {
+        this.mediaRepository = mediaRepository;
+        this.variantRepository = variantRepository;
+        this.processor = processor;
+    }
+
+    @Async("mediaExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMediaStored(MediaStoredEvent event) {
+        process(event.mediaId());
+    }
+
+    /**
+     * Genera las variantes de una media y la marca como procesada, también cuando no
+     * resulta ninguna (imagen pequeña, formato sin decodificador): así /raw sabe que
+     * puede servir el original con caché larga en lugar de esperar una variante.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void process(Long mediaId) {
+        mediaRepository.findById(mediaId).ifPresent(media -> {
+            generateVariants(media);
+            mediaRepository.markVariantsProcessed(media.getId());
+        });
+    }
+
+    private void generateVariants(MediaEntity media) {
+        if (variantRepository.existsByMediaId(media.getId())) return;
+
+        byte[] original = media.getData();
+        Optional<BufferedImage> decoded;
+        try {
+            decoded = processor.decode(original);
+        } catch (IOException e) {
+            log.warn("No se pudo leer la imagen {}: {}", media.getCode(), e.getMessage());
+            return;
+        }
+        if (decoded.isEmpty()) {
+            // Formato sin decodificador en ImageIO (SVG, WebP...): se sirve solo el original
+            return;
+        }
+
+        BufferedImage image = decoded.get();
+        for (MediaVariantEntity.Size size : MediaVariantEntity.Size.values()) {
+            try {
+                MediaImageProcessor.ProcessedImage out = processor.resize(image, size.getMaxDimension());
+                // Si recomprimir no reduce el peso, la variante no aporta nada
+                if (out.data().length >= original.length) continue;
+
+                MediaVariantEntity v = new MediaVariantEntity();
+                v.setMedia(media);
+                v.setSize(size);
+                v.setContentType(out.contentType());
+                v.setWidth(out.width());
+                v.setHeight(out.height());
+                v.setData(out.data());
+                variantRepository.save(v);
+            } catch (IOException e) {
+                log.warn("No se pudo generar la variante {} de {}: {}", size, media.getCode(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.utez.edu.sigeabackend.modules.media;
+
+/**
+ * Metadatos de una media ya guardada, sin los bytes. Es lo que devuelve la subida
+ * para no volver a cargar el BLOB solo para armar la respuesta.
+ */
+public record StoredMedia(
+        Long id,
+        String code,
+        String fileName,
+        String contentType,
+        Long size,
+        MediaEntity.Purpose purpose
+) {}
@@ -0,0 +1,12 @@
+package com.utez.edu.sigeabackend.modules.media.dto;
+
+public record MediaCacheStatsDto(
+        int     entries,
+        long    currentBytes,
+        long    maxBytes,
+        boolean offHeap,
+        long    hits,
+        long    misses,
+        long    evictions,
+        double  hitRatio
+) {}
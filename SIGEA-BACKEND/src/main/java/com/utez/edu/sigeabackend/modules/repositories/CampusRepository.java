@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,13 @@ public interface CampusRepository extends JpaRepository<CampusEntity, Long> {
             "WHERE e.user.id = :studentId " +
             "AND e.status = 'ACTIVE'")
     Optional<CampusEntity> findCampusByStudentId(@Param("studentId") Long studentId);
+
+    // Conteos para CampusDto sin inicializar las colecciones de usuarios
+    @Query("SELECT u.campus.id AS id, COUNT(u) AS total FROM UserEntity u " +
+            "WHERE u.campus.id IN :campusIds GROUP BY u.campus.id")
+    List<IdCountProjection> countUsersByCampusIds(@Param("campusIds") Collection<Long> campusIds);
+
+    @Query("SELECT s.campus.id AS id, COUNT(s) AS total FROM UserCampusSupervisionEntity s " +
+            "WHERE s.campus.id IN :campusIds GROUP BY s.campus.id")
+    List<IdCountProjection> countSupervisorsByCampusIds(@Param("campusIds") Collection<Long> campusIds);
 }
\ No newline at end of file
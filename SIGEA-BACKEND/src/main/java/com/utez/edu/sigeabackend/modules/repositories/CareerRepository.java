@@ -2,10 +2,13 @@ package com.utez.edu.sigeabackend.modules.repositories;
 
 import com.utez.edu.sigeabackend.modules.entities.CareerEntity;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.PublicCareerDto;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,9 +26,29 @@ public interface CareerRepository extends JpaRepository<CareerEntity, Long> {
 
     @Query("SELECT new com.utez.edu.sigeabackend.modules.entities.dto.academics.PublicCareerDto(" +
             "c.id, c.name, c.campus.name, " +
-            "CONCAT('/sigea/api/media/raw/', c.image.code)) " +
+            "CONCAT('/sigea/api/media/raw/', c.image.code, '?size=full')) " +
             "FROM CareerEntity c " +
             "WHERE c.image IS NOT NULL " +
             "ORDER BY c.name ASC")
     List<PublicCareerDto> findCareersWithImages();
+
+    // Listado con el campus en el mismo SELECT (evita una consulta por campus)
+    @EntityGraph(attributePaths = {"campus"})
+    @Query("SELECT c FROM CareerEntity c")
+    List<CareerEntity> findAllWithCampus();
+
+    @EntityGraph(attributePaths = {"campus"})
+    @Query("SELECT c FROM CareerEntity c WHERE c.campus.id = :campusId")
+    List<CareerEntity> findByCampusIdWithCampus(@Param("campusId") Long campusId);
+
+    // Conteos para CareerDto sin recorrer grupos ni inscripciones
+    @Query("SELECT g.career.id AS id, COUNT(g) AS total FROM GroupEntity g " +
+            "WHERE g.career.id IN :careerIds GROUP BY g.career.id")
+    List<IdCountProjection> countGroupsByCareerIds(@Param("careerIds") Collection<Long> careerIds);
+
+    @Query("SELECT e.career.id AS id, r.roleName AS roleName, COUNT(e) AS total " +
+            "FROM UserCareerEnrollmentEntity e JOIN e.user u JOIN u.role r " +
+            "WHERE e.career.id IN :careerIds AND e.status = 'ACTIVE' " +
+            "GROUP BY e.career.id, r.roleName")
+    List<RoleCountProjection> countActiveEnrollmentsByCareerIdsAndRole(@Param("careerIds") Collection<Long> careerIds);
 }
\ No newline at end of file
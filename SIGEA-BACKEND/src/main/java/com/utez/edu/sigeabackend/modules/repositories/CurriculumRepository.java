@@ -2,6 +2,8 @@ package com.utez.edu.sigeabackend.modules.repositories;
 
 import com.utez.edu.sigeabackend.modules.entities.CurriculumEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,10 @@ import java.util.List;
 @Repository
 public interface CurriculumRepository extends JpaRepository<CurriculumEntity, Long> {
     List<CurriculumEntity> findByCareerId(Long careerId);
-}
\ No newline at end of file
+
+    @Query("SELECT c.id FROM CurriculumEntity c WHERE c.career.id = :careerId ORDER BY c.id")
+    List<Long> findIdsByCareerId(@Param("careerId") Long careerId);
+
+    @Query("SELECT c.id FROM CurriculumEntity c ORDER BY c.id")
+    List<Long> findAllIds();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -34,4 +35,14 @@ public interface GroupRepository extends JpaRepository<GroupEntity, Long> {
 
     // Buscar grupos por estado
     List<GroupEntity> findByStatus(GroupStatus status);
+
+    // Grupos con el estado indicado que no han terminado (opcionalmente de una carrera), sin cargar entidades
+    @Query("SELECT g.id AS id, g.name AS name, g.startDate AS startDate, " +
+            "g.career.id AS careerId, g.curriculum.id AS curriculumId " +
+            "FROM GroupEntity g " +
+            "WHERE g.status = :status AND g.endDate >= :today " +
+            "AND (:careerId IS NULL OR g.career.id = :careerId)")
+    List<GroupScheduleProjection> findSchedules(@Param("status") GroupStatus status,
+                                                @Param("today") LocalDate today,
+                                                @Param("careerId") Long careerId);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+/**
+ * Fila de la lista de un grupo: alumno, carrera del grupo y resumen de sus
+ * inscripciones activas a carreras, resuelto en la misma consulta
+ */
+public interface GroupRosterProjection {
+    Long getGroupId();
+    Long getStudentId();
+    String getName();
+    String getPaternalSurname();
+    String getMaternalSurname();
+    String getEmail();
+    String getPrimaryRegistrationNumber();
+    Long getActiveEnrollments();
+    Long getCareerId();
+}
@@ -0,0 +1,14 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+import java.time.LocalDate;
+
+/**
+ * Datos mínimos de un grupo para ubicarlo en la línea de tiempo de su plan de estudios
+ */
+public interface GroupScheduleProjection {
+    Long getId();
+    String getName();
+    LocalDate getStartDate();
+    Long getCareerId();
+    Long getCurriculumId();
+}
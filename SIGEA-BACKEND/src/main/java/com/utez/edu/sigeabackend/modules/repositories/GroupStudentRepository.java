@@ -1,15 +1,25 @@
 package com.utez.edu.sigeabackend.modules.repositories;
 
 import com.utez.edu.sigeabackend.modules.entities.GroupStudentEntity;
+import com.utez.edu.sigeabackend.modules.entities.GroupStudentStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface GroupStudentRepository extends JpaRepository<GroupStudentEntity, GroupStudentEntity.Id> {
@@ -35,12 +45,6 @@ public interface GroupStudentRepository extends JpaRepository<GroupStudentEntity
     List<GroupStudentEntity> findByStudentIdAndCareerId(@Param("studentId") Long studentId,
                                                         @Param("careerId") Long careerId);
 
-    /**
-     * Encuentra estudiantes ACTIVOS en un grupo específico
-     */
-    @Query("SELECT gs FROM GroupStudentEntity gs WHERE gs.group.id = :groupId AND gs.status = 'ACTIVE'")
-    List<GroupStudentEntity> findActiveByGroupId(@Param("groupId") long groupId);
-
     /**
      * Encuentra todas las inscripciones (activas e inactivas) de un estudiante
      */
@@ -59,12 +63,57 @@ public interface GroupStudentRepository extends JpaRepository<GroupStudentEntity
     @Query("SELECT COUNT(gs) > 0 FROM GroupStudentEntity gs WHERE gs.student.id = :studentId AND gs.group.id = :groupId AND gs.status = 'ACTIVE'")
     boolean isStudentActiveInGroup(@Param("studentId") long studentId, @Param("groupId") long groupId);
 
+    // Lista de alumnos: una fila por inscripción activa con la matrícula agregada
+    String ROSTER_SELECT = "SELECT g.id AS groupId, s.id AS studentId, s.name AS name, " +
+            "s.paternalSurname AS paternalSurname, s.maternalSurname AS maternalSurname, s.email AS email, " +
+            "MIN(e.registrationNumber) AS primaryRegistrationNumber, COUNT(e.id) AS activeEnrollments, " +
+            "c.id AS careerId " +
+            "FROM GroupStudentEntity gs " +
+            "JOIN gs.group g " +
+            "LEFT JOIN g.career c " +
+            "JOIN gs.student s " +
+            "LEFT JOIN s.careerEnrollments e ON e.status = 'ACTIVE' " +
+            "WHERE gs.status = 'ACTIVE' ";
+    String ROSTER_GROUP_BY = "GROUP BY g.id, s.id, s.name, s.paternalSurname, s.maternalSurname, s.email, c.id ";
+
     /**
-     * Encuentra todos los estudiantes activos con información completa
+     * Alumnos activos de un grupo, ordenados por apellidos
      */
-    @Query("SELECT gs FROM GroupStudentEntity gs " +
-            "JOIN FETCH gs.student s " +
-            "JOIN FETCH gs.group g " +
-            "WHERE gs.status = 'ACTIVE'")
-    List<GroupStudentEntity> findAllActiveWithDetails();
+    @Query(ROSTER_SELECT + "AND g.id = :groupId " + ROSTER_GROUP_BY +
+            "ORDER BY s.paternalSurname, s.maternalSurname, s.name")
+    List<GroupRosterProjection> findRosterByGroupId(@Param("groupId") long groupId);
+
+    /**
+     * Alumnos activos de todos los grupos
+     */
+    @Query(ROSTER_SELECT + ROSTER_GROUP_BY + "ORDER BY g.id, s.id")
+    List<GroupRosterProjection> findActiveRoster();
+
+    /**
+     * Igual que {@link #findActiveRoster()} pero leyendo fila por fila del driver
+     * (fetch size MIN_VALUE en MySQL); se debe consumir y cerrar dentro de la transacción
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROSTER_SELECT + ROSTER_GROUP_BY + "ORDER BY g.id, s.id")
+    Stream<GroupRosterProjection> streamActiveRoster();
+
+    /**
+     * Ids de los estudiantes (de la lista dada) que tienen inscripción en el grupo, sin importar su estado
+     */
+    @Query("SELECT gs.id.studentId FROM GroupStudentEntity gs WHERE gs.id.groupId = :groupId AND gs.id.studentId IN :studentIds")
+    List<Long> findEnrolledStudentIds(@Param("groupId") long groupId, @Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Cambia el estado de varias inscripciones de un grupo en una sola sentencia
+     */
+    @Modifying
+    @Query("UPDATE GroupStudentEntity gs SET gs.status = :status, gs.exitDate = :exitDate " +
+            "WHERE gs.id.groupId = :groupId AND gs.id.studentId IN :studentIds")
+    int updateStatusForStudents(@Param("groupId") long groupId,
+                                @Param("studentIds") Collection<Long> studentIds,
+                                @Param("status") GroupStudentStatus status,
+                                @Param("exitDate") LocalDateTime exitDate);
 }
@@ -0,0 +1,9 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+/**
+ * Resultado de un conteo agrupado por id (SELECT x.id AS id, COUNT(..) AS total ... GROUP BY x.id)
+ */
+public interface IdCountProjection {
+    Long getId();
+    Long getTotal();
+}
@@ -2,11 +2,23 @@ package com.utez.edu.sigeabackend.modules.repositories;
 
 import com.utez.edu.sigeabackend.modules.entities.ModuleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ModuleRepository extends JpaRepository<ModuleEntity, Long> {
     List<ModuleEntity> findByCurriculumId(Long curriculumId);
+
+    /** Módulos con sus materias de varios planes en una sola consulta (caché del catálogo académico) */
+    @Query("SELECT DISTINCT m FROM ModuleEntity m LEFT JOIN FETCH m.subjects " +
+            "WHERE m.curriculum.id IN :curriculumIds")
+    List<ModuleEntity> findWithSubjectsByCurriculumIdIn(@Param("curriculumIds") Collection<Long> curriculumIds);
+
+    @Query("SELECT m.curriculum.id FROM ModuleEntity m WHERE m.id = :id")
+    Optional<Long> findCurriculumIdById(@Param("id") Long id);
 }
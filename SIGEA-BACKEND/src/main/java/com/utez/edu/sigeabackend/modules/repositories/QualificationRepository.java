@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,4 +26,10 @@ public interface QualificationRepository extends JpaRepository<QualificationEnti
      */
     @Query("SELECT COUNT(q) > 0 FROM QualificationEntity q WHERE q.student.id = :studentId AND q.group.id = :groupId AND q.subject.id = :subjectId")
     boolean existsByStudentIdAndGroupIdAndSubjectId(@Param("studentId") Long studentId, @Param("groupId") Long groupId, @Param("subjectId") Long subjectId);
+
+    /**
+     * Calificaciones de varios estudiantes en un grupo (transferencias masivas)
+     */
+    @Query("SELECT q FROM QualificationEntity q WHERE q.group.id = :groupId AND q.student.id IN :studentIds")
+    List<QualificationEntity> findByGroupIdAndStudentIdIn(@Param("groupId") Long groupId, @Param("studentIds") Collection<Long> studentIds);
 }
\ No newline at end of file
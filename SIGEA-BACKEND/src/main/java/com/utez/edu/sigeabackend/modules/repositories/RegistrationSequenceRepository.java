@@ -0,0 +1,43 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+import com.utez.edu.sigeabackend.modules.entities.RegistrationSequenceEntity;
+import com.utez.edu.sigeabackend.modules.entities.RegistrationSequenceEntity.SequenceType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RegistrationSequenceRepository extends JpaRepository<RegistrationSequenceEntity, Long> {
+
+    // Bloquea la fila del contador (SELECT ... FOR UPDATE) mientras se reserva un bloque
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RegistrationSequenceEntity s " +
+            "WHERE s.campusId = :campusId AND s.differentiator = :differentiator " +
+            "AND s.yearPrefix = :yearPrefix AND s.sequenceType = :type")
+    Optional<RegistrationSequenceEntity> findForUpdate(@Param("campusId") Long campusId,
+                                                       @Param("differentiator") String differentiator,
+                                                       @Param("yearPrefix") String yearPrefix,
+                                                       @Param("type") SequenceType type);
+
+    // Lectura sin bloqueo para la vista previa de la siguiente matrícula
+    Optional<RegistrationSequenceEntity> findByCampusIdAndDifferentiatorAndYearPrefixAndSequenceType(
+            Long campusId, String differentiator, String yearPrefix, SequenceType sequenceType);
+
+    // Adelanta el contador cuando se captura manualmente una matrícula con el mismo formato
+    @Modifying
+    @Query("UPDATE RegistrationSequenceEntity s SET s.nextValue = :value " +
+            "WHERE s.campusId = :campusId AND s.differentiator = :differentiator " +
+            "AND s.yearPrefix = :yearPrefix AND s.sequenceType = :type " +
+            "AND s.nextValue < :value")
+    int advanceTo(@Param("campusId") Long campusId,
+                  @Param("differentiator") String differentiator,
+                  @Param("yearPrefix") String yearPrefix,
+                  @Param("type") SequenceType type,
+                  @Param("value") int value);
+}
@@ -0,0 +1,10 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+/**
+ * Conteo agrupado por id y nombre de rol (p. ej. inscripciones activas por carrera y rol)
+ */
+public interface RoleCountProjection {
+    Long getId();
+    String getRoleName();
+    Long getTotal();
+}
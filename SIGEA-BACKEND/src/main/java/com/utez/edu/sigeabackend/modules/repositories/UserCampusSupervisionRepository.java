@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,4 +53,15 @@ public interface UserCampusSupervisionRepository extends JpaRepository<UserCampu
             @Param("userId") Long userId,
             @Param("supervisionType") UserCampusSupervisionEntity.SupervisionType supervisionType
     );
-}
\ No newline at end of file
+
+    /**
+     * Asignaciones de varios usuarios en una sola consulta (listados de usuarios)
+     */
+    @Query("SELECT ucs.user.id AS userId, ucs.id AS id, c.id AS campusId, c.name AS campusName, " +
+            "ucs.supervisionType AS supervisionType, ucs.assignedAt AS assignedAt, " +
+            "ucs.assignedByUserId AS assignedByUserId " +
+            "FROM UserCampusSupervisionEntity ucs JOIN ucs.campus c " +
+            "WHERE ucs.user.id IN :userIds " +
+            "ORDER BY ucs.id")
+    List<UserSupervisionProjection> findListingByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
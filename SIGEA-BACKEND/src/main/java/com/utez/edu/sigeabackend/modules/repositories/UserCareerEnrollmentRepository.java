@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,12 @@ public interface UserCareerEnrollmentRepository extends JpaRepository<UserCareer
     // Encontrar por matrícula en un campus específico
     Optional<UserCareerEnrollmentEntity> findByRegistrationNumberAndCampusId(String registrationNumber, Long campusId);
 
+    // Validación masiva de la importación: matrículas ya ocupadas en el campus
+    @Query("SELECT e.registrationNumber FROM UserCareerEnrollmentEntity e " +
+            "WHERE e.campus.id = :campusId AND e.registrationNumber IN :numbers")
+    List<String> findExistingRegistrationNumbers(@Param("campusId") Long campusId,
+                                                 @Param("numbers") Collection<String> numbers);
+
     // Contar inscripciones en una carrera por estado
     @Query("SELECT COUNT(e) FROM UserCareerEnrollmentEntity e WHERE e.career.id = :careerId AND e.status = :status")
     long countByCareerIdAndStatus(@Param("careerId") Long careerId, @Param("status") EnrollmentStatus status);
@@ -51,6 +58,12 @@ public interface UserCareerEnrollmentRepository extends JpaRepository<UserCareer
             "ORDER BY e.registrationNumber DESC")
     List<String> findLastRegistrationNumberByCareerAndPattern(@Param("careerId") Long careerId, @Param("pattern") String pattern);
 
+    // Matrículas del campus con el prefijo dado, de cualquier carrera (solo para sembrar registration_number_sequence)
+    @Query("SELECT e.registrationNumber FROM UserCareerEnrollmentEntity e " +
+            "WHERE e.campus.id = :campusId " +
+            "AND e.registrationNumber LIKE :pattern")
+    List<String> findRegistrationNumbersByCampusAndPattern(@Param("campusId") Long campusId, @Param("pattern") String pattern);
+
     // Obtener estudiantes de una carrera con sus datos principales
     @Query("SELECT e FROM UserCareerEnrollmentEntity e " +
             "JOIN FETCH e.user u " +
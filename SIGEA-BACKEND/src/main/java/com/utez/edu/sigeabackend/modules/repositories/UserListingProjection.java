@@ -0,0 +1,26 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de los listados de usuarios: datos del usuario con campus, rol, código del avatar
+ * y el resumen de sus inscripciones activas, sin cargar las colecciones de la entidad
+ */
+public interface UserListingProjection {
+    Long getId();
+    String getName();
+    String getPaternalSurname();
+    String getMaternalSurname();
+    String getEmail();
+    UserEntity.Status getStatus();
+    Long getCampusId();
+    String getCampusName();
+    Long getRoleId();
+    String getRoleName();
+    LocalDateTime getCreatedAt();
+    String getAvatarCode();
+    String getPrimaryRegistrationNumber();
+    Long getActiveEnrollments();
+}
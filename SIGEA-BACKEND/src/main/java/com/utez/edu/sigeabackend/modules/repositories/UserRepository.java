@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,11 +21,9 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
-    @Query("SELECT u FROM UserEntity u WHERE u.role.id = :roleId")
-    List<UserEntity> findByRoleId(@Param("roleId") Long roleId);
-
-    @Query("SELECT u FROM UserEntity u WHERE u.role.id = :roleId AND u.campus.id = :campusId")
-    List<UserEntity> findByRoleIdAndCampusId(@Param("roleId") Long roleId, @Param("campusId") Long campusId);
+    // Validación masiva de la importación: devuelve solo los emails que ya existen
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
     // Encontrar usuarios con sus inscripciones activas
     @EntityGraph(attributePaths = {"careerEnrollments", "careerEnrollments.career"})
@@ -33,12 +32,6 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
             "WHERE u.id = :userId")
     Optional<UserEntity> findByIdWithEnrollments(@Param("userId") Long userId);
 
-    // Encontrar usuarios por carrera
-    @Query("SELECT DISTINCT u FROM UserEntity u " +
-            "JOIN u.careerEnrollments e " +
-            "WHERE e.career.id = :careerId AND e.status = 'ACTIVE'")
-    List<UserEntity> findByActiveCareerEnrollment(@Param("careerId") Long careerId);
-
     // Nuevas consultas para supervisión de campus
 
     /**
@@ -49,11 +42,49 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
             "WHERE u.role.roleName = 'SUPERVISOR' AND u.id = :supervisorId")
     Optional<UserEntity> findSupervisorWithCampusSupervisions(@Param("supervisorId") Long supervisorId);
 
+    // Listados de usuarios: primero los ids del filtro y luego las filas por lote
+
+    @Query("SELECT u.id FROM UserEntity u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.role.id = :roleId ORDER BY u.id")
+    List<Long> findIdsByRoleId(@Param("roleId") Long roleId);
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.role.id = :roleId AND u.campus.id = :campusId ORDER BY u.id")
+    List<Long> findIdsByRoleIdAndCampusId(@Param("roleId") Long roleId, @Param("campusId") Long campusId);
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.campus.id = :campusId ORDER BY u.id")
+    List<Long> findIdsByCampusId(@Param("campusId") Long campusId);
+
+    @Query("SELECT DISTINCT e.user.id FROM UserCareerEnrollmentEntity e " +
+            "WHERE e.career.id = :careerId AND e.status = 'ACTIVE' " +
+            "ORDER BY e.user.id")
+    List<Long> findIdsByActiveCareerEnrollment(@Param("careerId") Long careerId);
+
+    // Supervisores de un campus: los de campus principal y los asignados como adicionales
+    @Query("SELECT DISTINCT u.id FROM UserEntity u " +
+            "LEFT JOIN u.campusSupervisions cs " +
+            "WHERE u.campus.id = :campusId OR cs.campus.id = :campusId " +
+            "ORDER BY u.id")
+    List<Long> findSupervisorIdsByCampusId(@Param("campusId") Long campusId);
+
     /**
-     * Encuentra todos los supervisores de un campus específico
+     * Filas del listado con la matrícula y el número de inscripciones activas agregados
+     * en la misma consulta (si hay varias activas se toma la menor matrícula)
      */
-    @Query("SELECT DISTINCT u FROM UserEntity u " +
-            "LEFT JOIN u.campusSupervisions cs " +
-            "WHERE u.campus.id = :campusId OR cs.campus.id = :campusId")
-    List<UserEntity> findSupervisorsByCampusId(@Param("campusId") Long campusId);
-}
\ No newline at end of file
+    @Query("SELECT u.id AS id, u.name AS name, u.paternalSurname AS paternalSurname, " +
+            "u.maternalSurname AS maternalSurname, u.email AS email, u.status AS status, " +
+            "c.id AS campusId, c.name AS campusName, r.id AS roleId, r.roleName AS roleName, " +
+            "u.createdAt AS createdAt, a.code AS avatarCode, " +
+            "MIN(e.registrationNumber) AS primaryRegistrationNumber, COUNT(e.id) AS activeEnrollments " +
+            "FROM UserEntity u " +
+            "JOIN u.campus c " +
+            "JOIN u.role r " +
+            "LEFT JOIN u.avatar a " +
+            "LEFT JOIN u.careerEnrollments e ON e.status = 'ACTIVE' " +
+            "WHERE u.id IN :ids " +
+            "GROUP BY u.id, u.name, u.paternalSurname, u.maternalSurname, u.email, u.status, " +
+            "c.id, c.name, r.id, r.roleName, u.createdAt, a.code " +
+            "ORDER BY u.id")
+    List<UserListingProjection> findListingByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,18 @@
+package com.utez.edu.sigeabackend.modules.repositories;
+
+import com.utez.edu.sigeabackend.modules.entities.UserCampusSupervisionEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Asignación de supervisión con el nombre del campus, para armar listados de usuarios por lote
+ */
+public interface UserSupervisionProjection {
+    Long getUserId();
+    Long getId();
+    Long getCampusId();
+    String getCampusName();
+    UserCampusSupervisionEntity.SupervisionType getSupervisionType();
+    LocalDateTime getAssignedAt();
+    Long getAssignedByUserId();
+}
@@ -0,0 +1,45 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.search.dto.SearchHitDto;
+import com.utez.edu.sigeabackend.modules.search.dto.SearchIndexStatsDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/sigea/api/search")
+public class SearchController {
+
+    private final SearchService service;
+
+    public SearchController(SearchService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/search?q=garcia&types=USER,GROUP&campusId=&role=STUDENT&includeInactive=false&limit=10
+    @GetMapping
+    public ResponseEntity<List<SearchHitDto>> typeahead(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Set<SearchType> types,
+            @RequestParam(required = false) Long campusId,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return service.typeahead(query, types, campusId, role, includeInactive, limit);
+    }
+
+    // GET /sigea/api/search/index/stats - Documentos, términos y última reconstrucción
+    @GetMapping("/index/stats")
+    public ResponseEntity<SearchIndexStatsDto> stats() {
+        return service.stats();
+    }
+
+    // POST /sigea/api/search/index/rebuild - Reconstruye el índice en segundo plano
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        return service.rebuild();
+    }
+}
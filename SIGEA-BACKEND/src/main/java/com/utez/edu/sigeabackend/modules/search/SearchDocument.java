@@ -0,0 +1,31 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import java.util.Set;
+
+/**
+ * Entrada del índice: lo que se muestra en el resultado, los filtros y los términos
+ * normalizados con los que se encuentra
+ */
+record SearchDocument(
+        SearchType type,
+        long id,
+        String title,
+        String subtitle,
+        Long campusId,
+        String roleName,
+        boolean active,
+        Set<String> terms,
+        String normalizedTitle
+) {
+    record Key(SearchType type, long id) {}
+
+    static SearchDocument of(SearchType type, long id, String title, String subtitle, Long campusId,
+                             String roleName, boolean active, Set<String> terms) {
+        return new SearchDocument(type, id, title, subtitle, campusId, roleName, active,
+                Set.copyOf(terms), SearchText.normalize(title));
+    }
+
+    Key key() {
+        return new Key(type, id);
+    }
+}
@@ -0,0 +1,210 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.search.SearchDocument.Key;
+import com.utez.edu.sigeabackend.modules.search.dto.SearchHitDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria: término normalizado → documentos que lo contienen.
+ * Los términos están ordenados, así que la búsqueda por prefijo ("gar" → "garcia",
+ * "garza") es un rango del mapa. Cada término de la consulta debe coincidir como
+ * prefijo con algún término del documento.
+ * <p>
+ * Las lecturas son concurrentes; las escrituras (un documento o el índice completo)
+ * toman el candado de escritura solo mientras cambian los mapas.
+ */
+@Component
+public class SearchIndex {
+
+    /* Puntos por término: coincidencia exacta vale más que por prefijo */
+    private static final int EXACT_MATCH = 2;
+    private static final int PREFIX_MATCH = 1;
+    /* El título empieza con el primer término de la consulta */
+    private static final int TITLE_START = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Key, SearchDocument> documents = new HashMap<>();
+    private NavigableMap<String, Set<Key>> postings = new TreeMap<>();
+
+    private final AtomicLong queries = new AtomicLong();
+
+    public record Filter(Set<SearchType> types, Long campusId, String roleName, boolean includeInactive) {}
+
+    /* ===================== Escritura ===================== */
+
+    /** Agrega o reemplaza un documento */
+    void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            SearchDocument previous = documents.put(document.key(), document);
+            if (previous != null) unlink(previous);
+            for (String term : document.terms()) {
+                postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.key());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(SearchType type, long id) {
+        lock.writeLock().lock();
+        try {
+            SearchDocument previous = documents.remove(new Key(type, id));
+            if (previous != null) unlink(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Sustituye todo el contenido; el índice nuevo se arma fuera del candado */
+    void replaceAll(Collection<SearchDocument> all) {
+        Map<Key, SearchDocument> newDocuments = new HashMap<>(all.size() * 2);
+        NavigableMap<String, Set<Key>> newPostings = new TreeMap<>();
+        for (SearchDocument document : all) {
+            newDocuments.put(document.key(), document);
+            for (String term : document.terms()) {
+                newPostings.computeIfAbsent(term, t -> new HashSet<>()).add(document.key());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            postings = newPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(SearchDocument document) {
+        for (String term : document.terms()) {
+            Set<Key> keys = postings.get(term);
+            if (keys == null) continue;
+            keys.remove(document.key());
+            if (keys.isEmpty()) postings.remove(term);
+        }
+    }
+
+    /* ===================== Lectura ===================== */
+
+    public List<SearchHitDto> search(String query, Filter filter, int limit) {
+        queries.incrementAndGet();
+        List<String> tokens = SearchText.queryTokens(query);
+        if (tokens.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<Key, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Key, Integer> matches = match(token);
+                scores = (scores == null) ? matches : intersect(scores, matches);
+                if (scores.isEmpty()) return List.of();
+            }
+
+            String first = tokens.get(0);
+            List<Scored> hits = new ArrayList<>();
+            for (Map.Entry<Key, Integer> e : scores.entrySet()) {
+                SearchDocument d = documents.get(e.getKey());
+                if (d == null || !accepts(d, filter)) continue;
+                int score = e.getValue() + (d.normalizedTitle().startsWith(first) ? TITLE_START : 0);
+                hits.add(new Scored(d, score));
+            }
+
+            return hits.stream()
+                    .sorted(Comparator.comparingInt(Scored::score).reversed()
+                            .thenComparing(s -> s.document().title(), String.CASE_INSENSITIVE_ORDER)
+                            .thenComparingLong(s -> s.document().id()))
+                    .limit(limit)
+                    .map(s -> toHit(s.document()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Scored(SearchDocument document, int score) {}
+
+    /**
+     * Documentos con algún término que empiece con {@code token}. Un término con
+     * puntuación ("juan.pe") coincide con correos y matrículas completos; si no
+     * encuentra nada se busca por sus palabras ("garcia-lopez" → "garcia" y "lopez").
+     */
+    private Map<Key, Integer> match(String token) {
+        Map<Key, Integer> matches = prefix(token);
+        if (!matches.isEmpty() || SearchText.isWord(token)) return matches;
+
+        Map<Key, Integer> byWords = null;
+        for (String word : SearchText.words(token)) {
+            Map<Key, Integer> m = prefix(word);
+            byWords = (byWords == null) ? m : intersect(byWords, m);
+            if (byWords.isEmpty()) break;
+        }
+        return byWords == null ? Map.of() : byWords;
+    }
+
+    private Map<Key, Integer> prefix(String token) {
+        Map<Key, Integer> matches = new HashMap<>();
+        for (Map.Entry<String, Set<Key>> e : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            int points = e.getKey().equals(token) ? EXACT_MATCH : PREFIX_MATCH;
+            for (Key key : e.getValue()) {
+                matches.merge(key, points, Math::max);
+            }
+        }
+        return matches;
+    }
+
+    /* Intersección recorriendo el mapa más chico; los puntos se suman */
+    private static Map<Key, Integer> intersect(Map<Key, Integer> a, Map<Key, Integer> b) {
+        Map<Key, Integer> small = a.size() <= b.size() ? a : b;
+        Map<Key, Integer> large = small == a ? b : a;
+        Map<Key, Integer> result = new HashMap<>();
+        for (Map.Entry<Key, Integer> e : small.entrySet()) {
+            Integer other = large.get(e.getKey());
+            if (other != null) result.put(e.getKey(), e.getValue() + other);
+        }
+        return result;
+    }
+
+    private static boolean accepts(SearchDocument d, Filter filter) {
+        if (filter.types() != null && !filter.types().isEmpty() && !filter.types().contains(d.type())) return false;
+        if (filter.campusId() != null && !filter.campusId().equals(d.campusId())) return false;
+        if (filter.roleName() != null && !filter.roleName().equalsIgnoreCase(d.roleName())) return false;
+        return filter.includeInactive() || d.active();
+    }
+
+    private static SearchHitDto toHit(SearchDocument d) {
+        return new SearchHitDto(d.type(), d.id(), d.title(), d.subtitle(), d.campusId(), d.roleName(), d.active());
+    }
+
+    /* ===================== Estadísticas ===================== */
+
+    public Map<SearchType, Integer> countByType() {
+        lock.readLock().lock();
+        try {
+            Map<SearchType, Integer> counts = new EnumMap<>(SearchType.class);
+            for (SearchType type : SearchType.values()) counts.put(type, 0);
+            for (Key key : documents.keySet()) counts.merge(key.type(), 1, Integer::sum);
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long queryCount() {
+        return queries.get();
+    }
+}
@@ -0,0 +1,43 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.entities.CareerEntity;
+import com.utez.edu.sigeabackend.modules.entities.GroupEntity;
+import com.utez.edu.sigeabackend.modules.entities.UserCareerEnrollmentEntity;
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Listener JPA de las entidades indexadas: cualquier alta, cambio o baja hecha con
+ * JPA (servicios, importación, autenticación) marca el documento para reindexarlo.
+ * Hibernate lo crea como bean de Spring; el indexador se resuelve de forma perezosa
+ * porque depende de repositorios que aún no existen cuando se arma el EntityManagerFactory.
+ * Las actualizaciones masivas con JPQL no pasan por aquí.
+ */
+public class SearchIndexListener {
+
+    private final ObjectProvider<SearchIndexer> indexer;
+
+    public SearchIndexListener(ObjectProvider<SearchIndexer> indexer) {
+        this.indexer = indexer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        SearchIndexer target = indexer.getIfAvailable();
+        if (target == null) return;
+
+        switch (entity) {
+            case UserEntity user -> target.markChanged(SearchType.USER, user.getId());
+            case UserCareerEnrollmentEntity enrollment when enrollment.getUser() != null ->
+                    target.markChanged(SearchType.USER, enrollment.getUser().getId());
+            case GroupEntity group -> target.markChanged(SearchType.GROUP, group.getId());
+            case CareerEntity career -> target.markChanged(SearchType.CAREER, career.getId());
+            default -> { }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.config.PrimaryReadTemplate;
+import com.utez.edu.sigeabackend.modules.search.dto.SearchIndexStatsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantiene el {@link SearchIndex} al día con la base de datos: lo reconstruye completo
+ * al arrancar y, después de cada commit que modifica usuarios, matrículas, grupos o
+ * carreras (ver {@link SearchIndexListener}), vuelve a leer solo esos registros.
+ * Todo se aplica en el hilo "search-", en el orden en que se confirmaron los cambios.
+ */
+@Service
+public class SearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexer.class);
+
+    /* Tamaño máximo de la lista IN por consulta */
+    private static final int BATCH_SIZE = 1_000;
+
+    private final SearchSourceRepository source;
+    private final SearchIndex index;
+    private final TaskExecutor executor;
+    private final PrimaryReadTemplate readOnly;
+    private final boolean warmUpEnabled;
+
+    private volatile LocalDateTime lastRebuild;
+    private volatile long lastRebuildMs;
+    private final AtomicLong incrementalUpdates = new AtomicLong();
+
+    public SearchIndexer(SearchSourceRepository source,
+                         SearchIndex index,
+                         @Qualifier("searchIndexExecutor") TaskExecutor executor,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${sigea.search.warm-up:true}") boolean warmUpEnabled) {
+        this.source = source;
+        this.index = index;
+        this.executor = executor;
+        // Transacción propia: las actualizaciones también corren desde afterCommit
+        this.readOnly = new PrimaryReadTemplate(transactionManager);
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.warmUpEnabled = warmUpEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpEnabled) rebuild();
+    }
+
+    /** Programa la reconstrucción completa del índice */
+    public void rebuild() {
+        executor.execute(this::rebuildNow);
+    }
+
+    /**
+     * Marca un registro para reindexarlo. Dentro de una transacción los cambios se
+     * acumulan y se aplican después del commit (si hay rollback se descartan).
+     */
+    public void markChanged(SearchType type, long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(Map.of(type, Set.of(id)));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<SearchType, Set<Long>> pending =
+                (Map<SearchType, Set<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<SearchType, Set<Long>> changes = new EnumMap<>(SearchType.class);
+            pending = changes;
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexer.this);
+                    if (status == STATUS_COMMITTED) submit(changes);
+                }
+            });
+        }
+        pending.computeIfAbsent(type, t -> new HashSet<>()).add(id);
+    }
+
+    public SearchIndexStatsDto stats() {
+        Map<SearchType, Integer> counts = index.countByType();
+        return new SearchIndexStatsDto(
+                counts.get(SearchType.USER),
+                counts.get(SearchType.GROUP),
+                counts.get(SearchType.CAREER),
+                index.termCount(),
+                lastRebuild,
+                lastRebuildMs,
+                incrementalUpdates.get(),
+                index.queryCount()
+        );
+    }
+
+    /* ===================== Aplicación ===================== */
+
+    private void submit(Map<SearchType, Set<Long>> changes) {
+        executor.execute(() -> refresh(changes));
+    }
+
+    private void rebuildNow() {
+        long start = System.nanoTime();
+        try {
+            List<SearchDocument> documents = readOnly.execute(status -> {
+                List<SearchDocument> all = new ArrayList<>();
+                all.addAll(users(source.findUsers(), registrationNumbers(source.findRegistrationNumbers())));
+                all.addAll(documents(SearchType.GROUP, source.findGroups()));
+                all.addAll(documents(SearchType.CAREER, source.findCareers()));
+                return all;
+            });
+            index.replaceAll(documents);
+            lastRebuild = LocalDateTime.now();
+            lastRebuildMs = (System.nanoTime() - start) / 1_000_000;
+            log.info("Índice de búsqueda reconstruido: {} documentos, {} términos en {} ms",
+                    documents.size(), index.termCount(), lastRebuildMs);
+        } catch (RuntimeException e) {
+            log.error("No se pudo reconstruir el índice de búsqueda", e);
+        }
+    }
+
+    private void refresh(Map<SearchType, Set<Long>> changes) {
+        try {
+            readOnly.executeWithoutResult(status -> {
+                Set<Long> careerIds = changes.getOrDefault(SearchType.CAREER, Set.of());
+                Set<Long> groupIds = new HashSet<>(changes.getOrDefault(SearchType.GROUP, Set.of()));
+                // Los grupos muestran el nombre de su carrera
+                if (!careerIds.isEmpty()) groupIds.addAll(source.findGroupIdsByCareerIdIn(careerIds));
+
+                for (List<Long> batch : batches(changes.getOrDefault(SearchType.USER, Set.of()))) {
+                    apply(SearchType.USER, batch,
+                            users(source.findUsers(batch), registrationNumbers(source.findRegistrationNumbers(batch))));
+                }
+                for (List<Long> batch : batches(groupIds)) {
+                    apply(SearchType.GROUP, batch, documents(SearchType.GROUP, source.findGroups(batch)));
+                }
+                for (List<Long> batch : batches(careerIds)) {
+                    apply(SearchType.CAREER, batch, documents(SearchType.CAREER, source.findCareers(batch)));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("No se pudo actualizar el índice de búsqueda para {}", changes, e);
+        }
+    }
+
+    /* Los ids pedidos que ya no existen se quitan del índice */
+    private void apply(SearchType type, List<Long> requested, List<SearchDocument> found) {
+        Set<Long> present = new HashSet<>();
+        for (SearchDocument document : found) {
+            index.put(document);
+            present.add(document.id());
+        }
+        for (Long id : requested) {
+            if (!present.contains(id)) index.remove(type, id);
+        }
+        incrementalUpdates.addAndGet(requested.size());
+    }
+
+    /* ===================== Documentos ===================== */
+
+    private static List<SearchDocument> users(List<SearchSourceRow.User> rows, Map<Long, List<String>> registrationNumbers) {
+        List<SearchDocument> documents = new ArrayList<>(rows.size());
+        for (SearchSourceRow.User row : rows) {
+            Set<String> terms = new HashSet<>();
+            SearchText.addWords(terms, row.getTitle());
+            SearchText.addIdentifier(terms, row.getSubtitle());
+            for (String number : registrationNumbers.getOrDefault(row.getId(), List.of())) {
+                SearchText.addIdentifier(terms, number);
+            }
+            documents.add(SearchDocument.of(SearchType.USER, row.getId(), row.getTitle(), row.getSubtitle(),
+                    row.getCampusId(), row.getRoleName(), Boolean.TRUE.equals(row.getActive()), terms));
+        }
+        return documents;
+    }
+
+    /* Grupos y carreras: se buscan por su nombre; el subtítulo solo se muestra */
+    private static List<SearchDocument> documents(SearchType type, List<SearchSourceRow> rows) {
+        List<SearchDocument> documents = new ArrayList<>(rows.size());
+        for (SearchSourceRow row : rows) {
+            Set<String> terms = new HashSet<>();
+            SearchText.addWords(terms, row.getTitle());
+            documents.add(SearchDocument.of(type, row.getId(), row.getTitle(), row.getSubtitle(),
+                    row.getCampusId(), null, Boolean.TRUE.equals(row.getActive()), terms));
+        }
+        return documents;
+    }
+
+    private static Map<Long, List<String>> registrationNumbers(List<SearchSourceRow.RegistrationNumber> rows) {
+        Map<Long, List<String>> byUser = new HashMap<>();
+        for (SearchSourceRow.RegistrationNumber row : rows) {
+            if (row.getRegistrationNumber() == null) continue;
+            byUser.computeIfAbsent(row.getUserId(), k -> new ArrayList<>()).add(row.getRegistrationNumber());
+        }
+        return byUser;
+    }
+
+    private static List<List<Long>> batches(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += BATCH_SIZE) {
+            batches.add(all.subList(from, Math.min(from + BATCH_SIZE, all.size())));
+        }
+        return batches;
+    }
+}
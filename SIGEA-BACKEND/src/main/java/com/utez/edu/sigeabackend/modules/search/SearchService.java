@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.search.dto.SearchHitDto;
+import com.utez.edu.sigeabackend.modules.search.dto.SearchIndexStatsDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Búsqueda para autocompletar sobre el índice en memoria; no consulta la base de datos
+ */
+@Service
+public class SearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchIndex index;
+    private final SearchIndexer indexer;
+
+    public SearchService(SearchIndex index, SearchIndexer indexer) {
+        this.index = index;
+        this.indexer = indexer;
+    }
+
+    public ResponseEntity<List<SearchHitDto>> typeahead(String query, Set<SearchType> types, Long campusId,
+                                                        String role, boolean includeInactive, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "El límite debe estar entre 1 y " + MAX_LIMIT);
+        }
+        // Con una sola letra casi todo coincide; el frontend espera al segundo carácter
+        if (query == null || query.strip().length() < MIN_QUERY_LENGTH) {
+            return ResponseEntity.ok(List.of());
+        }
+        SearchIndex.Filter filter = new SearchIndex.Filter(types, campusId, role, includeInactive);
+        return ResponseEntity.ok(index.search(query, filter, limit));
+    }
+
+    public ResponseEntity<SearchIndexStatsDto> stats() {
+        return ResponseEntity.ok(indexer.stats());
+    }
+
+    public ResponseEntity<Void> rebuild() {
+        indexer.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lecturas del índice de búsqueda: solo las columnas que se indexan o se muestran,
+ * para todos los registros (reconstrucción) o para una lista de ids (actualización)
+ */
+public interface SearchSourceRepository extends Repository<UserEntity, Long> {
+
+    String USERS = "SELECT u.id AS id, " +
+            "CONCAT(u.name, ' ', u.paternalSurname, COALESCE(CONCAT(' ', u.maternalSurname), '')) AS title, " +
+            "u.email AS subtitle, u.campus.id AS campusId, r.roleName AS roleName, " +
+            "CASE WHEN u.status = 'ACTIVE' THEN true ELSE false END AS active " +
+            "FROM UserEntity u JOIN u.role r ";
+
+    String REGISTRATION_NUMBERS = "SELECT e.user.id AS userId, e.registrationNumber AS registrationNumber " +
+            "FROM UserCareerEnrollmentEntity e ";
+
+    String GROUPS = "SELECT g.id AS id, g.name AS title, c.name AS subtitle, cp.id AS campusId, " +
+            "CASE WHEN g.status = 'ACTIVE' THEN true ELSE false END AS active " +
+            "FROM GroupEntity g LEFT JOIN g.career c LEFT JOIN c.campus cp ";
+
+    String CAREERS = "SELECT c.id AS id, c.name AS title, cp.name AS subtitle, cp.id AS campusId, " +
+            "true AS active " +
+            "FROM CareerEntity c JOIN c.campus cp ";
+
+    @Query(USERS)
+    List<SearchSourceRow.User> findUsers();
+
+    @Query(USERS + "WHERE u.id IN :ids")
+    List<SearchSourceRow.User> findUsers(@Param("ids") Collection<Long> ids);
+
+    @Query(REGISTRATION_NUMBERS)
+    List<SearchSourceRow.RegistrationNumber> findRegistrationNumbers();
+
+    @Query(REGISTRATION_NUMBERS + "WHERE e.user.id IN :userIds")
+    List<SearchSourceRow.RegistrationNumber> findRegistrationNumbers(@Param("userIds") Collection<Long> userIds);
+
+    @Query(GROUPS)
+    List<SearchSourceRow> findGroups();
+
+    @Query(GROUPS + "WHERE g.id IN :ids")
+    List<SearchSourceRow> findGroups(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT g.id FROM GroupEntity g WHERE g.career.id IN :careerIds")
+    List<Long> findGroupIdsByCareerIdIn(@Param("careerIds") Collection<Long> careerIds);
+
+    @Query(CAREERS)
+    List<SearchSourceRow> findCareers();
+
+    @Query(CAREERS + "WHERE c.id IN :ids")
+    List<SearchSourceRow> findCareers(@Param("ids") Collection<Long> ids);
+}
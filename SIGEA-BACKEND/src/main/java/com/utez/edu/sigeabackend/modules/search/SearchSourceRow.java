@@ -0,0 +1,23 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+/**
+ * Datos de un usuario, grupo o carrera para armar su documento de búsqueda
+ */
+public interface SearchSourceRow {
+    Long getId();
+    String getTitle();
+    String getSubtitle();
+    Long getCampusId();
+    Boolean getActive();
+
+    /** Solo usuarios */
+    interface User extends SearchSourceRow {
+        String getRoleName();
+    }
+
+    /** Matrícula de un usuario */
+    interface RegistrationNumber {
+        Long getUserId();
+        String getRegistrationNumber();
+    }
+}
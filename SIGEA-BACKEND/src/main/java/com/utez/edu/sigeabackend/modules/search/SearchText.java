@@ -0,0 +1,68 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización del texto indexado y de las consultas: minúsculas y sin acentos
+ * ("Núñez" → "nunez"), para que la búsqueda no dependa de cómo se escribió el nombre.
+ */
+final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchText() {}
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+    }
+
+    /** Palabras de un texto libre (nombres, apellidos, nombres de grupo o carrera) */
+    static void addWords(Set<String> terms, String text) {
+        for (String word : WORD_SEPARATORS.split(normalize(text))) {
+            if (!word.isEmpty()) terms.add(word);
+        }
+    }
+
+    /**
+     * Valores que también se buscan completos (correo, matrícula): se indexa el valor
+     * entero y sus partes, así "juan.perez@" y "perez" encuentran el mismo correo
+     */
+    static void addIdentifier(Set<String> terms, String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) return;
+        terms.add(normalized);
+        addWords(terms, normalized);
+    }
+
+    /** Términos de una consulta, separados solo por espacios */
+    static List<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : WHITESPACE.split(normalize(query))) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /** Partes alfanuméricas de un término de consulta con puntuación */
+    static List<String> words(String token) {
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATORS.split(token)) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    static boolean isWord(String token) {
+        return !WORD_SEPARATORS.matcher(token).find();
+    }
+}
@@ -0,0 +1,6 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+/** Tipos de documento del índice de búsqueda */
+public enum SearchType {
+    USER, GROUP, CAREER
+}
@@ -0,0 +1,13 @@
+package com.utez.edu.sigeabackend.modules.search.dto;
+
+import com.utez.edu.sigeabackend.modules.search.SearchType;
+
+public record SearchHitDto(
+        SearchType type,
+        long       id,
+        String     title,
+        String     subtitle,
+        Long       campusId,
+        String     roleName,
+        boolean    active
+) {}
@@ -0,0 +1,14 @@
+package com.utez.edu.sigeabackend.modules.search.dto;
+
+import java.time.LocalDateTime;
+
+public record SearchIndexStatsDto(
+        int            users,
+        int            groups,
+        int            careers,
+        int            terms,
+        LocalDateTime  lastRebuild,
+        long           lastRebuildMs,
+        long           incrementalUpdates,
+        long           queries
+) {}
@@ -0,0 +1,292 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.config.PrimaryReadTemplate;
+import com.utez.edu.sigeabackend.modules.entities.CurriculumEntity;
+import com.utez.edu.sigeabackend.modules.entities.ModuleEntity;
+import com.utez.edu.sigeabackend.modules.entities.SubjectEntity;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.AcademicCatalogCacheStatsDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.CurriculumDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
+import com.utez.edu.sigeabackend.modules.repositories.CurriculumRepository;
+import com.utez.edu.sigeabackend.modules.repositories.ModuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Caché de lectura del catálogo académico (plan de estudios → módulos → materias).
+ * Guarda instantáneas inmutables de DTOs por plan (con su {@link CurriculumTimeline})
+ * y la lista de planes por carrera; lo que no está en caché se carga de la base
+ * con dos consultas y se publica.
+ * Los servicios de escritura invalidan solo el plan o la carrera que modificaron,
+ * y la invalidación se aplica después del commit.
+ */
+@Service
+public class AcademicCatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AcademicCatalogCache.class);
+    private static final int LOAD_CHUNK = 200;
+
+    /** Plan ya convertido a DTO, con su carrera y su línea de tiempo precalculada */
+    private record Snapshot(CurriculumDto dto, Long careerId, CurriculumTimeline timeline) {}
+
+    private final CurriculumRepository curriculumRepository;
+    private final ModuleRepository moduleRepository;
+    private final PrimaryReadTemplate readOnly;
+    private final boolean warmUpEnabled;
+
+    private final ConcurrentMap<Long, Snapshot> curricula = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, List<Long>> curriculumIdsByCareer = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> curriculumIdByModule = new ConcurrentHashMap<>();
+
+    /* Cambia con cada invalidación; una carga solo se publica si no cambió mientras se leía */
+    private final AtomicLong generation = new AtomicLong();
+    /* Marca (por transacción) de que hay invalidaciones pendientes de commit */
+    private final Object pendingKey = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AcademicCatalogCache(CurriculumRepository curriculumRepository,
+                                ModuleRepository moduleRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${sigea.catalog.cache.warm-up:true}") boolean warmUpEnabled) {
+        this.curriculumRepository = curriculumRepository;
+        this.moduleRepository = moduleRepository;
+        this.readOnly = new PrimaryReadTemplate(transactionManager);
+        this.warmUpEnabled = warmUpEnabled;
+    }
+
+    /* ===================== Lecturas ===================== */
+
+    public Optional<CurriculumDto> curriculum(Long curriculumId) {
+        return Optional.ofNullable(snapshot(curriculumId)).map(Snapshot::dto);
+    }
+
+    /** Planes de la carrera ordenados por id; vacío si no tiene */
+    public List<CurriculumDto> curriculaByCareer(Long careerId) {
+        List<Long> ids = curriculumIdsByCareer.get(careerId);
+        if (ids != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            long observed = generation.get();
+            ids = List.copyOf(readOnly.execute(status -> curriculumRepository.findIdsByCareerId(careerId)));
+            publishCareer(observed, careerId, ids);
+        }
+
+        List<Long> missing = ids.stream().filter(id -> !curricula.containsKey(id)).toList();
+        Map<Long, Snapshot> loaded = missing.isEmpty() ? Map.of() : load(missing);
+
+        List<CurriculumDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Snapshot s = loaded.containsKey(id) ? loaded.get(id) : curricula.get(id);
+            if (s != null) result.add(s.dto());
+        }
+        return List.copyOf(result);
+    }
+
+    /** Módulos (con materias) del plan; vacío si el plan no existe */
+    public List<ModuleDto> modules(Long curriculumId) {
+        Snapshot s = snapshot(curriculumId);
+        return s == null ? List.of() : s.dto().modules();
+    }
+
+    /** Materias del módulo; vacío si el módulo no existe */
+    public List<SubjectDto> subjects(Long moduleId) {
+        Long curriculumId = curriculumIdByModule.get(moduleId);
+        if (curriculumId != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            curriculumId = readOnly.execute(status -> moduleRepository.findCurriculumIdById(moduleId).orElse(null));
+            if (curriculumId == null) return List.of();
+        }
+        return modules(curriculumId).stream()
+                .filter(m -> m.id().equals(moduleId))
+                .findFirst()
+                .map(ModuleDto::subjects)
+                .orElse(List.of());
+    }
+
+    /** Suma de semanas de todas las materias del plan; 0 si no existe o no tiene materias */
+    public int totalWeeks(Long curriculumId) {
+        return (int) timeline(curriculumId).totalWeeks();
+    }
+
+    /** Semanas de inicio de cada módulo del plan; vacía si el plan no existe */
+    public CurriculumTimeline timeline(Long curriculumId) {
+        Snapshot s = snapshot(curriculumId);
+        return s == null ? CurriculumTimeline.EMPTY : s.timeline();
+    }
+
+    public AcademicCatalogCacheStatsDto stats() {
+        long h = hits.get();
+        long m = misses.get();
+        double hitRatio = (h + m) == 0 ? 0.0 : (double) h / (h + m);
+        return new AcademicCatalogCacheStatsDto(curricula.size(), curriculumIdsByCareer.size(),
+                h, m, loads.get(), invalidations.get(), hitRatio);
+    }
+
+    /* ===================== Invalidación ===================== */
+
+    /** Descarta la instantánea del plan (nombre, módulos o materias cambiaron) */
+    public void invalidateCurriculum(Long curriculumId) {
+        afterCommit(() -> evictCurriculum(curriculumId));
+    }
+
+    /** Descarta la lista de planes de la carrera (se creó o eliminó un plan, o la carrera) */
+    public void invalidateCareer(Long careerId) {
+        afterCommit(() -> evictCareer(careerId));
+    }
+
+    /**
+     * Con transacción activa la invalidación espera al commit (si hay rollback no se aplica).
+     * Mientras tanto, las cargas hechas dentro de esa misma transacción no se publican,
+     * porque podrían incluir cambios que todavía no son definitivos.
+     */
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        if (!TransactionSynchronizationManager.hasResource(pendingKey)) {
+            TransactionSynchronizationManager.bindResource(pendingKey, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private synchronized void evictCurriculum(Long curriculumId) {
+        generation.incrementAndGet();
+        invalidations.incrementAndGet();
+        curricula.remove(curriculumId);
+        curriculumIdByModule.values().removeIf(curriculumId::equals);
+    }
+
+    private synchronized void evictCareer(Long careerId) {
+        generation.incrementAndGet();
+        invalidations.incrementAndGet();
+        curriculumIdsByCareer.remove(careerId);
+    }
+
+    /* ===================== Precarga ===================== */
+
+    /** Carga todos los planes al arrancar para que las primeras peticiones no vayan a la base */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUpEnabled) return;
+        long start = System.nanoTime();
+        try {
+            long observed = generation.get();
+            List<Long> ids = readOnly.execute(status -> curriculumRepository.findAllIds());
+            Map<Long, Snapshot> loaded = new HashMap<>();
+            for (int i = 0; i < ids.size(); i += LOAD_CHUNK) {
+                loaded.putAll(load(ids.subList(i, Math.min(i + LOAD_CHUNK, ids.size()))));
+            }
+
+            Map<Long, List<Long>> byCareer = loaded.values().stream()
+                    .collect(Collectors.groupingBy(Snapshot::careerId, TreeMap::new,
+                            Collectors.mapping(s -> s.dto().id(), Collectors.toList())));
+            byCareer.forEach((careerId, curriculumIds) ->
+                    publishCareer(observed, careerId, curriculumIds.stream().sorted().toList()));
+
+            log.info("Catálogo académico precargado: {} planes de {} carreras en {} ms",
+                    loaded.size(), byCareer.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo precargar el catálogo académico; se cargará bajo demanda", e);
+        }
+    }
+
+    /* ===================== Carga ===================== */
+
+    private Snapshot snapshot(Long curriculumId) {
+        Snapshot s = curricula.get(curriculumId);
+        if (s != null) {
+            hits.incrementAndGet();
+            return s;
+        }
+        misses.incrementAndGet();
+        return load(List.of(curriculumId)).get(curriculumId);
+    }
+
+    private Map<Long, Snapshot> load(Collection<Long> curriculumIds) {
+        long observed = generation.get();
+        Map<Long, Snapshot> loaded = readOnly.execute(status -> build(curriculumIds));
+        loads.incrementAndGet();
+        publish(observed, loaded);
+        return loaded;
+    }
+
+    private synchronized void publish(long observed, Map<Long, Snapshot> loaded) {
+        if (!canPublish(observed)) return;
+        loaded.forEach((id, snapshot) -> {
+            curricula.put(id, snapshot);
+            snapshot.dto().modules().forEach(m -> curriculumIdByModule.put(m.id(), id));
+        });
+    }
+
+    private synchronized void publishCareer(long observed, Long careerId, List<Long> curriculumIds) {
+        if (canPublish(observed)) curriculumIdsByCareer.put(careerId, curriculumIds);
+    }
+
+    private boolean canPublish(long observed) {
+        return generation.get() == observed && !TransactionSynchronizationManager.hasResource(pendingKey);
+    }
+
+    /** Dos consultas: los planes, y sus módulos con materias (fetch join) */
+    private Map<Long, Snapshot> build(Collection<Long> curriculumIds) {
+        List<CurriculumEntity> entities = curriculumRepository.findAllById(curriculumIds);
+        if (entities.isEmpty()) return Map.of();
+
+        Map<Long, List<ModuleEntity>> modulesByCurriculum = moduleRepository
+                .findWithSubjectsByCurriculumIdIn(entities.stream().map(CurriculumEntity::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(m -> m.getCurriculum().getId()));
+
+        Map<Long, Snapshot> result = new HashMap<>();
+        for (CurriculumEntity c : entities) {
+            List<ModuleDto> modules = modulesByCurriculum.getOrDefault(c.getId(), List.of()).stream()
+                    .sorted(Comparator.comparingLong(ModuleEntity::getId))
+                    .map(this::toModuleDto)
+                    .toList();
+            result.put(c.getId(), new Snapshot(new CurriculumDto(c.getId(), c.getName(), modules),
+                    c.getCareer().getId(), CurriculumTimeline.of(modules)));
+        }
+        return result;
+    }
+
+    private ModuleDto toModuleDto(ModuleEntity entity) {
+        List<SubjectDto> subjects = entity.getSubjects() == null ? List.of() :
+                entity.getSubjects().stream()
+                        .sorted(Comparator.comparingLong(SubjectEntity::getId))
+                        .map(s -> new SubjectDto(s.getId(), s.getName(), s.getWeeks()))
+                        .toList();
+        return new ModuleDto(entity.getId(), entity.getName(), subjects);
+    }
+}
@@ -4,7 +4,11 @@ import com.utez.edu.sigeabackend.config.CustomResponseEntity;
 import com.utez.edu.sigeabackend.modules.entities.CampusEntity;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.CampusDto;
 import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
+import com.utez.edu.sigeabackend.modules.repositories.IdCountProjection;
 import com.utez.edu.sigeabackend.modules.repositories.UserCampusSupervisionRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -18,23 +22,50 @@ import java.util.stream.Collectors;
 @Service
 @Transactional(readOnly = true)
 public class CampusService {
+    private static final Logger log = LoggerFactory.getLogger(CampusService.class);
+
     private final CampusRepository repository;
     private final UserCampusSupervisionRepository supervisionRepository;
     private final CustomResponseEntity responseService;
+    private final CatalogVersionService catalogVersions;
 
     public CampusService(CampusRepository repository,
                          UserCampusSupervisionRepository supervisionRepository,
-                         CustomResponseEntity responseService) {
+                         CustomResponseEntity responseService,
+                         CatalogVersionService catalogVersions) {
         this.repository = repository;
         this.supervisionRepository = supervisionRepository;
         this.responseService = responseService;
+        this.catalogVersions = catalogVersions;
     }
 
     // Helper method to convert entity to DTO - ORDEN CORREGIDO
     private CampusDto toDto(CampusEntity campus) {
-        int totalUsers = campus.getUsers().size();
-        int totalSupervisors = campus.getSupervisorAssignments().size();
+        return toDtos(List.of(campus)).getFirst();
+    }
+
+    /**
+     * Convierte varios campus con dos consultas de conteo agrupadas,
+     * en lugar de cargar todos los usuarios y supervisiones de cada uno
+     */
+    private List<CampusDto> toDtos(List<CampusEntity> campuses) {
+        if (campuses.isEmpty()) return List.of();
+        List<Long> ids = campuses.stream().map(CampusEntity::getId).toList();
+        Map<Long, Long> users = toMap(repository.countUsersByCampusIds(ids));
+        Map<Long, Long> supervisors = toMap(repository.countSupervisorsByCampusIds(ids));
+
+        return campuses.stream()
+                .map(c -> toDto(c,
+                        users.getOrDefault(c.getId(), 0L).intValue(),
+                        supervisors.getOrDefault(c.getId(), 0L).intValue()))
+                .toList();
+    }
+
+    private static Map<Long, Long> toMap(List<IdCountProjection> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCountProjection::getId, IdCountProjection::getTotal));
+    }
 
+    private CampusDto toDto(CampusEntity campus, int totalUsers, int totalSupervisors) {
         return new CampusDto(
                 campus.getId(),
                 campus.getName(),
@@ -54,9 +85,7 @@ public class CampusService {
             return responseService.get404Response();
         }
 
-        List<CampusDto> dtos = list.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<CampusDto> dtos = toDtos(list);
 
         return responseService.getOkResponse("Lista de campus", dtos);
     }
@@ -77,9 +106,7 @@ public class CampusService {
         try {
             List<CampusEntity> campuses = repository.findAllSupervisedByUser(userId, userCampusId);
 
-            List<CampusDto> dtos = campuses.stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
+            List<CampusDto> dtos = toDtos(campuses);
 
             return ResponseEntity.ok(dtos);
         } catch (Exception e) {
@@ -113,13 +140,15 @@ public class CampusService {
                 }
 
                 CampusEntity updated = repository.save(existing);
+                // El nombre del campus también aparece en el catálogo de carreras
+                catalogVersions.bump(Catalog.CAMPUSES, Catalog.CAREERS);
                 return ResponseEntity.ok(toDto(updated));
             } else {
                 return responseService.get404Response();
             }
         } catch (Exception e) {
             // Log del error para debugging
-            System.err.println("Error updating campus: " + e.getMessage());
+            log.warn("Error al actualizar campus", e);
 
             // Retornar error más descriptivo
             if (e.getMessage().contains("Data too long")) {
@@ -150,7 +179,7 @@ public class CampusService {
                 return responseService.get404Response();
             }
         } catch (Exception e) {
-            System.err.println("Error finding campus by student ID: " + e.getMessage());
+            log.warn("Error al buscar el campus del estudiante", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error interno al consultar el campus del estudiante"));
         }
@@ -167,6 +196,7 @@ public class CampusService {
         }
 
         CampusEntity saved = repository.save(campus);
+        catalogVersions.bump(Catalog.CAMPUSES);
         return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
     }
 
@@ -9,9 +9,13 @@ import com.utez.edu.sigeabackend.modules.entities.dto.academics.PublicCareerDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.UpdateCareerDto;
 import com.utez.edu.sigeabackend.modules.media.MediaEntity;
 import com.utez.edu.sigeabackend.modules.media.MediaService;
+import com.utez.edu.sigeabackend.modules.media.StoredMedia;
 import com.utez.edu.sigeabackend.modules.media.dto.MediaUploadResponseDto;
 import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
 import com.utez.edu.sigeabackend.modules.repositories.CareerRepository;
+import com.utez.edu.sigeabackend.modules.repositories.IdCountProjection;
+import com.utez.edu.sigeabackend.modules.repositories.RoleCountProjection;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -20,7 +24,10 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -28,28 +35,48 @@ public class CareerService {
     private final CareerRepository repository;
     private final CampusRepository campusRepository;
     private final MediaService mediaService;
+    private final CatalogVersionService catalogVersions;
+    private final AcademicCatalogCache catalogCache;
 
-    public CareerService(CareerRepository repository, CampusRepository campusRepository, MediaService mediaService) {
+    public CareerService(CareerRepository repository, CampusRepository campusRepository, MediaService mediaService,
+                         CatalogVersionService catalogVersions, AcademicCatalogCache catalogCache) {
         this.repository = repository;
         this.campusRepository = campusRepository;
         this.mediaService = mediaService;
+        this.catalogVersions = catalogVersions;
+        this.catalogCache = catalogCache;
     }
 
     private CareerDto toDto(CareerEntity entity) {
-        int groupsCount = entity.getGroups() != null ? entity.getGroups().size() : 0;
+        return toDtos(List.of(entity)).getFirst();
+    }
 
-        int studentsCount = (int) entity.getEnrollments().stream()
-                .filter(enrollment -> enrollment.getStatus() ==
-                        UserCareerEnrollmentEntity.EnrollmentStatus.ACTIVE)
-                .filter(enrollment -> "STUDENT".equals(enrollment.getUser().getRole().getRoleName()))
-                .count();
+    /**
+     * Convierte varias carreras con dos consultas agrupadas (grupos por carrera e
+     * inscripciones activas por carrera y rol) en lugar de recorrer sus colecciones
+     */
+    private List<CareerDto> toDtos(List<CareerEntity> entities) {
+        if (entities.isEmpty()) return List.of();
+        List<Long> ids = entities.stream().map(CareerEntity::getId).toList();
+
+        Map<Long, Long> groups = repository.countGroupsByCareerIds(ids).stream()
+                .collect(Collectors.toMap(IdCountProjection::getId, IdCountProjection::getTotal));
+        Map<Long, Long> students = new HashMap<>();
+        Map<Long, Long> teachers = new HashMap<>();
+        for (RoleCountProjection count : repository.countActiveEnrollmentsByCareerIdsAndRole(ids)) {
+            if ("STUDENT".equals(count.getRoleName())) students.put(count.getId(), count.getTotal());
+            else if ("TEACHER".equals(count.getRoleName())) teachers.put(count.getId(), count.getTotal());
+        }
 
-        int teachersCount = (int) entity.getEnrollments().stream()
-                .filter(enrollment -> enrollment.getStatus() ==
-                        UserCareerEnrollmentEntity.EnrollmentStatus.ACTIVE)
-                .filter(enrollment -> "TEACHER".equals(enrollment.getUser().getRole().getRoleName()))
-                .count();
+        return entities.stream()
+                .map(e -> toDto(e,
+                        groups.getOrDefault(e.getId(), 0L).intValue(),
+                        students.getOrDefault(e.getId(), 0L).intValue(),
+                        teachers.getOrDefault(e.getId(), 0L).intValue()))
+                .toList();
+    }
 
+    private CareerDto toDto(CareerEntity entity, int groupsCount, int studentsCount, int teachersCount) {
         return new CareerDto(
                 entity.getId(),
                 entity.getName(),
@@ -63,9 +90,7 @@ public class CareerService {
     }
 
     public ResponseEntity<List<CareerDto>> findAll() {
-        List<CareerEntity> entities = repository.findAll();
-        List<CareerDto> dtos = entities.stream().map(this::toDto).toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(toDtos(repository.findAllWithCampus()));
     }
 
     /**
@@ -85,9 +110,7 @@ public class CareerService {
     }
 
     public ResponseEntity<List<CareerDto>> findByCampus(long campusId) {
-        List<CareerEntity> entities = repository.findByCampusId(campusId);
-        List<CareerDto> dtos = entities.stream().map(this::toDto).toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(toDtos(repository.findByCampusIdWithCampus(campusId)));
     }
 
     @Transactional
@@ -96,15 +119,15 @@ public class CareerService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Carrera no encontrada"));
 
-        MediaUploadResponseDto dto = mediaService.storeAndReturnDto(file, MediaEntity.Purpose.CAREER_IMAGE);
-
-        MediaEntity imageEntity = mediaService.getByCode(
-                dto.url().substring(dto.url().lastIndexOf('/') + 1));
+        StoredMedia stored = mediaService.store(file, MediaEntity.Purpose.CAREER_IMAGE);
+        MediaEntity imageEntity = mediaService.reference(stored);
+        mediaService.replaceReference(career.getImage(), imageEntity);
 
         career.setImage(imageEntity);
         repository.save(career);
+        catalogVersions.bump(Catalog.CAREERS);
 
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(mediaService.toDto(stored));
     }
 
     @Transactional
@@ -120,6 +143,7 @@ public class CareerService {
 
         CareerEntity career = new CareerEntity(dto.name(), dto.differentiator(), plantel);
         CareerEntity saved = repository.save(career);
+        catalogVersions.bump(Catalog.CAREERS);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
     }
@@ -152,6 +176,7 @@ public class CareerService {
                     }
 
                     CareerEntity updated = repository.save(existing);
+                    catalogVersions.bump(Catalog.CAREERS);
                     return ResponseEntity.ok(toDto(updated));
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -175,7 +200,10 @@ public class CareerService {
                                 "No se puede eliminar la carrera porque tiene grupos asociados");
                     }
 
+                    mediaService.releaseReference(career.getImage());
                     repository.deleteById(id);
+                    catalogVersions.bump(Catalog.CAREERS);
+                    catalogCache.invalidateCareer(id);
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
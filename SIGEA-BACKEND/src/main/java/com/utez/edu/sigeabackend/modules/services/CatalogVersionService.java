@@ -0,0 +1,79 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de versión de los catálogos de lectura frecuente.
+ * Cada escritura que modifica lo que devuelve un catálogo incrementa su versión;
+ * la versión (junto con el arranque de la instancia) forma el ETag de sus endpoints GET.
+ */
+@Service
+public class CatalogVersionService {
+
+    public enum Catalog {
+        /** Carreras (incluye conteos de grupos, alumnos y docentes) y carrusel público */
+        CAREERS,
+        /** Planes de estudio, módulos y materias */
+        ACADEMIC,
+        /** Campus (incluye conteos de usuarios y supervisores) */
+        CAMPUSES
+    }
+
+    /* Distingue instancias/reinicios: la versión vuelve a 0 al arrancar */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<Catalog, AtomicLong> versions = new EnumMap<>(Catalog.class);
+    private final Map<Catalog, AtomicLong> lastModified = new EnumMap<>(Catalog.class);
+
+    public CatalogVersionService() {
+        long now = System.currentTimeMillis();
+        for (Catalog catalog : Catalog.values()) {
+            versions.put(catalog, new AtomicLong());
+            lastModified.put(catalog, new AtomicLong(now));
+        }
+    }
+
+    /**
+     * Marca los catálogos como modificados. Si hay una transacción activa el cambio
+     * se publica después del commit, para no emitir un ETag nuevo con datos viejos.
+     */
+    public void bump(Catalog... catalogs) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(catalogs);
+                }
+            });
+        } else {
+            increment(catalogs);
+        }
+    }
+
+    public long version(Catalog catalog) {
+        return versions.get(catalog).get();
+    }
+
+    /** ETag fuerte (sin comillas) para el estado actual del catálogo */
+    public String etag(Catalog catalog) {
+        return catalog.name().toLowerCase() + "-" + epoch + "-" + version(catalog);
+    }
+
+    public long lastModified(Catalog catalog) {
+        return lastModified.get(catalog).get();
+    }
+
+    private void increment(Catalog... catalogs) {
+        long now = System.currentTimeMillis();
+        for (Catalog catalog : catalogs) {
+            versions.get(catalog).incrementAndGet();
+            lastModified.get(catalog).set(now);
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.utez.edu.sigeabackend.modules.entities.CareerEntity;
 import com.utez.edu.sigeabackend.modules.entities.CurriculumEntity;
 import com.utez.edu.sigeabackend.modules.entities.ModuleEntity;
 import com.utez.edu.sigeabackend.modules.entities.SubjectEntity;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.AcademicCatalogCacheStatsDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.CurriculumDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
 import com.utez.edu.sigeabackend.modules.repositories.CareerRepository;
 import com.utez.edu.sigeabackend.modules.repositories.CurriculumRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,24 +25,31 @@ public class CurriculumService {
 
     private final CurriculumRepository curriculumRepository;
     private final CareerRepository careerRepository;
+    private final CatalogVersionService catalogVersions;
+    private final AcademicCatalogCache catalogCache;
 
-    public CurriculumService(CurriculumRepository curriculumRepository, CareerRepository careerRepository) {
+    public CurriculumService(CurriculumRepository curriculumRepository, CareerRepository careerRepository,
+                             CatalogVersionService catalogVersions, AcademicCatalogCache catalogCache) {
         this.curriculumRepository = curriculumRepository;
         this.careerRepository = careerRepository;
+        this.catalogVersions = catalogVersions;
+        this.catalogCache = catalogCache;
     }
 
     public ResponseEntity<CurriculumDto> findById(long id) {
-        return curriculumRepository.findById(id)
-                .map(entity -> ResponseEntity.ok(toDto(entity)))
+        return catalogCache.curriculum(id)
+                .map(ResponseEntity::ok)
                 .orElseThrow(() ->
                         new ResponseStatusException(HttpStatus.NOT_FOUND, "Curriculum no encontrado")
                 );
     }
 
     public ResponseEntity<List<CurriculumDto>> findByCareerId(Long careerId) {
-        List<CurriculumEntity> curriculums = curriculumRepository.findByCareerId(careerId);
-        var dtos = curriculums.stream().map(this::toDto).toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(catalogCache.curriculaByCareer(careerId));
+    }
+
+    public AcademicCatalogCacheStatsDto cacheStats() {
+        return catalogCache.stats();
     }
 
     @Transactional
@@ -51,6 +60,8 @@ public class CurriculumService {
 
             curriculumEntity.setCareer(career);
             var saved = curriculumRepository.save(curriculumEntity);
+            catalogVersions.bump(Catalog.ACADEMIC);
+            catalogCache.invalidateCareer(career.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
         } catch (ResponseStatusException e) {
             throw e;
@@ -66,6 +77,8 @@ public class CurriculumService {
                     .map(curriculum -> {
                         curriculum.setName(curriculumEntity.getName());
                         var updated = curriculumRepository.save(curriculum);
+                        catalogVersions.bump(Catalog.ACADEMIC);
+                        catalogCache.invalidateCurriculum(id);
                         return ResponseEntity.ok(toDto(updated));
                     })
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Curriculum no encontrado"));
@@ -85,6 +98,9 @@ public class CurriculumService {
                             throw new ResponseStatusException(HttpStatus.CONFLICT, "No se puede eliminar un curriculum con módulos");
                         }
                         curriculumRepository.delete(curriculum);
+                        catalogVersions.bump(Catalog.ACADEMIC);
+                        catalogCache.invalidateCurriculum(id);
+                        catalogCache.invalidateCareer(curriculum.getCareer().getId());
                         return ResponseEntity.noContent().build();
                     })
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Curriculum no encontrado"));
@@ -0,0 +1,78 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
+
+import java.util.List;
+
+/**
+ * Línea de tiempo de un plan de estudios: semana (desde el inicio) en que abre cada
+ * módulo, como suma acumulada de las semanas de los módulos anteriores.
+ * La caché del catálogo la construye una vez por versión del plan; las consultas
+ * por semana se resuelven con búsqueda binaria sin recorrer módulos ni materias.
+ */
+public final class CurriculumTimeline {
+
+    public static final CurriculumTimeline EMPTY = of(List.of());
+
+    private final List<ModuleDto> modules;
+    /* starts[i] = semana en que abre el módulo i; starts[n] = duración total */
+    private final long[] starts;
+
+    private CurriculumTimeline(List<ModuleDto> modules, long[] starts) {
+        this.modules = modules;
+        this.starts = starts;
+    }
+
+    /** Los módulos deben venir en el orden en que se cursan */
+    public static CurriculumTimeline of(List<ModuleDto> modules) {
+        long[] starts = new long[modules.size() + 1];
+        for (int i = 0; i < modules.size(); i++) {
+            starts[i + 1] = starts[i] + weeksOf(modules.get(i));
+        }
+        return new CurriculumTimeline(List.copyOf(modules), starts);
+    }
+
+    public List<ModuleDto> modules() {
+        return modules;
+    }
+
+    public int size() {
+        return modules.size();
+    }
+
+    public long totalWeeks() {
+        return starts[modules.size()];
+    }
+
+    /** Semana en que abre el módulo indicado (0 para el primero) */
+    public long startWeek(int moduleIndex) {
+        return starts[moduleIndex];
+    }
+
+    /** Módulos abiertos cuando han transcurrido {@code elapsedWeeks} semanas: los que abrieron antes */
+    public List<ModuleDto> openAt(long elapsedWeeks) {
+        return modules.subList(0, firstStartingAtOrAfter(elapsedWeeks));
+    }
+
+    /** Índice del primer módulo que abre en la semana indicada o después; {@link #size()} si no queda ninguno */
+    public int firstStartingAtOrAfter(long week) {
+        int low = 0;
+        int high = modules.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < week) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static long weeksOf(ModuleDto module) {
+        if (module.subjects() == null) return 0;
+        long weeks = 0;
+        for (SubjectDto subject : module.subjects()) {
+            if (subject.weeks() != null) weeks += subject.weeks();
+        }
+        return weeks;
+    }
+}
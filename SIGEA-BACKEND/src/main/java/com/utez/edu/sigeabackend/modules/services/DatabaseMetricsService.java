@@ -0,0 +1,185 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.config.RequestQueryMetricsInterceptor;
+import com.utez.edu.sigeabackend.config.SqlStatementTracker;
+import com.utez.edu.sigeabackend.modules.entities.dto.metrics.DatabaseMetricsDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.metrics.DatabaseMetricsDto.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumen de la instrumentación de base de datos para dimensionar el pool y encontrar
+ * consultas lentas o repetidas. Las métricas de Micrometer son acumuladas desde el
+ * arranque; las de Hibernate y los N+1 recientes se pueden reiniciar con {@link #reset()}.
+ */
+@Service
+public class DatabaseMetricsService {
+
+    private static final int TOP = 25;
+    private static final double P95 = 0.95;
+
+    private final MeterRegistry registry;
+    private final SessionFactory sessionFactory;
+    private final SqlStatementTracker sqlStatementTracker;
+    private final long slowQueryMs;
+    private final int nPlusOneThreshold;
+
+    public DatabaseMetricsService(MeterRegistry registry,
+                                  EntityManagerFactory entityManagerFactory,
+                                  SqlStatementTracker sqlStatementTracker,
+                                  @Value("${sigea.jpa.slow-query-ms:500}") long slowQueryMs,
+                                  @Value("${sigea.metrics.n-plus-one.threshold:10}") int nPlusOneThreshold) {
+        this.registry = registry;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.slowQueryMs = slowQueryMs;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public DatabaseMetricsDto snapshot() {
+        Statistics stats = sessionFactory.getStatistics();
+        return new DatabaseMetricsDto(
+                pools(),
+                repositories(),
+                hibernate(stats),
+                statementsPerRequest(),
+                slowQueryMs,
+                slowQueries(stats),
+                nPlusOneThreshold,
+                sqlStatementTracker.recentSuspects().stream()
+                        .map(s -> new NPlusOneSuspect(s.at(), s.endpoint(), s.sql(), s.executions(), s.totalStatements()))
+                        .toList()
+        );
+    }
+
+    /** Reinicia las estadísticas de Hibernate y la lista de N+1 recientes */
+    public void reset() {
+        sessionFactory.getStatistics().clear();
+        sqlStatementTracker.clearSuspects();
+    }
+
+    private List<PoolStats> pools() {
+        return registry.find("hikaricp.connections").gauges().stream()
+                .map(g -> g.getId().getTag("pool"))
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(this::pool)
+                .toList();
+    }
+
+    private PoolStats pool(String pool) {
+        Timer acquire = registry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        Timer usage = registry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+        Counter timeouts = registry.find("hikaricp.connections.timeout").tag("pool", pool).counter();
+        return new PoolStats(
+                pool,
+                poolGauge("hikaricp.connections.active", pool),
+                poolGauge("hikaricp.connections.idle", pool),
+                poolGauge("hikaricp.connections.pending", pool),
+                poolGauge("hikaricp.connections", pool),
+                poolGauge("hikaricp.connections.max", pool),
+                acquire == null ? 0 : acquire.count(),
+                acquire == null ? 0 : acquire.mean(TimeUnit.MILLISECONDS),
+                acquire == null ? 0 : p95Ms(acquire.takeSnapshot()),
+                acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS),
+                usage == null ? 0 : p95Ms(usage.takeSnapshot()),
+                timeouts == null ? 0 : (long) timeouts.count()
+        );
+    }
+
+    private int poolGauge(String name, String pool) {
+        Gauge gauge = registry.find(name).tag("pool", pool).gauge();
+        return gauge == null ? 0 : (int) gauge.value();
+    }
+
+    /* Los métodos con más tiempo acumulado primero */
+    private List<RepositoryMethodStats> repositories() {
+        return registry.find("spring.data.repository.invocations").timers().stream()
+                .map(t -> new RepositoryMethodStats(
+                        t.getId().getTag("repository"),
+                        t.getId().getTag("method"),
+                        t.getId().getTag("state"),
+                        t.count(),
+                        t.totalTime(TimeUnit.MILLISECONDS),
+                        t.mean(TimeUnit.MILLISECONDS),
+                        p95Ms(t.takeSnapshot()),
+                        t.max(TimeUnit.MILLISECONDS)))
+                .sorted(Comparator.comparingDouble(RepositoryMethodStats::totalMs).reversed())
+                .limit(TOP)
+                .toList();
+    }
+
+    private List<EndpointStatements> statementsPerRequest() {
+        return registry.find(RequestQueryMetricsInterceptor.STATEMENTS_PER_REQUEST).summaries().stream()
+                .map(s -> new EndpointStatements(
+                        s.getId().getTag("endpoint"),
+                        s.count(),
+                        s.mean(),
+                        p95(s),
+                        s.max()))
+                .sorted(Comparator.comparingDouble(EndpointStatements::mean).reversed())
+                .limit(TOP)
+                .toList();
+    }
+
+    private static HibernateStats hibernate(Statistics s) {
+        return new HibernateStats(
+                s.isStatisticsEnabled(),
+                s.getQueryExecutionCount(),
+                s.getQueryExecutionMaxTime(),
+                s.getQueryExecutionMaxTimeQueryString(),
+                s.getPrepareStatementCount(),
+                s.getEntityLoadCount(),
+                s.getEntityFetchCount(),
+                s.getCollectionLoadCount(),
+                s.getCollectionFetchCount(),
+                s.getTransactionCount(),
+                s.getFlushCount()
+        );
+    }
+
+    /* Consultas JPQL/HQL cuya ejecución más lenta superó el umbral */
+    private List<SlowQuery> slowQueries(Statistics s) {
+        return Arrays.stream(s.getQueries())
+                .map(query -> {
+                    QueryStatistics q = s.getQueryStatistics(query);
+                    return new SlowQuery(query, q.getExecutionCount(), q.getExecutionAvgTime(), q.getExecutionMaxTime());
+                })
+                .filter(q -> q.maxMs() >= slowQueryMs)
+                .sorted(Comparator.comparingLong(SlowQuery::maxMs).reversed())
+                .limit(TOP)
+                .toList();
+    }
+
+    private static double p95Ms(HistogramSnapshot snapshot) {
+        for (ValueAtPercentile v : snapshot.percentileValues()) {
+            if (v.percentile() == P95) return v.value(TimeUnit.MILLISECONDS);
+        }
+        return 0;
+    }
+
+    private static double p95(DistributionSummary summary) {
+        for (ValueAtPercentile v : summary.takeSnapshot().percentileValues()) {
+            if (v.percentile() == P95) return v.value();
+        }
+        return 0;
+    }
+}
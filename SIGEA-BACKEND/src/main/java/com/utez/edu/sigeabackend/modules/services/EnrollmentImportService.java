@@ -0,0 +1,392 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.modules.entities.*;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.EnrollmentImportDtos.ImportJobDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.EnrollmentImportDtos.ImportRowErrorDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.EnrollmentImportDtos.ImportStatus;
+import com.utez.edu.sigeabackend.modules.repositories.*;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
+import com.utez.edu.sigeabackend.utils.csv.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Importación masiva de usuarios + inscripción a una carrera desde CSV.
+ *
+ * Columnas: nombre, apellido paterno, apellido materno, email, matrícula (opcional).
+ * El archivo se lee y valida en la petición (registro por registro); la unicidad contra
+ * la BD, el BCrypt y el guardado corren en segundo plano por bloques, y el avance se
+ * consulta con {@link #getJob(String)}.
+ */
+@Service
+public class EnrollmentImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentImportService.class);
+
+    private static final int MAX_ROWS = 10_000;
+    private static final int CHUNK_SIZE = 100;
+    private static final int QUERY_CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 500;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepo;
+    private final UserCareerEnrollmentRepository enrollmentRepo;
+    private final CareerRepository careerRepo;
+    private final RoleRepository roleRepo;
+    private final RegistrationNumberAllocator registrationNumbers;
+    private final CatalogVersionService catalogVersions;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transaction;
+    private final TaskExecutor importExecutor;
+    private final Executor hashExecutor;
+
+    private final ConcurrentMap<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public EnrollmentImportService(UserRepository userRepo,
+                                   UserCareerEnrollmentRepository enrollmentRepo,
+                                   CareerRepository careerRepo,
+                                   RoleRepository roleRepo,
+                                   RegistrationNumberAllocator registrationNumbers,
+                                   CatalogVersionService catalogVersions,
+                                   PasswordEncoder passwordEncoder,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("importExecutor") TaskExecutor importExecutor,
+                                   @Qualifier("passwordHashExecutor") Executor hashExecutor) {
+        this.userRepo = userRepo;
+        this.enrollmentRepo = enrollmentRepo;
+        this.careerRepo = careerRepo;
+        this.roleRepo = roleRepo;
+        this.registrationNumbers = registrationNumbers;
+        this.catalogVersions = catalogVersions;
+        this.passwordEncoder = passwordEncoder;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.importExecutor = importExecutor;
+        this.hashExecutor = hashExecutor;
+    }
+
+    /** Fila ya validada en forma; line es la línea del CSV para reportar errores */
+    private record ImportRow(int line, String name, String paternalSurname, String maternalSurname,
+                             String email, String registrationNumber) {}
+
+    /** Fila lista para guardar, con la contraseña ya cifrada */
+    private record HashedRow(ImportRow row, String passwordHash) {}
+
+    private record Target(Long careerId, Long campusId, Long roleId, String roleName) {}
+
+    /* ─── Estado en memoria de cada importación ─── */
+    private static final class ImportJob {
+        final String id = UUID.randomUUID().toString();
+        final Target target;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final List<ImportRowErrorDto> errors = new ArrayList<>();
+        volatile int total;
+        volatile ImportStatus status = ImportStatus.QUEUED;
+        volatile LocalDateTime finishedAt;
+
+        ImportJob(Target target) { this.target = target; }
+
+        void fail(ImportRow row, String message) {
+            fail(row.line(), row.email(), message);
+        }
+
+        void fail(int line, String email, String message) {
+            failed.incrementAndGet();
+            processed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new ImportRowErrorDto(line, email, message));
+            }
+        }
+
+        ImportJobDto toDto() {
+            List<ImportRowErrorDto> snapshot;
+            synchronized (errors) {
+                snapshot = List.copyOf(errors);
+            }
+            return new ImportJobDto(id, status, target.careerId(), target.roleName(), total,
+                    processed.get(), created.get(), failed.get(), startedAt, finishedAt, snapshot);
+        }
+    }
+
+    /**
+     * Lee y valida el CSV y encola la importación. El archivo se consume aquí porque
+     * el temporal del multipart se borra al terminar la petición.
+     */
+    public ImportJobDto startImport(Long careerId, Long roleId, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "El archivo CSV está vacío");
+        }
+
+        CareerEntity career = careerRepo.findById(careerId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Carrera no encontrada"));
+        RoleEntity role = (roleId != null ? roleRepo.findById(roleId) : roleRepo.findByRoleName("STUDENT"))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Role no existe"));
+        if (!"STUDENT".equals(role.getRoleName()) && !"TEACHER".equals(role.getRoleName())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Solo se pueden importar alumnos o maestros");
+        }
+
+        purgeFinishedJobs();
+        ImportJob job = new ImportJob(new Target(career.getId(), career.getCampus().getId(),
+                role.getId(), role.getRoleName()));
+        List<ImportRow> rows = parse(file, job);
+        job.total = rows.size() + job.failed.get();
+
+        jobs.put(job.id, job);
+        try {
+            importExecutor.execute(() -> run(job, rows));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Hay demasiadas importaciones en cola, intenta más tarde");
+        }
+        return job.toDto();
+    }
+
+    public ImportJobDto getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Importación no encontrada");
+        }
+        return job.toDto();
+    }
+
+    /* ─── Lectura y validación de forma (sin BD) ─── */
+
+    private List<ImportRow> parse(MultipartFile file, ImportJob job) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> numbers = new HashSet<>();
+        boolean teacher = "TEACHER".equals(job.target.roleName());
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> record;
+            boolean first = true;
+            while ((record = csv.next()) != null) {
+                int line = csv.getRecordLine();
+                String email = field(record, 3);
+                // Encabezado opcional: la primera fila sin un email válido se ignora
+                if (first) {
+                    first = false;
+                    if (email == null || !email.contains("@")) continue;
+                }
+                if (rows.size() + job.failed.get() >= MAX_ROWS) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "El archivo excede el máximo de " + MAX_ROWS + " filas");
+                }
+
+                String name = field(record, 0);
+                String paternal = field(record, 1);
+                String maternal = field(record, 2);
+                String number = field(record, 4);
+                String normalizedEmail = email != null ? email.toLowerCase().trim() : null;
+
+                String error = null;
+                if (name == null) error = "El nombre es obligatorio";
+                else if (paternal == null) error = "El apellido paterno es obligatorio";
+                else if (normalizedEmail == null || !EMAIL.matcher(normalizedEmail).matches()) error = "Email inválido";
+                else if (name.length() > 80 || paternal.length() > 80 || (maternal != null && maternal.length() > 80))
+                    error = "Nombre o apellidos exceden 80 caracteres";
+                else if (normalizedEmail.length() > 120) error = "El email excede 120 caracteres";
+                else if (!emails.add(normalizedEmail)) error = "Email repetido en el archivo";
+                else if (number != null) {
+                    if (number.length() > 15) error = "La matrícula no puede exceder 15 caracteres";
+                    else if (teacher != number.endsWith("-M"))
+                        error = teacher ? "Las matrículas de maestros deben terminar con -M"
+                                        : "Solo las matrículas de maestros pueden terminar con -M";
+                    else if (!numbers.add(number)) error = "Matrícula repetida en el archivo";
+                }
+
+                if (error != null) {
+                    job.fail(line, normalizedEmail, error);
+                } else {
+                    rows.add(new ImportRow(line, name, paternal, maternal, normalizedEmail, number));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String field(List<String> record, int index) {
+        if (index >= record.size()) return null;
+        String value = record.get(index);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /* ─── Proceso en segundo plano ─── */
+
+    private void run(ImportJob job, List<ImportRow> rows) {
+        job.status = ImportStatus.RUNNING;
+        try {
+            List<ImportRow> valid = rejectExisting(job, rows);
+
+            // Mientras se guarda un bloque, el siguiente ya se está cifrando
+            List<List<ImportRow>> chunks = partition(valid, CHUNK_SIZE);
+            CompletableFuture<List<HashedRow>> pending = chunks.isEmpty() ? null : hash(chunks.getFirst());
+            for (int i = 0; i < chunks.size(); i++) {
+                List<HashedRow> hashed = pending.join();
+                pending = i + 1 < chunks.size() ? hash(chunks.get(i + 1)) : null;
+                persist(job, hashed);
+            }
+
+            job.status = ImportStatus.COMPLETED;
+        } catch (Exception e) {
+            log.error("Importación {} interrumpida", job.id, e);
+            job.status = ImportStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            if (job.created.get() > 0) {
+                catalogVersions.bump(Catalog.CAMPUSES, Catalog.CAREERS);
+            }
+        }
+    }
+
+    /* Unicidad contra la BD con consultas IN por bloques en lugar de una por fila */
+    private List<ImportRow> rejectExisting(ImportJob job, List<ImportRow> rows) {
+        Set<String> existingEmails = new HashSet<>();
+        for (List<ImportRow> chunk : partition(rows, QUERY_CHUNK_SIZE)) {
+            existingEmails.addAll(userRepo.findExistingEmails(chunk.stream().map(ImportRow::email).toList()));
+        }
+
+        List<String> customNumbers = rows.stream().map(ImportRow::registrationNumber).filter(Objects::nonNull).toList();
+        Set<String> existingNumbers = new HashSet<>();
+        for (List<String> chunk : partition(customNumbers, QUERY_CHUNK_SIZE)) {
+            existingNumbers.addAll(enrollmentRepo.findExistingRegistrationNumbers(job.target.campusId(), chunk));
+        }
+
+        List<ImportRow> valid = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existingEmails.contains(row.email())) {
+                job.fail(row, "El email ya está registrado");
+            } else if (row.registrationNumber() != null && existingNumbers.contains(row.registrationNumber())) {
+                job.fail(row, "Ya existe un usuario con esta matrícula en el campus");
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    /* La contraseña inicial es el email normalizado, igual que en UserService.create */
+    private CompletableFuture<List<HashedRow>> hash(List<ImportRow> chunk) {
+        List<CompletableFuture<HashedRow>> futures = chunk.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> new HashedRow(row, passwordEncoder.encode(row.email())), hashExecutor))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /* Un bloque por transacción; si falla, se reintenta fila por fila para aislar el error */
+    private void persist(ImportJob job, List<HashedRow> chunk) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                Context ctx = context(job.target);
+                List<UserEntity> users = new ArrayList<>(chunk.size());
+                List<UserCareerEnrollmentEntity> enrollments = new ArrayList<>(chunk.size());
+                for (HashedRow hashed : chunk) {
+                    UserEntity user = newUser(hashed, ctx);
+                    users.add(user);
+                    enrollments.add(newEnrollment(user, hashed.row(), ctx));
+                }
+                userRepo.saveAll(users);
+                enrollmentRepo.saveAll(enrollments);
+                userRepo.flush();
+            });
+            job.created.addAndGet(chunk.size());
+            job.processed.addAndGet(chunk.size());
+        } catch (Exception chunkError) {
+            for (HashedRow hashed : chunk) {
+                try {
+                    transaction.executeWithoutResult(status -> {
+                        Context ctx = context(job.target);
+                        UserEntity user = userRepo.save(newUser(hashed, ctx));
+                        enrollmentRepo.saveAndFlush(newEnrollment(user, hashed.row(), ctx));
+                    });
+                    job.created.incrementAndGet();
+                    job.processed.incrementAndGet();
+                } catch (Exception rowError) {
+                    job.fail(hashed.row(), "No se pudo guardar: " + rootMessage(rowError));
+                }
+            }
+        }
+    }
+
+    private record Context(CareerEntity career, CampusEntity campus, RoleEntity role) {}
+
+    private Context context(Target target) {
+        CareerEntity career = careerRepo.findById(target.careerId())
+                .orElseThrow(() -> new IllegalStateException("La carrera ya no existe"));
+        RoleEntity role = roleRepo.getReferenceById(target.roleId());
+        return new Context(career, career.getCampus(), role);
+    }
+
+    private static UserEntity newUser(HashedRow hashed, Context ctx) {
+        ImportRow row = hashed.row();
+        UserEntity user = new UserEntity();
+        user.setName(row.name());
+        user.setPaternalSurname(row.paternalSurname());
+        user.setMaternalSurname(row.maternalSurname());
+        user.setEmail(row.email());
+        user.setCampus(ctx.campus());
+        user.setRole(ctx.role());
+        user.setPassword(hashed.passwordHash());
+        return user;
+    }
+
+    private UserCareerEnrollmentEntity newEnrollment(UserEntity user, ImportRow row, Context ctx) {
+        String roleName = "TEACHER".equals(ctx.role().getRoleName()) ? "TEACHER" : "STUDENT";
+        String number = row.registrationNumber();
+        if (number != null) {
+            registrationNumbers.observe(ctx.career(), roleName, number);
+        } else {
+            number = registrationNumbers.next(ctx.career(), roleName);
+        }
+        return new UserCareerEnrollmentEntity(user, ctx.career(), ctx.campus(), number);
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(limit));
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> parts = new ArrayList<>((list.size() + size - 1) / size);
+        for (int i = 0; i < list.size(); i += size) {
+            parts.add(list.subList(i, Math.min(list.size(), i + size)));
+        }
+        return parts;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+}
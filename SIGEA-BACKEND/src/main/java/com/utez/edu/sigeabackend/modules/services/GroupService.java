@@ -2,11 +2,15 @@ package com.utez.edu.sigeabackend.modules.services;
 
 import com.utez.edu.sigeabackend.modules.entities.*;
 import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.GroupRequestDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.GroupResponseDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.UpcomingModuleBoundaryDto;
 import com.utez.edu.sigeabackend.modules.repositories.CareerRepository;
 import com.utez.edu.sigeabackend.modules.repositories.CurriculumRepository;
 import com.utez.edu.sigeabackend.modules.repositories.GroupRepository;
+import com.utez.edu.sigeabackend.modules.repositories.GroupScheduleProjection;
 import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -15,6 +19,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -22,16 +29,24 @@ import java.util.stream.Collectors;
 @Service
 public class GroupService {
 
+    private static final int MAX_UPCOMING_DAYS = 180;
+
     private final GroupRepository repository;
     private final UserRepository userRepository;
     private final CareerRepository careerRepository;
     private final CurriculumRepository curriculumRepository;
+    private final CatalogVersionService catalogVersions;
+    private final AcademicCatalogCache catalogCache;
 
-    public GroupService(GroupRepository repository, UserRepository userRepository, CareerRepository careerRepository, CurriculumRepository curriculumRepository) {
+    public GroupService(GroupRepository repository, UserRepository userRepository, CareerRepository careerRepository,
+                        CurriculumRepository curriculumRepository, CatalogVersionService catalogVersions,
+                        AcademicCatalogCache catalogCache) {
         this.repository = repository;
         this.userRepository = userRepository;
         this.careerRepository = careerRepository;
         this.curriculumRepository = curriculumRepository;
+        this.catalogVersions = catalogVersions;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -167,25 +182,10 @@ public class GroupService {
     }
 
     /**
-     * Calcula la duración total en semanas de un curriculum
+     * Calcula la duración total en semanas de un curriculum (precalculada en la caché del catálogo)
      */
     private int calculateCurriculumWeeks(CurriculumEntity curriculum) {
-        if (curriculum == null || curriculum.getModules() == null || curriculum.getModules().isEmpty()) {
-            return 0;
-        }
-
-        return curriculum.getModules().stream()
-                .filter(Objects::nonNull)
-                .mapToInt(module -> {
-                    if (module.getSubjects() == null || module.getSubjects().isEmpty()) {
-                        return 0;
-                    }
-                    return module.getSubjects().stream()
-                            .filter(Objects::nonNull)
-                            .mapToInt(SubjectEntity::getWeeks)
-                            .sum();
-                })
-                .sum();
+        return curriculum == null ? 0 : catalogCache.totalWeeks(curriculum.getId());
     }
 
     /**
@@ -329,6 +329,49 @@ public class GroupService {
         return ResponseEntity.ok(dtos);
     }
 
+    /**
+     * Inicios de módulo y fines de plan de los grupos activos en los próximos {@code days} días,
+     * ordenados por fecha. Cada grupo se ubica en la línea de tiempo precalculada de su plan.
+     */
+    public ResponseEntity<List<UpcomingModuleBoundaryDto>> findUpcomingModuleBoundaries(int days, Long careerId) {
+        if (days < 1 || days > MAX_UPCOMING_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "El rango debe estar entre 1 y " + MAX_UPCOMING_DAYS + " días");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(days);
+
+        List<UpcomingModuleBoundaryDto> boundaries = new ArrayList<>();
+        for (GroupScheduleProjection g : repository.findSchedules(GroupStatus.ACTIVE, today, careerId)) {
+            if (g.getStartDate() == null) continue;
+            CurriculumTimeline timeline = catalogCache.timeline(g.getCurriculumId());
+            if (timeline.size() == 0) continue;
+
+            // Primer módulo cuyo inicio cae hoy o después
+            long elapsedDays = ChronoUnit.DAYS.between(g.getStartDate(), today);
+            long fromWeek = Math.max(0, Math.ceilDiv(elapsedDays, 7));
+            for (int i = timeline.firstStartingAtOrAfter(fromWeek); i < timeline.size(); i++) {
+                LocalDate date = g.getStartDate().plusWeeks(timeline.startWeek(i));
+                if (date.isAfter(horizon)) break;
+                ModuleDto module = timeline.modules().get(i);
+                boundaries.add(new UpcomingModuleBoundaryDto(g.getId(), g.getName(), g.getCareerId(),
+                        g.getCurriculumId(), "MODULE_START", module.id(), module.name(), i + 1,
+                        timeline.startWeek(i), date.toString()));
+            }
+
+            LocalDate end = g.getStartDate().plusWeeks(timeline.totalWeeks());
+            if (!end.isBefore(today) && !end.isAfter(horizon)) {
+                boundaries.add(new UpcomingModuleBoundaryDto(g.getId(), g.getName(), g.getCareerId(),
+                        g.getCurriculumId(), "CURRICULUM_END", null, null, null,
+                        timeline.totalWeeks(), end.toString()));
+            }
+        }
+
+        boundaries.sort(Comparator.comparing(UpcomingModuleBoundaryDto::date)
+                .thenComparing(UpcomingModuleBoundaryDto::groupId));
+        return ResponseEntity.ok(boundaries);
+    }
+
     // CREAR NUEVO GRUPO
     @Transactional
     public ResponseEntity<GroupResponseDto> create(GroupRequestDto dto) {
@@ -347,6 +390,7 @@ public class GroupService {
         }
 
         GroupEntity saved = repository.save(group);
+        catalogVersions.bump(Catalog.CAREERS);
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponseDto(saved));
     }
 
@@ -366,6 +410,7 @@ public class GroupService {
         populateFromDto(existing, dto, entities.teacher(), entities.career(), entities.curriculum());
 
         GroupEntity updated = repository.save(existing);
+        catalogVersions.bump(Catalog.CAREERS); // el grupo pudo cambiar de carrera
         return ResponseEntity.ok(toResponseDto(updated));
     }
 
@@ -396,6 +441,7 @@ public class GroupService {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
         repository.deleteById(id);
+        catalogVersions.bump(Catalog.CAREERS);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.utez.edu.sigeabackend.modules.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.utez.edu.sigeabackend.config.CustomResponseEntity;
 import com.utez.edu.sigeabackend.modules.entities.GroupEntity;
 import com.utez.edu.sigeabackend.modules.entities.GroupStudentEntity;
@@ -7,13 +9,22 @@ import com.utez.edu.sigeabackend.modules.entities.UserEntity;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.GroupStudentDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.StudentGroupCheckDto;
 import com.utez.edu.sigeabackend.modules.repositories.GroupRepository;
+import com.utez.edu.sigeabackend.modules.repositories.GroupRosterProjection;
 import com.utez.edu.sigeabackend.modules.repositories.GroupStudentRepository;
 import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
 import com.utez.edu.sigeabackend.modules.entities.GroupStudentEntity.Id;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class GroupStudentService {
@@ -21,37 +32,39 @@ public class GroupStudentService {
     private final GroupRepository groupRepo;
     private final UserRepository userRepo;
     private final CustomResponseEntity responseService;
+    private final ObjectWriter rosterWriter;
+    private final TransactionTemplate readOnly;
 
-    public GroupStudentService(GroupStudentRepository studentRepo, GroupRepository groupRepo, UserRepository userRepo, CustomResponseEntity responseService){
+    public GroupStudentService(GroupStudentRepository studentRepo, GroupRepository groupRepo, UserRepository userRepo,
+                               CustomResponseEntity responseService, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager){
         this.studentRepo = studentRepo;
         this.groupRepo = groupRepo;
         this.userRepo = userRepo;
         this.responseService = responseService;
+        this.rosterWriter = objectMapper.writerFor(GroupStudentDto.class);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
     }
 
     /**
-     * Convierte GroupStudentEntity a GroupStudentDto con información completa
+     * Convierte una fila de la lista del grupo a GroupStudentDto
      */
-    private GroupStudentDto toDto(GroupStudentEntity gs) {
-        var user = gs.getStudent();
-        String fullName = user.getName()
+    private static GroupStudentDto toDto(GroupRosterProjection row) {
+        String fullName = row.getName()
                 + " "
-                + user.getPaternalSurname()
-                + (user.getMaternalSurname() != null ? " " + user.getMaternalSurname() : "");
-
-        // Obtener el careerId del grupo
-        Long careerId = gs.getGroup() != null && gs.getGroup().getCareer() != null
-                ? gs.getGroup().getCareer().getId()
-                : null;
+                + row.getPaternalSurname()
+                + (row.getMaternalSurname() != null ? " " + row.getMaternalSurname() : "");
+        long activeEnrollments = row.getActiveEnrollments() == null ? 0 : row.getActiveEnrollments();
 
         return new GroupStudentDto(
-                gs.getId().getGroupId(),
-                gs.getId().getStudentId(),
+                row.getGroupId(),
+                row.getStudentId(),
                 fullName,
-                user.getEmail() != null ? user.getEmail() : "",
-                user.getPrimaryRegistrationNumber() != null ? user.getPrimaryRegistrationNumber() : "",
-                user.getAdditionalEnrollmentsCount(),
-                careerId
+                row.getEmail() != null ? row.getEmail() : "",
+                row.getPrimaryRegistrationNumber() != null ? row.getPrimaryRegistrationNumber() : "",
+                (int) Math.max(0, activeEnrollments - 1),
+                row.getCareerId()
         );
     }
 
@@ -109,20 +122,39 @@ public class GroupStudentService {
 
     @Transactional(readOnly = true)
     public List<GroupStudentDto> getStudentsInGroup(long groupId) {
-        return studentRepo.findActiveByGroupId(groupId)
+        return studentRepo.findRosterByGroupId(groupId)
                 .stream()
-                .map(this::toDto)
+                .map(GroupStudentService::toDto)
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public List<GroupStudentDto> getAllStudentsWithGroup() {
-        return studentRepo.findAllActiveWithDetails()
+        return studentRepo.findActiveRoster()
                 .stream()
-                .map(this::toDto)
+                .map(GroupStudentService::toDto)
                 .toList();
     }
 
+    /**
+     * Escribe todas las inscripciones activas como JSON por línea (NDJSON) conforme
+     * llegan de la base de datos, sin armar la lista completa en memoria
+     */
+    public void exportAllStudentsWithGroup(OutputStream out) {
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<GroupRosterProjection> rows = studentRepo.streamActiveRoster()) {
+                BufferedOutputStream buffered = new BufferedOutputStream(out);
+                for (GroupRosterProjection row : (Iterable<GroupRosterProjection>) rows::iterator) {
+                    buffered.write(rosterWriter.writeValueAsBytes(toDto(row)));
+                    buffered.write('\n');
+                }
+                buffered.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @Transactional(readOnly = true)
     public List<GroupStudentEntity> findByStudent(long studentId) {
         return studentRepo.findActiveByStudentId(studentId);
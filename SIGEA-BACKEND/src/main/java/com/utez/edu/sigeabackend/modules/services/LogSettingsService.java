@@ -0,0 +1,54 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.config.DebugLogSampler;
+import com.utez.edu.sigeabackend.modules.entities.dto.metrics.LogSettingsDto;
+import com.utez.edu.sigeabackend.utils.security.JWTRequestFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Cambia en caliente la depuración del filtro JWT, sin reiniciar: el nivel del logger
+ * se ajusta en el sistema de logging y la tasa de muestreo en {@link DebugLogSampler}.
+ */
+@Service
+public class LogSettingsService {
+
+    private static final Logger log = LoggerFactory.getLogger(LogSettingsService.class);
+    private static final String FILTER_LOGGER = JWTRequestFilter.class.getName();
+
+    private final LoggingSystem loggingSystem;
+    private final DebugLogSampler sampler;
+
+    public LogSettingsService(LoggingSystem loggingSystem, DebugLogSampler sampler) {
+        this.loggingSystem = loggingSystem;
+        this.sampler = sampler;
+    }
+
+    public LogSettingsDto current() {
+        LoggerConfiguration config = loggingSystem.getLoggerConfiguration(FILTER_LOGGER);
+        boolean debug = config != null && config.getEffectiveLevel().ordinal() <= LogLevel.DEBUG.ordinal();
+        return new LogSettingsDto(debug, sampler.getRate());
+    }
+
+    public LogSettingsDto update(LogSettingsDto dto) {
+        if (dto.sampleRate() != null) {
+            if (dto.sampleRate() < 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La tasa de muestreo debe ser al menos 1");
+            }
+            sampler.setRate(dto.sampleRate());
+        }
+        if (dto.filterDebug() != null) {
+            // null restablece el nivel heredado de la configuración
+            loggingSystem.setLogLevel(FILTER_LOGGER, dto.filterDebug() ? LogLevel.DEBUG : null);
+        }
+        LogSettingsDto current = current();
+        log.info("Depuración del filtro JWT: {}, muestreo 1/{}", current.filterDebug(), current.sampleRate());
+        return current;
+    }
+}
@@ -7,6 +7,7 @@ import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
 import com.utez.edu.sigeabackend.modules.repositories.CurriculumRepository;
 import com.utez.edu.sigeabackend.modules.repositories.ModuleRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -20,16 +21,19 @@ import java.util.List;
 public class ModuleService {
     private final ModuleRepository moduleRepository;
     private final CurriculumRepository curriculumRepository;
+    private final CatalogVersionService catalogVersions;
+    private final AcademicCatalogCache catalogCache;
 
-    public ModuleService(ModuleRepository moduleRepository, CurriculumRepository curriculumRepository) {
+    public ModuleService(ModuleRepository moduleRepository, CurriculumRepository curriculumRepository,
+                         CatalogVersionService catalogVersions, AcademicCatalogCache catalogCache) {
         this.moduleRepository = moduleRepository;
         this.curriculumRepository = curriculumRepository;
+        this.catalogVersions = catalogVersions;
+        this.catalogCache = catalogCache;
     }
 
     public ResponseEntity<List<ModuleDto>> findByCurriculumId(Long curriculumId) {
-        List<ModuleEntity> modules = moduleRepository.findByCurriculumId(curriculumId);
-        var dtos = modules.stream().map(this::toModuleDto).toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(catalogCache.modules(curriculumId));
     }
 
     @Transactional
@@ -39,6 +43,8 @@ public class ModuleService {
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Currículum no encontrado"));
             moduleEntity.setCurriculum(curriculum);
             var saved = moduleRepository.save(moduleEntity);
+            catalogVersions.bump(Catalog.ACADEMIC);
+            catalogCache.invalidateCurriculum(curriculum.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(toModuleDto(saved));
         } catch (ResponseStatusException e) {
             throw e;
@@ -54,6 +60,8 @@ public class ModuleService {
                     .map(module -> {
                         module.setName(moduleEntity.getName());
                         var updated = moduleRepository.save(module);
+                        catalogVersions.bump(Catalog.ACADEMIC);
+                        catalogCache.invalidateCurriculum(module.getCurriculum().getId());
                         return ResponseEntity.ok(toModuleDto(updated));
                     })
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Módulo no encontrado"));
@@ -73,6 +81,8 @@ public class ModuleService {
                             throw new ResponseStatusException(HttpStatus.CONFLICT, "No se puede eliminar un módulo con materias");
                         }
                         moduleRepository.delete(module);
+                        catalogVersions.bump(Catalog.ACADEMIC);
+                        catalogCache.invalidateCurriculum(module.getCurriculum().getId());
                         return ResponseEntity.noContent().build();
                     })
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Módulo no encontrado"));
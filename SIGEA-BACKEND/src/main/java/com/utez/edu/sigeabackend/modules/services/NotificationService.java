@@ -4,20 +4,33 @@ import com.utez.edu.sigeabackend.modules.entities.NotificationCountMessage;
 import com.utez.edu.sigeabackend.modules.entities.NotificationEntity;
 import com.utez.edu.sigeabackend.modules.entities.NotificationWebSocketMessage;
 import com.utez.edu.sigeabackend.modules.entities.NotificationType;
+import com.utez.edu.sigeabackend.modules.entities.dto.notifications.BroadcastNotificationRequest;
 import com.utez.edu.sigeabackend.modules.repositories.NotificationRepository;
+import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
 import java.util.List;
 
 @Service
 public class NotificationService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+
     private final NotificationRepository repository;
     private final WebSocketService webSocketService;
+    private final UserRepository userRepository;
 
     public NotificationService(NotificationRepository repository,
-                               WebSocketService webSocketService) {
+                               WebSocketService webSocketService,
+                               UserRepository userRepository) {
         this.repository = repository;
         this.webSocketService = webSocketService;
+        this.userRepository = userRepository;
     }
 
     /**
@@ -50,10 +63,10 @@ public class NotificationService {
             webSocketService.sendNotificationToUser(notification.getUserId(), wsMessage);
             webSocketService.sendNotificationCountToUser(notification.getUserId());
 
-            System.out.println("Notificación creada: ID=" + notification.getId() + ", Usuario=" + notification.getUserId());
+            log.debug("Notificación creada: id={}, usuario={}", notification.getId(), notification.getUserId());
             return notification;
         } catch (Exception e) {
-            System.out.println("Error al crear notificación para usuario " + userId + ": " + e.getMessage());
+            log.warn("Error al crear notificación para usuario {}", userId, e);
             throw new RuntimeException("Error al crear notificación", e);
         }
     }
@@ -103,15 +116,44 @@ public class NotificationService {
                 webSocketService.sendNotificationCountToUser(notification.getUserId());
             }
 
-            System.out.println("Notificaciones masivas creadas: " + notifications.size() + " notificaciones, Tipo=" + type.getValue());
+            log.info("Notificaciones masivas creadas: {} notificaciones, tipo={}", notifications.size(), type.getValue());
 
             return notifications;
         } catch (Exception e) {
-            System.out.println("Error al crear notificaciones masivas: " + e.getMessage());
+            log.warn("Error al crear notificaciones masivas", e);
             throw new RuntimeException("Error al crear notificaciones masivas", e);
         }
     }
 
+    /**
+     * Aviso de administración para una lista de usuarios o para todo un campus.
+     * Devuelve cuántas notificaciones se crearon.
+     */
+    @Transactional
+    public int broadcast(BroadcastNotificationRequest request) {
+        if (!StringUtils.hasText(request.title()) || !StringUtils.hasText(request.message())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "El título y el mensaje son obligatorios");
+        }
+        NotificationType type;
+        try {
+            type = NotificationType.fromValue(request.type() != null ? request.type() : NotificationType.INFO.getValue());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        List<Long> userIds;
+        if (request.userIds() != null && !request.userIds().isEmpty()) {
+            userIds = request.userIds();
+        } else if (request.campusId() != null) {
+            userIds = userRepository.findIdsByCampusId(request.campusId());
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Indica los usuarios o el campus destinatario");
+        }
+        if (userIds.isEmpty()) return 0;
+
+        return createBulkNotifications(userIds, type, request.title(), request.message()).size();
+    }
+
     /**
      * Obtener el contador de notificaciones de un usuario específico
      */
@@ -139,12 +181,12 @@ public class NotificationService {
             int updated = repository.markAsReadByIdAndUserId(notificationId, userId);
             if (updated > 0) {
                 webSocketService.sendNotificationCountToUser(userId);
-                System.out.println("Notificación marcada como leída: ID=" + notificationId + ", Usuario=" + userId);
+                log.debug("Notificación marcada como leída: id={}, usuario={}", notificationId, userId);
                 return true;
             }
             return false;
         } catch (Exception e) {
-            System.out.println("Error al marcar notificación como leída: ID=" + notificationId + ", Usuario=" + userId + " - " + e.getMessage());
+            log.warn("Error al marcar notificación como leída: id={}, usuario={}", notificationId, userId, e);
             throw new RuntimeException("Error al marcar notificación como leída", e);
         }
     }
@@ -158,12 +200,12 @@ public class NotificationService {
             int deleted = repository.deleteByIdAndUserId(notificationId, userId);
             if (deleted > 0) {
                 webSocketService.sendNotificationCountToUser(userId);
-                System.out.println("Notificación eliminada: ID=" + notificationId + ", Usuario=" + userId);
+                log.debug("Notificación eliminada: id={}, usuario={}", notificationId, userId);
                 return true;
             }
             return false;
         } catch (Exception e) {
-            System.out.println("Error al eliminar notificación: ID=" + notificationId + ", Usuario=" + userId + " - " + e.getMessage());
+            log.warn("Error al eliminar notificación: id={}, usuario={}", notificationId, userId, e);
             throw new RuntimeException("Error al eliminar notificación", e);
         }
     }
@@ -177,12 +219,12 @@ public class NotificationService {
             int deleted = repository.deleteAllReadByUserId(userId);
             if (deleted > 0) {
                 webSocketService.sendNotificationCountToUser(userId);
-                System.out.println("Todas las notificaciones leídas eliminadas para usuario: " + userId + " (Total: " + deleted + ")");
+                log.debug("Notificaciones leídas eliminadas: usuario={}, total={}", userId, deleted);
                 return true; // FIX: Corregido el return que estaba en false
             }
             return false;
         } catch (Exception e) {
-            System.out.println("Error al eliminar todas las notificaciones leídas para usuario " + userId + ": " + e.getMessage());
+            log.warn("Error al eliminar las notificaciones leídas del usuario {}", userId, e);
             throw new RuntimeException("Error al eliminar todas las notificaciones leídas", e);
         }
     }
@@ -1,5 +1,6 @@
 package com.utez.edu.sigeabackend.modules.services;
 
+import com.utez.edu.sigeabackend.modules.analytics.CampusRollupEngine;
 import com.utez.edu.sigeabackend.modules.entities.*;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.QualificationDetailDto;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.QualificationDto;
@@ -22,17 +23,20 @@ public class QualificationService {
     private final GroupRepository groupRepository;
     private final SubjectRepository subjectRepository;
     private final GroupStudentRepository groupStudentRepository;
+    private final CampusRollupEngine rollupEngine;
 
     public QualificationService(QualificationRepository qualificationRepository,
                                 UserRepository userRepository,
                                 GroupRepository groupRepository,
                                 SubjectRepository subjectRepository,
-                                GroupStudentRepository groupStudentRepository) {
+                                GroupStudentRepository groupStudentRepository,
+                                CampusRollupEngine rollupEngine) {
         this.qualificationRepository = qualificationRepository;
         this.userRepository = userRepository;
         this.groupRepository = groupRepository;
         this.subjectRepository = subjectRepository;
         this.groupStudentRepository = groupStudentRepository;
+        this.rollupEngine = rollupEngine;
     }
 
     private QualificationDto toDto(QualificationEntity q) {
@@ -168,6 +172,8 @@ public class QualificationService {
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Docente no existe"));
             existing.setTeacher(teacher);
         }
+        // La calificación sale de la semana de su fecha anterior
+        rollupEngine.markChanged(existing.getDate());
         existing.setDate(new Date());
 
         var saved = qualificationRepository.save(existing);
@@ -29,7 +29,7 @@ public class RankingService {
     private final CustomResponseEntity responseService;
     private final GroupService groupService;
     private final GroupStudentService groupStudentService;
-    private final ModuleService moduleService;
+    private final AcademicCatalogCache catalogCache;
 
     public RankingService(RankingRepository repository,
                           CampusRepository campusRepository,
@@ -37,14 +37,14 @@ public class RankingService {
                           CustomResponseEntity responseService,
                           GroupService groupService,
                           GroupStudentService groupStudentService,
-                          ModuleService moduleService) {
+                          AcademicCatalogCache catalogCache) {
         this.repository = repository;
         this.campusRepository = campusRepository;
         this.userRepository = userRepository;
         this.responseService = responseService;
         this.groupService = groupService;
         this.groupStudentService = groupStudentService;
-        this.moduleService = moduleService;
+        this.catalogCache = catalogCache;
     }
 
     private RankingDto toDto(RankingEntity ranking) {
@@ -55,7 +55,7 @@ public class RankingService {
                 student.getMaternalSurname());
 
         String avatarUrl = student.getAvatar() != null ?
-                "/sigea/api/media/raw/" + student.getAvatar().getCode() : null;
+                "/sigea/api/media/raw/" + student.getAvatar().getCode() + "?size=thumb" : null;
 
         RankingDto.StudentInfoDto studentInfo = new RankingDto.StudentInfoDto(
                 student.getId(),
@@ -279,51 +279,44 @@ public class RankingService {
 
                     // Obtener módulos del curriculum
                     assert group != null;
-                    ResponseEntity<List<ModuleDto>> modulesResponse =
-                            moduleService.findByCurriculumId(group.curriculumId());
-
-                    if (modulesResponse.getStatusCode().is2xxSuccessful()) {
-                        List<ModuleDto> modules = modulesResponse.getBody();
-
-                        assert modules != null;
-
-                        // Calcula semanas transcurridas desde que el estudiante entró al grupo
-                        long semanasTranscurridas = calcularSemanasTranscurridas(groupStudent.getEntryDate());
-
-                        // Filtra módulos que ya deberían estar disponibles para evaluación
-                        List<ModuleDto> modulosDisponibles = filtrarModulosDisponibles(modules, semanasTranscurridas);
-
-                        for (ModuleDto module : modulosDisponibles) {
-                            // Verifica si ya evaluó a este teacher en este módulo específico
-                            Optional<RankingEntity> existingRanking = repository.findByStudent_IdAndTeacher_IdAndModuleId(
-                                    studentId,
-                                    group.teacherId(),
-                                    module.id()
-                            );
-
-                            boolean isEvaluated = existingRanking.isPresent();
-
-                            List<String> subjectNames = module.subjects().stream()
-                                    .map(SubjectDto::name)
-                                    .collect(Collectors.toList());
-
-                            EvaluationModuleDto evaluationModule = new EvaluationModuleDto(
-                                    group.groupId() + "-" + group.teacherId() + "-" + module.id(),
-                                    module.name(),
-                                    module.id(),
-                                    group.teacherName(),
-                                    group.teacherId(),
-                                    group.groupId(),
-                                    group.curriculumName(),
-                                    group.weekDay() + " " + group.startTime() + "-" + group.endTime(),
-                                    subjectNames,
-                                    isEvaluated,
-                                    existingRanking.isPresent() ? existingRanking.get().getStar() : null,
-                                    existingRanking.map(RankingEntity::getComment).orElse(null)
-                            );
-
-                            evaluationModules.add(evaluationModule);
-                        }
+                    CurriculumTimeline timeline = catalogCache.timeline(group.curriculumId());
+
+                    // Calcula semanas transcurridas desde que el estudiante entró al grupo
+                    long semanasTranscurridas = calcularSemanasTranscurridas(groupStudent.getEntryDate());
+
+                    // Módulos que ya deberían estar disponibles para evaluación (abrieron antes de esa semana)
+                    List<ModuleDto> modulosDisponibles = timeline.openAt(semanasTranscurridas);
+
+                    for (ModuleDto module : modulosDisponibles) {
+                        // Verifica si ya evaluó a este teacher en este módulo específico
+                        Optional<RankingEntity> existingRanking = repository.findByStudent_IdAndTeacher_IdAndModuleId(
+                                studentId,
+                                group.teacherId(),
+                                module.id()
+                        );
+
+                        boolean isEvaluated = existingRanking.isPresent();
+
+                        List<String> subjectNames = module.subjects().stream()
+                                .map(SubjectDto::name)
+                                .collect(Collectors.toList());
+
+                        EvaluationModuleDto evaluationModule = new EvaluationModuleDto(
+                                group.groupId() + "-" + group.teacherId() + "-" + module.id(),
+                                module.name(),
+                                module.id(),
+                                group.teacherName(),
+                                group.teacherId(),
+                                group.groupId(),
+                                group.curriculumName(),
+                                group.weekDay() + " " + group.startTime() + "-" + group.endTime(),
+                                subjectNames,
+                                isEvaluated,
+                                existingRanking.isPresent() ? existingRanking.get().getStar() : null,
+                                existingRanking.map(RankingEntity::getComment).orElse(null)
+                        );
+
+                        evaluationModules.add(evaluationModule);
                     }
                 }
             }
@@ -346,39 +339,6 @@ public class RankingService {
         return diasTranscurridos / 7;
     }
 
-    // *** Filtra los módulos que deberían estar disponibles basándose en las semanas transcurridas
-    private List<ModuleDto> filtrarModulosDisponibles(List<ModuleDto> modules, long semanasTranscurridas) {
-        List<ModuleDto> disponibles = new ArrayList<>();
-        long semanasAcumuladas = 0;
-
-        // Procesamiento secuencial de los modulos
-        for (ModuleDto module : modules) {
-            long duracionModulo = calcularDuracionModulo(module);
-
-            if (semanasTranscurridas > semanasAcumuladas) {
-                disponibles.add(module);
-            } else {
-                break;
-            }
-
-            semanasAcumuladas += duracionModulo;
-        }
-
-        return disponibles;
-    }
-
-    // *** Calcula la duración total de un módulo sumando las semanas de todas sus materias
-    private long calcularDuracionModulo(ModuleDto module) {
-        if (module.subjects() == null || module.subjects().isEmpty()) {
-            return 0;
-        }
-
-        return module.subjects().stream()
-                .mapToLong(subject -> subject.weeks() != null ? subject.weeks() : 0)
-                .sum();
-    }
-
-
     public ResponseEntity<?> checkStudentTeacherEvaluation(Long studentId, Long teacherId, Long moduleId) {
         try {
             // Validar que ambos usuarios existen
@@ -485,7 +445,7 @@ public class RankingService {
                             teacher.getPaternalSurname(), teacher.getMaternalSurname());
 
                     String avatarUrl = teacher.getAvatar() != null ?
-                            "/sigea/api/media/raw/" + teacher.getAvatar().getCode() : null;
+                            "/sigea/api/media/raw/" + teacher.getAvatar().getCode() + "?size=small" : null;
 
                     return new TeacherRankingDto(
                             teacherId,
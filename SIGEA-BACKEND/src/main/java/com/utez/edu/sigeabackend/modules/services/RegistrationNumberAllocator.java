@@ -0,0 +1,202 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.modules.entities.CareerEntity;
+import com.utez.edu.sigeabackend.modules.entities.RegistrationSequenceEntity;
+import com.utez.edu.sigeabackend.modules.entities.RegistrationSequenceEntity.SequenceType;
+import com.utez.edu.sigeabackend.modules.repositories.RegistrationSequenceRepository;
+import com.utez.edu.sigeabackend.modules.repositories.UserCareerEnrollmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asigna matrículas con formato yy + diferenciador + consecutivo (+ "-M" para maestros).
+ * La matrícula es única por campus y el diferenciador no lo es, así que el contador es
+ * por (campus, diferenciador, año, tipo) y no por carrera.
+ * Reserva bloques de números (hi-lo) sobre registration_sequence con un bloqueo de fila,
+ * en una transacción propia y corta; los números del bloque se reparten en memoria.
+ * Los números no usados de un bloque se pierden al reiniciar (quedan huecos, no repetidos).
+ */
+@Service
+public class RegistrationNumberAllocator {
+
+    private static final String TEACHER_SUFFIX = "-M";
+    private static final int MAX_SEED_ATTEMPTS = 3;
+
+    private record Key(Long campusId, String differentiator, String yearPrefix, SequenceType type) {}
+
+    /**
+     * Bloque reservado [next, end). Se protege con un lock y no con synchronized porque
+     * la reserva va a la BD con el lock tomado: con hilos virtuales, un synchronized
+     * dejaría fijado el hilo portador durante esa espera.
+     */
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int next;
+        private int end;
+    }
+
+    private final RegistrationSequenceRepository sequenceRepo;
+    private final UserCareerEnrollmentRepository enrollmentRepo;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+    private final ConcurrentMap<Key, Block> blocks = new ConcurrentHashMap<>();
+
+    public RegistrationNumberAllocator(RegistrationSequenceRepository sequenceRepo,
+                                       UserCareerEnrollmentRepository enrollmentRepo,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${sigea.enrollment.registration-block-size:20}") int blockSize) {
+        this.sequenceRepo = sequenceRepo;
+        this.enrollmentRepo = enrollmentRepo;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /** Siguiente matrícula libre para la carrera en el año actual */
+    public String next(CareerEntity career, String userRole) {
+        SequenceType type = typeOf(userRole);
+        Key key = keyOf(career, currentYearPrefix(), type);
+        Block block = blocks.computeIfAbsent(key, k -> new Block());
+
+        int value;
+        block.lock.lock();
+        try {
+            if (block.next >= block.end) {
+                block.next = reserveBlock(key);
+                block.end = block.next + blockSize;
+            }
+            value = block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+        return format(key.yearPrefix(), key.differentiator(), value, type);
+    }
+
+    /**
+     * Matrícula que entregaría {@link #next} sin reservarla: no toca el bloque ni el contador.
+     * Es solo una vista previa; otra inscripción puede tomarla antes de guardar.
+     */
+    public String peek(CareerEntity career, String userRole) {
+        SequenceType type = typeOf(userRole);
+        Key key = keyOf(career, currentYearPrefix(), type);
+
+        Integer value = null;
+        Block block = blocks.get(key);
+        if (block != null) {
+            block.lock.lock();
+            try {
+                if (block.next < block.end) value = block.next;
+            } finally {
+                block.lock.unlock();
+            }
+        }
+        if (value == null) {
+            value = sequenceRepo.findByCampusIdAndDifferentiatorAndYearPrefixAndSequenceType(
+                            key.campusId(), key.differentiator(), key.yearPrefix(), type)
+                    .map(RegistrationSequenceEntity::getNextValue)
+                    .orElseGet(() -> highestExisting(key) + 1);
+        }
+        return format(key.yearPrefix(), key.differentiator(), value, type);
+    }
+
+    /**
+     * Registra una matrícula capturada a mano. Si tiene el formato automático del año,
+     * el contador se adelanta para no volver a entregarla.
+     */
+    public void observe(CareerEntity career, String userRole, String registrationNumber) {
+        SequenceType type = typeOf(userRole);
+        String yearPrefix = currentYearPrefix();
+        Integer value = parse(registrationNumber, yearPrefix, career.getDifferentiator(), type);
+        if (value == null) return;
+
+        Key key = keyOf(career, yearPrefix, type);
+        Block block = blocks.get(key);
+        if (block != null) {
+            block.lock.lock();
+            try {
+                // Normalmente es la vista previa (block.next): el bloque sigue después de ese número
+                if (value >= block.next && value < block.end) block.next = value + 1;
+            } finally {
+                block.lock.unlock();
+            }
+        }
+        sequenceRepo.advanceTo(key.campusId(), key.differentiator(), yearPrefix, type, value + 1);
+    }
+
+    /* Reserva [inicio, inicio + blockSize) con una sola ida a la BD; siembra el contador si no existe */
+    private int reserveBlock(Key key) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer start = requiresNew.execute(status -> {
+                    RegistrationSequenceEntity seq = sequenceRepo
+                            .findForUpdate(key.campusId(), key.differentiator(), key.yearPrefix(), key.type())
+                            .orElse(null);
+                    if (seq == null) {
+                        int seed = highestExisting(key) + 1;
+                        sequenceRepo.saveAndFlush(new RegistrationSequenceEntity(key.campusId(),
+                                key.differentiator(), key.yearPrefix(), key.type(), seed + blockSize));
+                        return seed;
+                    }
+                    int reserved = seq.getNextValue();
+                    seq.setNextValue(reserved + blockSize);
+                    return reserved;
+                });
+                return start;
+            } catch (DataIntegrityViolationException e) {
+                // Otro nodo sembró el mismo contador al mismo tiempo: se vuelve a leer con bloqueo
+                if (attempt >= MAX_SEED_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    /*
+     * Solo se usa al crear el contador: toma el consecutivo más alto ya asignado ese año
+     * en el campus, por cualquier carrera con el mismo diferenciador
+     */
+    private int highestExisting(Key key) {
+        String pattern = key.yearPrefix() + key.differentiator() + "%";
+        int max = 0;
+        for (String number : enrollmentRepo.findRegistrationNumbersByCampusAndPattern(key.campusId(), pattern)) {
+            Integer value = parse(number, key.yearPrefix(), key.differentiator(), key.type());
+            if (value != null && value > max) max = value;
+        }
+        return max;
+    }
+
+    private static Key keyOf(CareerEntity career, String yearPrefix, SequenceType type) {
+        return new Key(career.getCampus().getId(), career.getDifferentiator(), yearPrefix, type);
+    }
+
+    private static Integer parse(String number, String yearPrefix, String differentiator, SequenceType type) {
+        if (number == null) return null;
+        String prefix = yearPrefix + differentiator;
+        boolean teacher = number.endsWith(TEACHER_SUFFIX);
+        if (!number.startsWith(prefix) || teacher != (type == SequenceType.TEACHER)) return null;
+
+        String digits = number.substring(prefix.length(), number.length() - (teacher ? TEACHER_SUFFIX.length() : 0));
+        if (digits.isEmpty() || digits.length() > 9 || !digits.chars().allMatch(Character::isDigit)) return null;
+        return Integer.parseInt(digits);
+    }
+
+    private static String format(String yearPrefix, String differentiator, int value, SequenceType type) {
+        String base = String.format("%s%s%04d", yearPrefix, differentiator, value);
+        return type == SequenceType.TEACHER ? base + TEACHER_SUFFIX : base;
+    }
+
+    private static SequenceType typeOf(String userRole) {
+        return "TEACHER".equals(userRole) ? SequenceType.TEACHER : SequenceType.STUDENT;
+    }
+
+    private static String currentYearPrefix() {
+        return String.valueOf(Year.now().getValue()).substring(2);
+    }
+}
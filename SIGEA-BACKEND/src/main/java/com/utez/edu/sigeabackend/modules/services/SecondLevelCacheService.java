@@ -0,0 +1,65 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.cache.SecondLevelCacheStatsDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.cache.SecondLevelCacheStatsDto.RegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Estadísticas y mantenimiento de la caché de segundo nivel de Hibernate
+ * (regiones declaradas en SecondLevelCacheConfig)
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public SecondLevelCacheStatsDto stats() {
+        Statistics s = sessionFactory.getStatistics();
+
+        List<RegionStats> regions = Arrays.stream(s.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> {
+                    CacheRegionStatistics r = s.getCacheRegionStatistics(name);
+                    if (r == null) return null;
+                    return new RegionStats(name, r.getHitCount(), r.getMissCount(), r.getPutCount(),
+                            ratio(r.getHitCount(), r.getMissCount()));
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new SecondLevelCacheStatsDto(
+                s.isStatisticsEnabled(),
+                s.getSecondLevelCacheHitCount(),
+                s.getSecondLevelCacheMissCount(),
+                s.getSecondLevelCachePutCount(),
+                ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()),
+                s.getQueryCacheHitCount(),
+                s.getQueryCacheMissCount(),
+                s.getQueryCachePutCount(),
+                s.getEntityLoadCount(),
+                s.getQueryExecutionCount(),
+                regions
+        );
+    }
+
+    /** Vacía todas las regiones; necesario si se corrigieron datos de referencia con SQL directo */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private static double ratio(long hits, long misses) {
+        return (hits + misses) == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+}
@@ -3,6 +3,8 @@ package com.utez.edu.sigeabackend.modules.services;
 import com.utez.edu.sigeabackend.modules.entities.*;
 import com.utez.edu.sigeabackend.modules.entities.dto.groupDtos.*;
 import com.utez.edu.sigeabackend.modules.repositories.*;
+import com.utez.edu.sigeabackend.modules.summary.StudentSummaryStore;
+import com.utez.edu.sigeabackend.modules.summary.TeacherDashboardStore;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -10,9 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class StudentTransferService {
@@ -21,16 +22,22 @@ public class StudentTransferService {
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
     private final QualificationRepository qualificationRepository;
+    private final StudentSummaryStore summaryStore;
+    private final TeacherDashboardStore dashboardStore;
 
     public StudentTransferService(
             GroupStudentRepository groupStudentRepository,
             GroupRepository groupRepository,
             UserRepository userRepository,
-            QualificationRepository qualificationRepository) {
+            QualificationRepository qualificationRepository,
+            StudentSummaryStore summaryStore,
+            TeacherDashboardStore dashboardStore) {
         this.groupStudentRepository = groupStudentRepository;
         this.groupRepository = groupRepository;
         this.userRepository = userRepository;
         this.qualificationRepository = qualificationRepository;
+        this.summaryStore = summaryStore;
+        this.dashboardStore = dashboardStore;
     }
 
     /**
@@ -64,7 +71,10 @@ public class StudentTransferService {
     }
 
     /**
-     * Transfiere múltiples estudiantes entre grupos con opción de copiar calificaciones
+     * Transfiere múltiples estudiantes entre grupos con opción de copiar calificaciones.
+     * Trabaja por conjuntos: carga inscripciones y calificaciones de todos los estudiantes
+     * con consultas IN, calcula las diferencias en memoria y las aplica con UPDATE masivos
+     * e INSERT en lote, así el número de sentencias no crece con el tamaño del grupo.
      */
     @Transactional
     public ResponseEntity<TransferResultDto> transferStudents(TransferStudentsDto dto) {
@@ -83,31 +93,73 @@ public class StudentTransferService {
             canCopyQualifications = sourceCurriculumId.equals(targetCurriculumId);
         }
 
-        List<StudentTransferResult> results = new ArrayList<>();
-        int successCount = 0;
+        List<Long> requestedIds = dto.studentIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (requestedIds.isEmpty()) {
+            return ResponseEntity.ok(new TransferResultDto(List.of(),
+                    "Transferencia completada: 0/0 estudiantes transferidos exitosamente", false));
+        }
+
+        // 1. Cargar todo de una vez
+        Map<Long, UserEntity> students = userRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(UserEntity::getId, u -> u));
+        Set<Long> inSource = new HashSet<>(
+                groupStudentRepository.findEnrolledStudentIds(sourceGroup.getId(), requestedIds));
+        Set<Long> inTarget = new HashSet<>(
+                groupStudentRepository.findEnrolledStudentIds(targetGroup.getId(), requestedIds));
+
+        List<Long> transferable = requestedIds.stream()
+                .filter(id -> students.containsKey(id) && inSource.contains(id))
+                .toList();
 
-        for (Long studentId : dto.studentIds()) {
-            try {
-                StudentTransferResult result = transferSingleStudent(
-                        studentId, sourceGroup, targetGroup, canCopyQualifications);
-                results.add(result);
-                if (result.transferSuccess()) {
-                    successCount++;
-                }
-            } catch (Exception e) {
-                results.add(new StudentTransferResult(
-                        studentId,
-                        "Usuario " + studentId,
-                        false,
-                        false,
-                        0,
-                        "Error: " + e.getMessage()
-                ));
+        // 2. Aplicar cambios de inscripción
+        Map<Long, Integer> copiedByStudent = new HashMap<>();
+        if (!transferable.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            groupStudentRepository.updateStatusForStudents(
+                    sourceGroup.getId(), transferable, GroupStudentStatus.INACTIVE, now);
+            // Las sentencias UPDATE no pasan por el listener de los resúmenes
+            summaryStore.changed(transferable);
+            dashboardStore.groupChanged(sourceGroup.getId());
+            dashboardStore.groupChanged(targetGroup.getId());
+
+            List<Long> reactivate = transferable.stream().filter(inTarget::contains).toList();
+            if (!reactivate.isEmpty()) {
+                groupStudentRepository.updateStatusForStudents(
+                        targetGroup.getId(), reactivate, GroupStudentStatus.ACTIVE, null);
+            }
+
+            List<Long> newEnrollments = transferable.stream().filter(id -> !inTarget.contains(id)).toList();
+            insertGroupStudents(targetGroup, newEnrollments, students, now);
+
+            // 3. Copiar calificaciones si es necesario y posible
+            if (canCopyQualifications) {
+                copiedByStudent = copyQualificationsBetweenGroups(transferable, sourceGroup.getId(), targetGroup);
+            }
+        }
+
+        // 4. Resultado por estudiante, en el orden solicitado
+        List<StudentTransferResult> results = new ArrayList<>(requestedIds.size());
+        int successCount = 0;
+        for (Long studentId : requestedIds) {
+            UserEntity student = students.get(studentId);
+            if (student == null) {
+                results.add(new StudentTransferResult(studentId, "Usuario " + studentId, false, false, 0,
+                        "Error: Estudiante no encontrado: " + studentId));
+            } else if (!inSource.contains(studentId)) {
+                results.add(new StudentTransferResult(studentId,
+                        student.getName() + " " + student.getPaternalSurname(), false, false, 0,
+                        "Error: Estudiante no está inscrito en el grupo de origen"));
+            } else {
+                int copied = copiedByStudent.getOrDefault(studentId, 0);
+                results.add(new StudentTransferResult(studentId,
+                        student.getName() + " " + student.getPaternalSurname(), true,
+                        canCopyQualifications && copied > 0, copied, null));
+                successCount++;
             }
         }
 
         String message = String.format("Transferencia completada: %d/%d estudiantes transferidos exitosamente",
-                successCount, dto.studentIds().size());
+                successCount, requestedIds.size());
 
         TransferResultDto result = new TransferResultDto(results, message, successCount > 0);
 
@@ -115,85 +167,56 @@ public class StudentTransferService {
     }
 
     /**
-     * Transfiere un solo estudiante entre grupos
+     * Inserta las inscripciones nuevas en el grupo destino. GroupStudentEntity es Persistable,
+     * así que saveAll hace persist sin SELECT previo y Hibernate las envía en lotes JDBC.
      */
-    private StudentTransferResult transferSingleStudent(
-            Long studentId, GroupEntity sourceGroup, GroupEntity targetGroup, boolean copyQualifications) {
-
-        UserEntity student = userRepository.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Estudiante no encontrado: " + studentId));
-
-        String studentName = student.getName() + " " + student.getPaternalSurname();
-
-        // 1. Marcar como inactivo en el grupo de origen
-        GroupStudentEntity.Id sourceId = new GroupStudentEntity.Id(sourceGroup.getId(), studentId);
-        GroupStudentEntity sourceEnrollment = groupStudentRepository.findById(sourceId)
-                .orElseThrow(() -> new IllegalArgumentException("Estudiante no está inscrito en el grupo de origen"));
-
-        sourceEnrollment.markAsInactive();
-        groupStudentRepository.save(sourceEnrollment);
-
-        // 2. Verificar si ya existe inscripción en el grupo destino
-        GroupStudentEntity.Id targetId = new GroupStudentEntity.Id(targetGroup.getId(), studentId);
-        GroupStudentEntity targetEnrollment = groupStudentRepository.findById(targetId).orElse(null);
-
-        if (targetEnrollment != null) {
-            // Ya existe, solo reactivar
-            targetEnrollment.reactivate();
-            groupStudentRepository.save(targetEnrollment);
-        } else {
-            // Crear nueva inscripción
-            targetEnrollment = new GroupStudentEntity(targetGroup, student);
-            groupStudentRepository.save(targetEnrollment);
+    private void insertGroupStudents(GroupEntity targetGroup, List<Long> studentIds,
+                                     Map<Long, UserEntity> students, LocalDateTime entryDate) {
+        if (studentIds.isEmpty()) return;
+        List<GroupStudentEntity> enrollments = new ArrayList<>(studentIds.size());
+        for (Long studentId : studentIds) {
+            GroupStudentEntity enrollment = new GroupStudentEntity(targetGroup, students.get(studentId));
+            enrollment.setEntryDate(entryDate);
+            enrollments.add(enrollment);
         }
-
-        // 3. Copiar calificaciones si es necesario y posible
-        int qualificationsCopied = 0;
-        if (copyQualifications) {
-            qualificationsCopied = copyQualificationsBetweenGroups(studentId, sourceGroup.getId(), targetGroup.getId());
-        }
-
-        return new StudentTransferResult(
-                studentId,
-                studentName,
-                true,
-                copyQualifications && qualificationsCopied > 0,
-                qualificationsCopied,
-                null
-        );
+        groupStudentRepository.saveAll(enrollments);
     }
 
     /**
-     * Copia calificaciones de un estudiante entre grupos del mismo curriculum
+     * Copia calificaciones entre grupos del mismo curriculum para todos los estudiantes a la vez.
+     * Solo se copian materias que el estudiante aún no tiene calificadas en el grupo destino.
+     * Devuelve cuántas se copiaron por estudiante.
      */
-    private int copyQualificationsBetweenGroups(Long studentId, Long sourceGroupId, Long targetGroupId) {
-        // Obtener calificaciones del grupo de origen
-        List<QualificationEntity> sourceQualifications = qualificationRepository
-                .findByStudentIdAndGroupId(studentId, sourceGroupId);
-
-        int copiedCount = 0;
-
-        for (QualificationEntity sourceQual : sourceQualifications) {
-            // Verificar si ya existe una calificación para esta materia en el grupo destino
-            boolean existsInTarget = qualificationRepository
-                    .existsByStudentIdAndGroupIdAndSubjectId(studentId, targetGroupId, sourceQual.getSubject().getId());
-
-            if (!existsInTarget) {
-                // Crear copia de la calificación para el nuevo grupo
-                QualificationEntity newQual = new QualificationEntity();
-                newQual.setStudent(sourceQual.getStudent());
-                newQual.setGroup(groupRepository.findById(targetGroupId).orElseThrow());
-                newQual.setSubject(sourceQual.getSubject());
-                newQual.setTeacher(sourceQual.getTeacher());
-                newQual.setGrade(sourceQual.getGrade());
-                newQual.setDate(new Date()); // Fecha actual para la transferencia
-
-                qualificationRepository.save(newQual);
-                copiedCount++;
+    private Map<Long, Integer> copyQualificationsBetweenGroups(List<Long> studentIds, Long sourceGroupId, GroupEntity targetGroup) {
+        // Materias ya calificadas en el destino, por estudiante
+        Set<String> existingInTarget = qualificationRepository.findByGroupIdAndStudentIdIn(targetGroup.getId(), studentIds)
+                .stream()
+                .map(q -> q.getStudent().getId() + ":" + q.getSubject().getId())
+                .collect(Collectors.toSet());
+
+        List<QualificationEntity> toCopy = new ArrayList<>();
+        for (QualificationEntity sourceQual : qualificationRepository.findByGroupIdAndStudentIdIn(sourceGroupId, studentIds)) {
+            String key = sourceQual.getStudent().getId() + ":" + sourceQual.getSubject().getId();
+            // add() también evita copiar dos veces la misma materia si el origen la tiene repetida
+            if (existingInTarget.add(key)) {
+                toCopy.add(sourceQual);
             }
         }
+        if (toCopy.isEmpty()) return Map.of();
+
+        // Ids del generador por tabla: las inserciones se agrupan en lotes JDBC
+        Date transferDate = new Date(); // Fecha actual para la transferencia
+        List<QualificationEntity> copies = toCopy.stream()
+                .map(q -> new QualificationEntity(null, q.getStudent(), targetGroup, q.getSubject(),
+                        q.getTeacher(), q.getGrade(), transferDate))
+                .toList();
+        qualificationRepository.saveAll(copies);
 
-        return copiedCount;
+        Map<Long, Integer> copied = new HashMap<>();
+        for (QualificationEntity q : toCopy) {
+            copied.merge(q.getStudent().getId(), 1, Integer::sum);
+        }
+        return copied;
     }
 
     /**
@@ -5,6 +5,7 @@ import com.utez.edu.sigeabackend.modules.entities.SubjectEntity;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
 import com.utez.edu.sigeabackend.modules.repositories.ModuleRepository;
 import com.utez.edu.sigeabackend.modules.repositories.SubjectRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -18,17 +19,20 @@ import java.util.List;
 public class SubjectService {
     private final SubjectRepository subjectRepository;
     private final ModuleRepository moduleRepository;
+    private final CatalogVersionService catalogVersions;
+    private final AcademicCatalogCache catalogCache;
 
 
-    public SubjectService(SubjectRepository subjectRepository, ModuleRepository moduleRepository) {
+    public SubjectService(SubjectRepository subjectRepository, ModuleRepository moduleRepository,
+                          CatalogVersionService catalogVersions, AcademicCatalogCache catalogCache) {
         this.subjectRepository = subjectRepository;
         this.moduleRepository = moduleRepository;
+        this.catalogVersions = catalogVersions;
+        this.catalogCache = catalogCache;
     }
 
     public ResponseEntity<List<SubjectDto>> findByModuleId(Long moduleId) {
-        List<SubjectEntity> subjects = subjectRepository.findByModuleId(moduleId);
-        var dtos = subjects.stream().map(this::toDto).toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(catalogCache.subjects(moduleId));
     }
 
     @Transactional
@@ -38,6 +42,8 @@ public class SubjectService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Módulo no encontrado"));
             subjectEntity.setModule(module);
             var saved = subjectRepository.save(subjectEntity);
+            catalogVersions.bump(Catalog.ACADEMIC);
+            catalogCache.invalidateCurriculum(module.getCurriculum().getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
         } catch (ResponseStatusException e) {
             throw e;
@@ -54,6 +60,8 @@ public class SubjectService {
                     subject.setName(subjectEntity.getName());
                     subject.setWeeks(subjectEntity.getWeeks());
                     var updated = subjectRepository.save(subject);
+                    catalogVersions.bump(Catalog.ACADEMIC);
+                    catalogCache.invalidateCurriculum(subject.getModule().getCurriculum().getId());
                     return ResponseEntity.ok(toDto(updated));
                 })
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Materia no encontrada"));
@@ -70,6 +78,8 @@ public class SubjectService {
             return subjectRepository.findById(id)
                 .map(subject -> {
                     subjectRepository.delete(subject);
+                    catalogVersions.bump(Catalog.ACADEMIC);
+                    catalogCache.invalidateCurriculum(subject.getModule().getCurriculum().getId());
                     return ResponseEntity.noContent().build();
                 })
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Materia no encontrada"));
@@ -7,6 +7,7 @@ import com.utez.edu.sigeabackend.modules.entities.dto.users.*;
 import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
 import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
 import com.utez.edu.sigeabackend.modules.repositories.UserCampusSupervisionRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -24,13 +25,19 @@ public class UserCampusSupervisionService {
     private final UserCampusSupervisionRepository supervisionRepository;
     private final UserRepository userRepository;
     private final CampusRepository campusRepository;
+    private final CatalogVersionService catalogVersions;
+    private final UserListingService userListing;
 
     public UserCampusSupervisionService(UserCampusSupervisionRepository supervisionRepository,
                                         UserRepository userRepository,
-                                        CampusRepository campusRepository) {
+                                        CampusRepository campusRepository,
+                                        CatalogVersionService catalogVersions,
+                                        UserListingService userListing) {
         this.supervisionRepository = supervisionRepository;
         this.userRepository = userRepository;
         this.campusRepository = campusRepository;
+        this.catalogVersions = catalogVersions;
+        this.userListing = userListing;
     }
 
     // Helper method to convert supervision entity to DTO
@@ -84,6 +91,7 @@ public class UserCampusSupervisionService {
         );
 
         UserCampusSupervisionEntity savedSupervision = supervisionRepository.save(supervision);
+        catalogVersions.bump(Catalog.CAMPUSES);
         return ResponseEntity.ok(toDto(savedSupervision));
     }
 
@@ -148,6 +156,7 @@ public class UserCampusSupervisionService {
             }
         }
 
+        catalogVersions.bump(Catalog.CAMPUSES);
         return getSupervisorCampuses(dto.supervisorId());
     }
 
@@ -171,6 +180,7 @@ public class UserCampusSupervisionService {
         }
 
         supervisionRepository.delete(supervision);
+        catalogVersions.bump(Catalog.CAMPUSES);
         return ResponseEntity.noContent().build();
     }
 
@@ -212,45 +222,9 @@ public class UserCampusSupervisionService {
      */
     public ResponseEntity<List<UserResponseDto>> getSupervisorsByCampus(Long campusId) {
         try {
-            List<UserEntity> supervisors = userRepository.findSupervisorsByCampusId(campusId);
-
-            List<UserResponseDto> supervisorDtos = supervisors.stream()
-                    .map(this::convertToUserResponseDto)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(supervisorDtos);
+            return ResponseEntity.ok(userListing.load(userRepository.findSupervisorIdsByCampusId(campusId), true));
         } catch (Exception e) {
             throw new RuntimeException("Error al consultar supervisores por campus: " + e.getMessage(), e);
         }
     }
-
-    // Helper method to convert UserEntity to UserResponseDto
-    private UserResponseDto convertToUserResponseDto(UserEntity user) {
-        String avatarUrl = (user.getAvatar() != null)
-                ? "/sigea/api/media/raw/" + user.getAvatar().getCode()
-                : null;
-
-        List<CampusSupervisionDto> supervisedCampuses = user.getCampusSupervisions()
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-
-        return new UserResponseDto(
-                user.getId(),
-                user.getName(),
-                user.getPaternalSurname(),
-                user.getMaternalSurname(),
-                user.getEmail(),
-                user.getPrimaryRegistrationNumber(),
-                user.getAdditionalEnrollmentsCount(),
-                user.getStatus().name(),
-                user.getCampus().getId(),
-                user.getCampus().getName(),
-                user.getRole().getId(),
-                user.getRole().getRoleName(),
-                user.getCreatedAt(),
-                avatarUrl,
-                supervisedCampuses
-        );
-    }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.utez.edu.sigeabackend.modules.services;
 import com.utez.edu.sigeabackend.modules.entities.*;
 import com.utez.edu.sigeabackend.modules.entities.dto.academics.*;
 import com.utez.edu.sigeabackend.modules.repositories.*;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -10,9 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,14 +21,19 @@ public class UserCareerEnrollmentService {
     private final UserCareerEnrollmentRepository enrollmentRepo;
     private final UserRepository userRepo;
     private final CareerRepository careerRepo;
-    private final Random random = new Random();
+    private final CatalogVersionService catalogVersions;
+    private final RegistrationNumberAllocator registrationNumbers;
 
     public UserCareerEnrollmentService(UserCareerEnrollmentRepository enrollmentRepo,
                                        UserRepository userRepo,
-                                       CareerRepository careerRepo) {
+                                       CareerRepository careerRepo,
+                                       CatalogVersionService catalogVersions,
+                                       RegistrationNumberAllocator registrationNumbers) {
         this.enrollmentRepo = enrollmentRepo;
         this.userRepo = userRepo;
         this.careerRepo = careerRepo;
+        this.catalogVersions = catalogVersions;
+        this.registrationNumbers = registrationNumbers;
     }
 
     /** Helper method to convert entity to DTO */
@@ -56,57 +60,9 @@ public class UserCareerEnrollmentService {
     }
 
     /** Generar matrícula automáticamente con formato específico para TEACHER y STUDENT */
-    private String generateRegistrationNumber(CareerEntity career, CampusEntity campus, String userRole) {
+    private String generateRegistrationNumber(CareerEntity career, String userRole) {
         try {
-            String year = String.valueOf(Year.now().getValue()).substring(2);
-            String differentiator = career.getDifferentiator();
-            String basePattern = year + differentiator + "%";
-
-            boolean isTeacher = "TEACHER".equals(userRole);
-            String searchPattern = isTeacher ? basePattern + "-M" : basePattern;
-
-            List<String> existingNumbers = enrollmentRepo.findLastRegistrationNumberByCareerAndPattern(
-                    career.getId(), searchPattern);
-
-            int nextNumber;
-            if (!existingNumbers.isEmpty()) {
-                String lastNumber = existingNumbers.getFirst();
-                String suffix = isTeacher ? "-M" : "";
-                String numberPart = lastNumber.substring(year.length() + differentiator.length(),
-                        lastNumber.length() - suffix.length());
-                try {
-                    nextNumber = Integer.parseInt(numberPart) + 1;
-                } catch (NumberFormatException e) {
-                    nextNumber = 1;
-                }
-            } else {
-                nextNumber = 1;
-            }
-
-            String finalRegistrationNumber;
-            int attempts = 0;
-            final int maxAttempts = 1000;
-
-            do {
-                String baseNumber;
-                if (attempts < 10) {
-                    baseNumber = String.format("%s%s%04d", year, differentiator, nextNumber + attempts);
-                } else {
-                    int randomNumber = random.nextInt(9999) + 1;
-                    baseNumber = String.format("%s%s%04d", year, differentiator, randomNumber);
-                }
-
-                finalRegistrationNumber = isTeacher ? baseNumber + "-M" : baseNumber;
-                attempts++;
-            } while (enrollmentRepo.existsByRegistrationNumberAndCampusId(finalRegistrationNumber, campus.getId())
-                    && attempts < maxAttempts);
-
-            if (attempts >= maxAttempts) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                        "No se pudo generar una matrícula única después de " + maxAttempts + " intentos");
-            }
-
-            return finalRegistrationNumber;
+            return registrationNumbers.next(career, userRole);
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                     "Error al generar matrícula: " + e.getMessage());
@@ -276,12 +232,14 @@ public class UserCareerEnrollmentService {
             if (dto.customRegistrationNumber() != null && !dto.customRegistrationNumber().trim().isEmpty()) {
                 validateCustomRegistrationNumber(dto.customRegistrationNumber(), campus, null, userRole);
                 registrationNumber = dto.customRegistrationNumber().trim();
+                registrationNumbers.observe(career, userRole, registrationNumber);
             } else {
-                registrationNumber = generateRegistrationNumber(career, campus, userRole);
+                registrationNumber = generateRegistrationNumber(career, userRole);
             }
 
             UserCareerEnrollmentEntity enrollment = new UserCareerEnrollmentEntity(user, career, campus, registrationNumber);
             UserCareerEnrollmentEntity saved = enrollmentRepo.save(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
         } catch (ResponseStatusException e) {
@@ -303,6 +261,7 @@ public class UserCareerEnrollmentService {
                 String userRole = enrollment.getUser().getRole().getRoleName();
                 validateCustomRegistrationNumber(dto.registrationNumber(), enrollment.getCampus(), enrollmentId, userRole);
                 enrollment.setRegistrationNumber(dto.registrationNumber().trim());
+                registrationNumbers.observe(enrollment.getCareer(), userRole, enrollment.getRegistrationNumber());
             }
 
             if (dto.status() != null) {
@@ -310,6 +269,7 @@ public class UserCareerEnrollmentService {
             }
 
             UserCareerEnrollmentEntity updated = enrollmentRepo.save(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
             return ResponseEntity.ok(toDto(updated));
         } catch (ResponseStatusException e) {
             throw e;
@@ -329,6 +289,7 @@ public class UserCareerEnrollmentService {
             validateCustomRegistrationNumber(newRegistrationNumber, enrollment.getCampus(), enrollmentId, userRole);
 
             enrollment.setRegistrationNumber(newRegistrationNumber);
+            registrationNumbers.observe(enrollment.getCareer(), userRole, newRegistrationNumber);
             UserCareerEnrollmentEntity saved = enrollmentRepo.save(enrollment);
 
             return toDto(saved);
@@ -351,6 +312,7 @@ public class UserCareerEnrollmentService {
             enrollment.setCompletedAt(LocalDateTime.now());
 
             UserCareerEnrollmentEntity updated = enrollmentRepo.save(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
             return ResponseEntity.ok(toDto(updated));
         } catch (ResponseStatusException e) {
             throw e;
@@ -370,6 +332,7 @@ public class UserCareerEnrollmentService {
             enrollment.setStatus(UserCareerEnrollmentEntity.EnrollmentStatus.INACTIVE);
 
             UserCareerEnrollmentEntity updated = enrollmentRepo.save(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
             return ResponseEntity.ok(toDto(updated));
         } catch (ResponseStatusException e) {
             throw e;
@@ -389,6 +352,7 @@ public class UserCareerEnrollmentService {
             enrollment.setStatus(UserCareerEnrollmentEntity.EnrollmentStatus.ACTIVE);
 
             UserCareerEnrollmentEntity updated = enrollmentRepo.save(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
             return ResponseEntity.ok(toDto(updated));
         } catch (ResponseStatusException e) {
             throw e;
@@ -405,6 +369,7 @@ public class UserCareerEnrollmentService {
             UserCareerEnrollmentEntity enrollment = enrollmentRepo.findById(enrollmentId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Inscripción no encontrada"));
             enrollmentRepo.delete(enrollment);
+            catalogVersions.bump(Catalog.CAREERS, Catalog.CAMPUSES);
 
             return ResponseEntity.noContent().build();
         } catch (ResponseStatusException e) {
@@ -415,13 +380,16 @@ public class UserCareerEnrollmentService {
         }
     }
 
-    /** Generar nueva matrícula para una carrera específica considerando el rol del usuario */
+    /**
+     * Vista previa de la siguiente matrícula para una carrera considerando el rol del usuario.
+     * No la reserva: el número se asigna al guardar la inscripción.
+     */
     public ResponseEntity<String> generateNewRegistrationNumber(Long careerId, String userRole) {
         try {
             CareerEntity career = careerRepo.findById(careerId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Carrera no encontrada"));
 
-            String newRegistrationNumber = generateRegistrationNumber(career, career.getCampus(), userRole);
+            String newRegistrationNumber = registrationNumbers.peek(career, userRole);
             return ResponseEntity.ok(newRegistrationNumber);
         } catch (ResponseStatusException e) {
             throw e;
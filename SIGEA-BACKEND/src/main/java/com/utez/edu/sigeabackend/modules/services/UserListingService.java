@@ -0,0 +1,106 @@
+package com.utez.edu.sigeabackend.modules.services;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.users.CampusSupervisionDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.users.UserResponseDto;
+import com.utez.edu.sigeabackend.modules.repositories.UserCampusSupervisionRepository;
+import com.utez.edu.sigeabackend.modules.repositories.UserListingProjection;
+import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import com.utez.edu.sigeabackend.modules.repositories.UserSupervisionProjection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modelo de lectura de los listados de usuarios. Arma los UserResponseDto con dos
+ * consultas por lote de ids (filas agregadas y asignaciones de supervisión) en vez
+ * de recorrer las colecciones perezosas de cada UserEntity.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserListingService {
+
+    /* Tamaño máximo de la lista IN por consulta */
+    private static final int BATCH_SIZE = 1_000;
+    private static final String SUPERVISOR_ROLE = "SUPERVISOR";
+
+    private final UserRepository userRepository;
+    private final UserCampusSupervisionRepository supervisionRepository;
+
+    public UserListingService(UserRepository userRepository,
+                              UserCampusSupervisionRepository supervisionRepository) {
+        this.userRepository = userRepository;
+        this.supervisionRepository = supervisionRepository;
+    }
+
+    /**
+     * Usuarios en el orden de {@code ids}. Las supervisiones se incluyen solo para el rol
+     * SUPERVISOR, salvo que {@code supervisionsForAllRoles} sea true.
+     */
+    public List<UserResponseDto> load(List<Long> ids, boolean supervisionsForAllRoles) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, UserResponseDto> byId = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            Map<Long, List<CampusSupervisionDto>> supervisions = supervisionsByUser(batch);
+            for (UserListingProjection row : userRepository.findListingByIdIn(batch)) {
+                boolean withSupervisions = supervisionsForAllRoles || SUPERVISOR_ROLE.equals(row.getRoleName());
+                List<CampusSupervisionDto> supervised = withSupervisions
+                        ? supervisions.getOrDefault(row.getId(), List.of())
+                        : List.of();
+                byId.put(row.getId(), toDto(row, supervised));
+            }
+        }
+
+        List<UserResponseDto> result = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            UserResponseDto dto = byId.get(id);
+            if (dto != null) result.add(dto);
+        }
+        return result;
+    }
+
+    private Map<Long, List<CampusSupervisionDto>> supervisionsByUser(List<Long> userIds) {
+        Map<Long, List<CampusSupervisionDto>> byUser = new HashMap<>();
+        for (UserSupervisionProjection s : supervisionRepository.findListingByUserIdIn(userIds)) {
+            byUser.computeIfAbsent(s.getUserId(), k -> new ArrayList<>()).add(new CampusSupervisionDto(
+                    s.getId(),
+                    s.getCampusId(),
+                    s.getCampusName(),
+                    s.getSupervisionType(),
+                    s.getAssignedAt(),
+                    s.getAssignedByUserId()
+            ));
+        }
+        return byUser;
+    }
+
+    private static UserResponseDto toDto(UserListingProjection u, List<CampusSupervisionDto> supervisedCampuses) {
+        String avatarUrl = (u.getAvatarCode() != null)
+                ? "/sigea/api/media/raw/" + u.getAvatarCode() + "?size=small"
+                : null;
+        long activeEnrollments = u.getActiveEnrollments() == null ? 0 : u.getActiveEnrollments();
+
+        return new UserResponseDto(
+                u.getId(),
+                u.getName(),
+                u.getPaternalSurname(),
+                u.getMaternalSurname(),
+                u.getEmail(),
+                u.getPrimaryRegistrationNumber(),
+                (int) Math.max(0, activeEnrollments - 1),
+                u.getStatus().name(),
+                u.getCampusId(),
+                u.getCampusName(),
+                u.getRoleId(),
+                u.getRoleName(),
+                u.getCreatedAt(),
+                avatarUrl,
+                supervisedCampuses
+        );
+    }
+}
@@ -5,10 +5,12 @@ import com.utez.edu.sigeabackend.modules.entities.UserCareerEnrollmentEntity;
 import com.utez.edu.sigeabackend.modules.entities.dto.users.*;
 import com.utez.edu.sigeabackend.modules.media.MediaEntity;
 import com.utez.edu.sigeabackend.modules.media.MediaService;
+import com.utez.edu.sigeabackend.modules.media.StoredMedia;
 import com.utez.edu.sigeabackend.modules.media.dto.MediaUploadResponseDto;
 import com.utez.edu.sigeabackend.modules.repositories.CampusRepository;
 import com.utez.edu.sigeabackend.modules.repositories.RoleRepository;
 import com.utez.edu.sigeabackend.modules.repositories.UserRepository;
+import com.utez.edu.sigeabackend.modules.services.CatalogVersionService.Catalog;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -30,23 +32,29 @@ public class UserService {
     private final RoleRepository    roleRepo;
     private final BCryptPasswordEncoder passwordEncoder;
     private final MediaService mediaService;
+    private final CatalogVersionService catalogVersions;
+    private final UserListingService userListing;
 
     public UserService(UserRepository userRepo,
                        CampusRepository campusRepo,
                        RoleRepository roleRepo,
                        BCryptPasswordEncoder passwordEncoder,
-                       MediaService mediaService) {
+                       MediaService mediaService,
+                       CatalogVersionService catalogVersions,
+                       UserListingService userListing) {
         this.userRepo = userRepo;
         this.campusRepo = campusRepo;
         this.roleRepo = roleRepo;
         this.passwordEncoder = passwordEncoder;
         this.mediaService = mediaService;
+        this.catalogVersions = catalogVersions;
+        this.userListing = userListing;
     }
 
     // Helper method to convert entity to DTO
     private UserResponseDto toDto(UserEntity u) {
         String avatarUrl = (u.getAvatar() != null)
-                ? "/sigea/api/media/raw/" + u.getAvatar().getCode()
+                ? "/sigea/api/media/raw/" + u.getAvatar().getCode() + "?size=small"
                 : null;
 
         // Obtener campus supervisados si es supervisor
@@ -84,11 +92,7 @@ public class UserService {
 
     // Obtener todos los usuarios
     public ResponseEntity<List<UserResponseDto>> listAll() {
-        List<UserResponseDto> dtos = userRepo.findAll()
-                .stream()
-                .map(this::toDto)
-                .toList();
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(userListing.load(userRepo.findAllIds(), false));
     }
 
     // Obtener usuario por ID
@@ -110,17 +114,7 @@ public class UserService {
     // Obtener usuarios por rol
     public ResponseEntity<List<UserResponseDto>> findByRoleId(long roleId) {
         try {
-            List<UserEntity> users = userRepo.findByRoleId(roleId);
-
-            if (users.isEmpty()) {
-                return ResponseEntity.ok(List.of());
-            }
-
-            List<UserResponseDto> usersDto = users.stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(usersDto);
+            return ResponseEntity.ok(userListing.load(userRepo.findIdsByRoleId(roleId), false));
 
         } catch (Exception e) {
             throw new RuntimeException("Error al consultar usuarios por rol " + e.getMessage(), e);
@@ -130,17 +124,7 @@ public class UserService {
     // Obtener usuarios por rol y campus
     public ResponseEntity<List<UserResponseDto>> findByRoleIdAndCampusId(long roleId, long campusId) {
         try {
-            List<UserEntity> users = userRepo.findByRoleIdAndCampusId(roleId, campusId);
-
-            if (users.isEmpty()) {
-                return ResponseEntity.ok(List.of());
-            }
-
-            List<UserResponseDto> usersDto = users.stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(usersDto);
+            return ResponseEntity.ok(userListing.load(userRepo.findIdsByRoleIdAndCampusId(roleId, campusId), false));
 
         } catch (Exception e) {
             throw new RuntimeException("Error al consultar usuarios por rol y campus " + e.getMessage(), e);
@@ -150,13 +134,7 @@ public class UserService {
     // Obtener usuarios activos en una carrera específica
     public ResponseEntity<List<UserResponseDto>> findByActiveCareerEnrollment(long careerId) {
         try {
-            List<UserEntity> users = userRepo.findByActiveCareerEnrollment(careerId);
-
-            List<UserResponseDto> usersDto = users.stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(usersDto);
+            return ResponseEntity.ok(userListing.load(userRepo.findIdsByActiveCareerEnrollment(careerId), false));
 
         } catch (Exception e) {
             throw new RuntimeException("Error al consultar usuarios por carrera " + e.getMessage(), e);
@@ -192,6 +170,7 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(normalizedEmail));
 
         var saved = userRepo.save(user);
+        catalogVersions.bump(Catalog.CAMPUSES);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(toDto(saved));
@@ -240,6 +219,10 @@ public class UserService {
                     }
 
                     var updated = userRepo.save(existing);
+                    // Cambios de campus o rol alteran los conteos de campus y carreras
+                    if (dto.campusId() != null || dto.roleId() != null) {
+                        catalogVersions.bump(Catalog.CAMPUSES, Catalog.CAREERS);
+                    }
                     return ResponseEntity.ok(toDto(updated));
                 })
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
@@ -248,18 +231,17 @@ public class UserService {
     // Subir avatar
     @Transactional
     public MediaUploadResponseDto uploadAvatar(Long userId, MultipartFile file) throws IOException {
-        MediaUploadResponseDto dto = mediaService.storeAndReturnDto(file, MediaEntity.Purpose.AVATAR);
-
         UserEntity user = userRepo.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Usuario no encontrado"));
 
-        MediaEntity avatarEntity = mediaService.getByCode(
-                dto.url().substring(dto.url().lastIndexOf('/') + 1));
+        StoredMedia stored = mediaService.store(file, MediaEntity.Purpose.AVATAR);
+        MediaEntity avatarEntity = mediaService.reference(stored);
+        mediaService.replaceReference(user.getAvatar(), avatarEntity);
         user.setAvatar(avatarEntity);
         userRepo.save(user);
 
-        return dto;
+        return mediaService.toDto(stored);
     }
 
     // Eliminar usuario
@@ -283,7 +265,9 @@ public class UserService {
                                 "No se puede eliminar el supervisor porque tiene campus asignados para supervisión");
                     }
 
+                    mediaService.releaseReference(u.getAvatar());
                     userRepo.delete(u);
+                    catalogVersions.bump(Catalog.CAMPUSES, Catalog.CAREERS);
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
@@ -4,6 +4,8 @@ import com.utez.edu.sigeabackend.modules.entities.NotificationCountMessage;
 import com.utez.edu.sigeabackend.modules.entities.NotificationWebSocketMessage;
 import com.utez.edu.sigeabackend.modules.repositories.NotificationRepository;
 import com.utez.edu.sigeabackend.modules.entities.WebSocketMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +14,8 @@ import java.util.concurrent.ConcurrentMap;
 
 @Service
 public class WebSocketService {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationRepository repository;
     private final ConcurrentMap<Long, String> connectedUsers = new ConcurrentHashMap<>();
@@ -35,9 +39,9 @@ public class WebSocketService {
                     message
             );
 
-            System.out.println("Notificación enviada a usuario {}: {}"+ userId + notification.toString());
+            log.debug("Notificación enviada por WebSocket al usuario {}: {}", userId, notification);
         } catch (Exception e) {
-            System.out.println("Error al enviar notificación por WebSocket a usuario {}: " +  userId + e);
+            log.warn("Error al enviar notificación por WebSocket al usuario {}", userId, e);
         }
     }
 
@@ -60,7 +64,7 @@ public class WebSocketService {
                     message
             );
         }catch (Exception e){
-            System.out.println("Error al enviar conteo de notificaciones por WebSocket a usuario {}: "+ userId + e);
+            log.warn("Error al enviar conteo de notificaciones por WebSocket al usuario {}", userId, e);
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Datos del resumen de un estudiante que solo cambian cuando se escriben calificaciones,
+ * inscripciones o evaluaciones. Lo que depende de la fecha (módulo actual, evaluaciones
+ * pendientes) se calcula al leerlo.
+ */
+record StudentSummary(
+        long studentId,
+        List<Enrollment> enrollments,
+        List<Grade> grades,
+        Set<Evaluated> evaluated,
+        int rankingsGiven,
+        Double averageStarsGiven,
+        LocalDateTime loadedAt
+) {
+
+    /** Inscripciones de la más reciente a la más antigua */
+    record Enrollment(long groupId, String groupName, long careerId, String careerName,
+                      long curriculumId, String curriculumName, Long teacherId, String teacherName,
+                      LocalDateTime entryDate, LocalDateTime exitDate, boolean active) {}
+
+    /** Calificaciones de la más reciente a la más antigua */
+    record Grade(long groupId, long subjectId, int grade) {}
+
+    /** Docente y módulo que el estudiante ya evaluó */
+    record Evaluated(long teacherId, long moduleId) {}
+
+    boolean touchesGroup(long groupId) {
+        return enrollments.stream().anyMatch(e -> e.groupId() == groupId);
+    }
+
+    boolean touchesCareer(long careerId) {
+        return enrollments.stream().anyMatch(e -> e.careerId() == careerId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sigea/api/students")
+public class StudentSummaryController {
+
+    private final StudentSummaryService service;
+
+    public StudentSummaryController(StudentSummaryService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/students/{studentId}/summary - Promedios, avance, módulo actual y evaluaciones pendientes
+    @GetMapping("/{studentId}/summary")
+    public ResponseEntity<StudentSummaryDto> summary(@PathVariable long studentId) {
+        return service.summary(studentId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupStudentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filas que alimentan el resumen académico de un estudiante
+ */
+public interface StudentSummaryRow {
+    Long getStudentId();
+
+    /** Inscripción a un grupo, con su carrera, plan y docente */
+    interface Enrollment extends StudentSummaryRow {
+        Long getGroupId();
+        String getGroupName();
+        Long getCareerId();
+        String getCareerName();
+        Long getCurriculumId();
+        String getCurriculumName();
+        Long getTeacherId();
+        String getTeacherName();
+        LocalDateTime getEntryDate();
+        LocalDateTime getExitDate();
+        GroupStudentStatus getStatus();
+    }
+
+    /** Calificación de una materia en un grupo */
+    interface Grade extends StudentSummaryRow {
+        Long getGroupId();
+        Long getSubjectId();
+        Integer getGrade();
+    }
+
+    /** Evaluación que el estudiante hizo a un docente en un módulo */
+    interface Evaluation extends StudentSummaryRow {
+        Long getTeacherId();
+        Long getModuleId();
+        Integer getStar();
+    }
+}
@@ -0,0 +1,174 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.CurriculumDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
+import com.utez.edu.sigeabackend.modules.services.AcademicCatalogCache;
+import com.utez.edu.sigeabackend.modules.services.CurriculumTimeline;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto.CareerSummaryDto;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto.CurriculumSummaryDto;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto.PendingEvaluationDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Arma el tablero del estudiante a partir de su resumen materializado y del catálogo
+ * en caché; en el caso normal no consulta la base de datos.
+ */
+@Service
+public class StudentSummaryService {
+
+    private final StudentSummaryStore store;
+    private final AcademicCatalogCache catalogCache;
+
+    public StudentSummaryService(StudentSummaryStore store, AcademicCatalogCache catalogCache) {
+        this.store = store;
+        this.catalogCache = catalogCache;
+    }
+
+    public ResponseEntity<StudentSummaryDto> summary(long studentId) {
+        StudentSummary summary = store.get(studentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Estudiante no encontrado"));
+        return ResponseEntity.ok(toDto(summary, LocalDate.now()));
+    }
+
+    private StudentSummaryDto toDto(StudentSummary summary, LocalDate today) {
+        // Carrera → plan → inscripciones, de la más reciente a la más antigua
+        Map<Long, Map<Long, List<StudentSummary.Enrollment>>> byCareer = new LinkedHashMap<>();
+        for (StudentSummary.Enrollment e : summary.enrollments()) {
+            byCareer.computeIfAbsent(e.careerId(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(e.curriculumId(), k -> new ArrayList<>())
+                    .add(e);
+        }
+        List<StudentSummary.Grade> latestGrades = latestPerSubject(summary.grades());
+        Map<Long, List<StudentSummary.Grade>> gradesByGroup = new HashMap<>();
+        for (StudentSummary.Grade g : latestGrades) {
+            gradesByGroup.computeIfAbsent(g.groupId(), k -> new ArrayList<>()).add(g);
+        }
+
+        List<CareerSummaryDto> careers = new ArrayList<>(byCareer.size());
+        int subjectsCompleted = 0;
+        int subjectsTotal = 0;
+        for (Map<Long, List<StudentSummary.Enrollment>> curricula : byCareer.values()) {
+            List<StudentSummary.Grade> careerGrades = new ArrayList<>();
+            List<CurriculumSummaryDto> curriculumDtos = new ArrayList<>(curricula.size());
+            for (List<StudentSummary.Enrollment> enrollments : curricula.values()) {
+                List<StudentSummary.Grade> grades = new ArrayList<>();
+                for (StudentSummary.Enrollment e : enrollments) {
+                    grades.addAll(gradesByGroup.getOrDefault(e.groupId(), List.of()));
+                }
+                CurriculumSummaryDto dto = curriculum(enrollments, grades, today);
+                curriculumDtos.add(dto);
+                careerGrades.addAll(grades);
+                subjectsCompleted += dto.subjectsCompleted();
+                subjectsTotal += dto.subjectsTotal();
+            }
+            StudentSummary.Enrollment first = curricula.values().iterator().next().get(0);
+            careers.add(new CareerSummaryDto(first.careerId(), first.careerName(), average(careerGrades), curriculumDtos));
+        }
+
+        return new StudentSummaryDto(
+                summary.studentId(),
+                average(latestGrades),
+                subjectsCompleted,
+                subjectsTotal,
+                summary.rankingsGiven(),
+                summary.averageStarsGiven(),
+                careers,
+                pendingEvaluations(summary, today),
+                summary.loadedAt()
+        );
+    }
+
+    private CurriculumSummaryDto curriculum(List<StudentSummary.Enrollment> enrollments,
+                                            List<StudentSummary.Grade> grades, LocalDate today) {
+        StudentSummary.Enrollment latest = enrollments.get(0);
+        StudentSummary.Enrollment active = enrollments.stream()
+                .filter(StudentSummary.Enrollment::active)
+                .findFirst()
+                .orElse(null);
+
+        CurriculumTimeline timeline = catalogCache.timeline(latest.curriculumId());
+        Set<Long> subjectIds = new HashSet<>();
+        for (ModuleDto module : timeline.modules()) {
+            for (SubjectDto subject : module.subjects()) subjectIds.add(subject.id());
+        }
+        Set<Long> completed = new HashSet<>();
+        for (StudentSummary.Grade g : grades) {
+            if (subjectIds.contains(g.subjectId())) completed.add(g.subjectId());
+        }
+
+        ModuleDto current = active == null ? null : currentModule(timeline, weeksSince(active.entryDate(), today));
+        String curriculumName = catalogCache.curriculum(latest.curriculumId())
+                .map(CurriculumDto::name)
+                .orElse(latest.curriculumName());
+
+        return new CurriculumSummaryDto(
+                latest.curriculumId(),
+                curriculumName,
+                latest.groupId(),
+                latest.groupName(),
+                active != null,
+                average(grades),
+                completed.size(),
+                subjectIds.size(),
+                current != null ? current.id() : null,
+                current != null ? current.name() : null
+        );
+    }
+
+    /* El módulo que abrió en la semana transcurrida o antes; null si el plan ya terminó */
+    private static ModuleDto currentModule(CurriculumTimeline timeline, long elapsedWeeks) {
+        if (elapsedWeeks >= timeline.totalWeeks()) return null;
+        int index = timeline.firstStartingAtOrAfter(elapsedWeeks + 1) - 1;
+        return index < 0 ? null : timeline.modules().get(index);
+    }
+
+    /**
+     * Mismo criterio que los módulos de evaluación: en cada grupo activo, los módulos que
+     * abrieron antes de la semana transcurrida y cuyo docente aún no fue evaluado en ese módulo
+     */
+    private List<PendingEvaluationDto> pendingEvaluations(StudentSummary summary, LocalDate today) {
+        List<PendingEvaluationDto> pending = new ArrayList<>();
+        for (StudentSummary.Enrollment e : summary.enrollments()) {
+            if (!e.active() || e.teacherId() == null) continue;
+            CurriculumTimeline timeline = catalogCache.timeline(e.curriculumId());
+            for (ModuleDto module : timeline.openAt(weeksSince(e.entryDate(), today))) {
+                if (summary.evaluated().contains(new StudentSummary.Evaluated(e.teacherId(), module.id()))) continue;
+                pending.add(new PendingEvaluationDto(e.groupId(), e.groupName(), e.teacherId(), e.teacherName(),
+                        module.id(), module.name()));
+            }
+        }
+        return pending;
+    }
+
+    private static long weeksSince(LocalDateTime entryDate, LocalDate today) {
+        return ChronoUnit.DAYS.between(entryDate.toLocalDate(), today) / 7;
+    }
+
+    /*
+     * La calificación más reciente de cada materia. Al transferir a un estudiante sus
+     * calificaciones se copian al grupo destino del mismo plan; sin esto contarían dos veces.
+     */
+    private static List<StudentSummary.Grade> latestPerSubject(List<StudentSummary.Grade> grades) {
+        Set<Long> seen = new HashSet<>();
+        List<StudentSummary.Grade> latest = new ArrayList<>(grades.size());
+        for (StudentSummary.Grade g : grades) {
+            if (seen.add(g.subjectId())) latest.add(g);
+        }
+        return latest;
+    }
+
+    private static Double average(List<StudentSummary.Grade> grades) {
+        if (grades.isEmpty()) return null;
+        return grades.stream().mapToInt(StudentSummary.Grade::grade).average().orElse(0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lecturas del resumen académico: una consulta por tabla para un lote de estudiantes,
+ * solo con las columnas que usa el resumen
+ */
+public interface StudentSummarySourceRepository extends Repository<UserEntity, Long> {
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :studentIds")
+    List<Long> findExistingIds(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT gs.id.studentId AS studentId, g.id AS groupId, g.name AS groupName, " +
+            "c.id AS careerId, c.name AS careerName, cu.id AS curriculumId, cu.name AS curriculumName, " +
+            "t.id AS teacherId, CONCAT(t.name, ' ', t.paternalSurname) AS teacherName, " +
+            "gs.entryDate AS entryDate, gs.exitDate AS exitDate, gs.status AS status " +
+            "FROM GroupStudentEntity gs " +
+            "JOIN gs.group g " +
+            "JOIN g.career c " +
+            "JOIN g.curriculum cu " +
+            "LEFT JOIN g.teacher t " +
+            "WHERE gs.id.studentId IN :studentIds " +
+            "ORDER BY gs.entryDate DESC")
+    List<StudentSummaryRow.Enrollment> findEnrollments(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT q.student.id AS studentId, q.group.id AS groupId, q.subject.id AS subjectId, q.grade AS grade " +
+            "FROM QualificationEntity q WHERE q.student.id IN :studentIds " +
+            "ORDER BY q.date DESC, q.id DESC")
+    List<StudentSummaryRow.Grade> findGrades(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT r.student.id AS studentId, r.teacher.id AS teacherId, r.moduleId AS moduleId, r.star AS star " +
+            "FROM RankingEntity r WHERE r.student.id IN :studentIds")
+    List<StudentSummaryRow.Evaluation> findEvaluations(@Param("studentIds") Collection<Long> studentIds);
+}
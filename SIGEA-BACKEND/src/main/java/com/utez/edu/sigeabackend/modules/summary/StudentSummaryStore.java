@@ -0,0 +1,82 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupStudentStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Resúmenes académicos por estudiante: inscripciones, calificaciones y evaluaciones
+ * dadas, leídos con tres consultas por lote de estudiantes. Lo que depende de la fecha
+ * (módulo actual, evaluaciones pendientes) lo calcula {@link StudentSummaryService}.
+ */
+@Service
+public class StudentSummaryStore extends SummaryStore<StudentSummary> {
+
+    private final StudentSummarySourceRepository source;
+
+    public StudentSummaryStore(StudentSummarySourceRepository source,
+                               @Qualifier("summaryExecutor") TaskExecutor executor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${sigea.student-summary.max-entries:50000}") int maxEntries) {
+        super(executor, transactionManager, maxEntries);
+        this.source = source;
+    }
+
+    @Override
+    protected boolean touches(StudentSummary summary, Changes changes) {
+        return changes.groups().stream().anyMatch(summary::touchesGroup)
+                || changes.careers().stream().anyMatch(summary::touchesCareer);
+    }
+
+    @Override
+    protected Map<Long, StudentSummary> build(List<Long> studentIds) {
+        Map<Long, List<StudentSummary.Enrollment>> enrollments = new HashMap<>();
+        for (StudentSummaryRow.Enrollment row : source.findEnrollments(studentIds)) {
+            enrollments.computeIfAbsent(row.getStudentId(), k -> new ArrayList<>()).add(new StudentSummary.Enrollment(
+                    row.getGroupId(), row.getGroupName(), row.getCareerId(), row.getCareerName(),
+                    row.getCurriculumId(), row.getCurriculumName(), row.getTeacherId(), row.getTeacherName(),
+                    row.getEntryDate(), row.getExitDate(), row.getStatus() == GroupStudentStatus.ACTIVE));
+        }
+
+        Map<Long, List<StudentSummary.Grade>> grades = new HashMap<>();
+        for (StudentSummaryRow.Grade row : source.findGrades(studentIds)) {
+            if (row.getGrade() == null) continue;
+            grades.computeIfAbsent(row.getStudentId(), k -> new ArrayList<>())
+                    .add(new StudentSummary.Grade(row.getGroupId(), row.getSubjectId(), row.getGrade()));
+        }
+
+        Map<Long, List<StudentSummaryRow.Evaluation>> evaluations = new HashMap<>();
+        for (StudentSummaryRow.Evaluation row : source.findEvaluations(studentIds)) {
+            evaluations.computeIfAbsent(row.getStudentId(), k -> new ArrayList<>()).add(row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, StudentSummary> built = new HashMap<>();
+        for (Long studentId : source.findExistingIds(studentIds)) {
+            List<StudentSummaryRow.Evaluation> given = evaluations.getOrDefault(studentId, List.of());
+            Set<StudentSummary.Evaluated> evaluated = new HashSet<>();
+            for (StudentSummaryRow.Evaluation e : given) {
+                if (e.getModuleId() != null) evaluated.add(new StudentSummary.Evaluated(e.getTeacherId(), e.getModuleId()));
+            }
+            Double averageStars = given.isEmpty() ? null
+                    : given.stream().mapToInt(StudentSummaryRow.Evaluation::getStar).average().orElse(0);
+
+            built.put(studentId, new StudentSummary(
+                    studentId,
+                    List.copyOf(enrollments.getOrDefault(studentId, List.of())),
+                    List.copyOf(grades.getOrDefault(studentId, List.of())),
+                    Set.copyOf(evaluated),
+                    given.size(),
+                    averageStars,
+                    now
+            ));
+        }
+        return built;
+    }
+}
@@ -0,0 +1,64 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.CareerEntity;
+import com.utez.edu.sigeabackend.modules.entities.GroupEntity;
+import com.utez.edu.sigeabackend.modules.entities.GroupStudentEntity;
+import com.utez.edu.sigeabackend.modules.entities.QualificationEntity;
+import com.utez.edu.sigeabackend.modules.entities.RankingEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Listener JPA de las entidades que alimentan los resúmenes materializados:
+ * calificaciones, inscripciones a grupos y evaluaciones marcan al estudiante y al
+ * grupo (o docente) afectado; grupos y carreras, a todos los resúmenes que los incluyen.
+ * Las actualizaciones masivas con JPQL no pasan por aquí.
+ */
+public class SummaryListener {
+
+    private final ObjectProvider<StudentSummaryStore> students;
+    private final ObjectProvider<TeacherDashboardStore> teachers;
+
+    public SummaryListener(ObjectProvider<StudentSummaryStore> students,
+                           ObjectProvider<TeacherDashboardStore> teachers) {
+        this.students = students;
+        this.teachers = teachers;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        StudentSummaryStore studentStore = students.getIfAvailable();
+        TeacherDashboardStore teacherStore = teachers.getIfAvailable();
+        if (studentStore == null || teacherStore == null) return;
+
+        switch (entity) {
+            case QualificationEntity q when q.getStudent() != null && q.getGroup() != null -> {
+                studentStore.changed(q.getStudent().getId());
+                teacherStore.groupChanged(q.getGroup().getId());
+            }
+            case RankingEntity r when r.getStudent() != null && r.getTeacher() != null -> {
+                studentStore.changed(r.getStudent().getId());
+                teacherStore.changed(r.getTeacher().getId());
+            }
+            case GroupStudentEntity gs when gs.getId() != null -> {
+                studentStore.changed(gs.getId().getStudentId());
+                teacherStore.groupChanged(gs.getId().getGroupId());
+            }
+            case GroupEntity group -> {
+                studentStore.groupChanged(group.getId());
+                // El docente anterior lo tiene en su tablero; el nuevo, a partir de ahora
+                teacherStore.groupChanged(group.getId());
+                if (group.getTeacher() != null) teacherStore.changed(group.getTeacher().getId());
+            }
+            case CareerEntity career -> {
+                studentStore.careerChanged(career.getId());
+                teacherStore.careerChanged(career.getId());
+            }
+            default -> { }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.config.PrimaryReadTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Resúmenes materializados en memoria, uno por clave (estudiante, docente). El primero
+ * se carga al consultarlo; después, cada commit que toca sus datos (ver
+ * {@link SummaryListener}) lo descarta y, si estaba en memoria, se vuelve a cargar en
+ * el hilo "summary-", así que la consulta siguiente lo encuentra listo.
+ *
+ * @param <S> resumen inmutable de una clave
+ */
+public abstract class SummaryStore<S> {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryStore.class);
+
+    /* Tamaño máximo de la lista IN por consulta */
+    private static final int BATCH_SIZE = 1_000;
+
+    /** Cambios de una transacción, aplicados después del commit */
+    protected record Changes(Set<Long> keys, Set<Long> groups, Set<Long> careers) {
+        Changes() {
+            this(new HashSet<>(), new HashSet<>(), new HashSet<>());
+        }
+    }
+
+    private final TaskExecutor executor;
+    private final PrimaryReadTemplate readOnly;
+    private final int maxEntries;
+
+    private final ConcurrentMap<Long, S> summaries = new ConcurrentHashMap<>();
+
+    /* Cambia con cada invalidación; una carga solo se publica si no cambió mientras se leía */
+    private final AtomicLong generation = new AtomicLong();
+
+    protected SummaryStore(TaskExecutor executor, PlatformTransactionManager transactionManager, int maxEntries) {
+        this.executor = executor;
+        this.readOnly = new PrimaryReadTemplate(transactionManager);
+        this.maxEntries = maxEntries;
+    }
+
+    /** Resúmenes de las claves que existen; las que no existen no aparecen */
+    protected abstract Map<Long, S> build(List<Long> keys);
+
+    /** El resumen incluye alguno de los grupos o carreras modificados */
+    protected abstract boolean touches(S summary, Changes changes);
+
+    /* ===================== Lectura ===================== */
+
+    /** Resumen de la clave; vacío si no existe */
+    Optional<S> get(long key) {
+        S summary = summaries.get(key);
+        if (summary != null) return Optional.of(summary);
+        return Optional.ofNullable(load(List.of(key)).get(key));
+    }
+
+    /* ===================== Invalidación ===================== */
+
+    public void changed(long key) {
+        record(changes -> changes.keys().add(key));
+    }
+
+    /** Cambios masivos (JPQL) que no pasan por el listener */
+    public void changed(Collection<Long> keys) {
+        record(changes -> changes.keys().addAll(keys));
+    }
+
+    public void groupChanged(long groupId) {
+        record(changes -> changes.groups().add(groupId));
+    }
+
+    public void careerChanged(long careerId) {
+        record(changes -> changes.careers().add(careerId));
+    }
+
+    /**
+     * Dentro de una transacción los cambios se acumulan y se aplican después del commit
+     * (si hay rollback se descartan). Mientras tanto, las cargas de esa transacción no se
+     * publican porque podrían incluir cambios que todavía no son definitivos.
+     */
+    private void record(Consumer<Changes> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Changes immediate = new Changes();
+            change.accept(immediate);
+            apply(immediate);
+            return;
+        }
+        Changes changes = (Changes) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            Changes created = new Changes();
+            changes = created;
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SummaryStore.this);
+                    if (status == STATUS_COMMITTED) apply(created);
+                }
+            });
+        }
+        change.accept(changes);
+    }
+
+    /* Descarta en el momento y recarga en segundo plano lo que estaba en memoria */
+    private void apply(Changes changes) {
+        Set<Long> evicted = evict(changes);
+        if (!evicted.isEmpty()) executor.execute(() -> refresh(evicted));
+    }
+
+    private synchronized Set<Long> evict(Changes changes) {
+        generation.incrementAndGet();
+        Set<Long> evicted = new HashSet<>();
+        for (Long key : changes.keys()) {
+            if (summaries.remove(key) != null) evicted.add(key);
+        }
+        if (!changes.groups().isEmpty() || !changes.careers().isEmpty()) {
+            summaries.entrySet().removeIf(e -> {
+                boolean affected = touches(e.getValue(), changes);
+                if (affected) evicted.add(e.getKey());
+                return affected;
+            });
+        }
+        return evicted;
+    }
+
+    private void refresh(Set<Long> keys) {
+        try {
+            List<Long> ids = new ArrayList<>(keys);
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                load(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+            }
+        } catch (RuntimeException e) {
+            // Se cargarán en la siguiente consulta
+            log.warn("No se pudieron recargar {} resúmenes de {}", keys.size(), getClass().getSimpleName(), e);
+        }
+    }
+
+    /* ===================== Carga ===================== */
+
+    private Map<Long, S> load(List<Long> keys) {
+        long observed = generation.get();
+        Map<Long, S> loaded = readOnly.execute(status -> build(keys));
+        publish(observed, loaded);
+        return loaded;
+    }
+
+    private synchronized void publish(long observed, Map<Long, S> loaded) {
+        if (generation.get() != observed || TransactionSynchronizationManager.hasResource(this)) return;
+        for (Map.Entry<Long, S> e : loaded.entrySet()) {
+            if (summaries.size() >= maxEntries && !summaries.containsKey(e.getKey())) break;
+            summaries.put(e.getKey(), e.getValue());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupStatus;
+import com.utez.edu.sigeabackend.modules.entities.WeekDays;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Agregados de los grupos de un docente. Lo que depende del plan de estudios
+ * (materias esperadas) se calcula al leerlo con el catálogo en caché.
+ */
+record TeacherDashboard(
+        long teacherId,
+        List<Group> groups,
+        Double rankingAverage,
+        int rankingCount,
+        LocalDateTime loadedAt
+) {
+
+    record Group(long groupId, String groupName, GroupStatus status, WeekDays weekDay,
+                 LocalTime startTime, LocalTime endTime, long careerId, String careerName,
+                 long curriculumId, String curriculumName, int students,
+                 List<SubjectGrades> subjects, Double rankingAverage, int rankingCount) {}
+
+    /** Alumnos activos calificados en la materia y suma de sus calificaciones */
+    record SubjectGrades(long subjectId, int students, long gradeSum, int grades) {}
+
+    boolean touchesGroup(long groupId) {
+        return groups.stream().anyMatch(g -> g.groupId() == groupId);
+    }
+
+    boolean touchesCareer(long careerId) {
+        return groups.stream().anyMatch(g -> g.careerId() == careerId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.summary.dto.TeacherDashboardDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sigea/api/teachers")
+public class TeacherDashboardController {
+
+    private final TeacherDashboardService service;
+
+    public TeacherDashboardController(TeacherDashboardService service) {
+        this.service = service;
+    }
+
+    // GET /sigea/api/teachers/{teacherId}/dashboard - Grupos con alumnos, avance de captura y evaluaciones
+    @GetMapping("/{teacherId}/dashboard")
+    public ResponseEntity<TeacherDashboardDto> dashboard(@PathVariable long teacherId) {
+        return service.dashboard(teacherId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.GroupStatus;
+import com.utez.edu.sigeabackend.modules.entities.WeekDays;
+
+import java.time.LocalTime;
+
+/**
+ * Filas que alimentan el tablero de un docente
+ */
+public interface TeacherDashboardRow {
+
+    /** Grupo del docente con su carrera y plan */
+    interface Group {
+        Long getGroupId();
+        Long getTeacherId();
+        String getGroupName();
+        GroupStatus getStatus();
+        WeekDays getWeekDay();
+        LocalTime getStartTime();
+        LocalTime getEndTime();
+        Long getCareerId();
+        String getCareerName();
+        Long getCurriculumId();
+        String getCurriculumName();
+    }
+
+    /** Calificaciones de una materia en un grupo, solo de alumnos activos */
+    interface SubjectGrades {
+        Long getGroupId();
+        Long getSubjectId();
+        Long getStudents();
+        Long getGradeSum();
+        Long getGrades();
+    }
+
+    /** Promedio de estrellas por grupo o por docente */
+    interface Rating {
+        Long getId();
+        Double getAverage();
+        Long getTotal();
+    }
+}
@@ -0,0 +1,116 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.CurriculumDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
+import com.utez.edu.sigeabackend.modules.services.AcademicCatalogCache;
+import com.utez.edu.sigeabackend.modules.summary.dto.TeacherDashboardDto;
+import com.utez.edu.sigeabackend.modules.summary.dto.TeacherDashboardDto.GroupMetricsDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Arma el tablero del docente a partir de sus agregados materializados y del catálogo
+ * en caché; en el caso normal no consulta la base de datos.
+ */
+@Service
+public class TeacherDashboardService {
+
+    private final TeacherDashboardStore store;
+    private final AcademicCatalogCache catalogCache;
+
+    public TeacherDashboardService(TeacherDashboardStore store, AcademicCatalogCache catalogCache) {
+        this.store = store;
+        this.catalogCache = catalogCache;
+    }
+
+    public ResponseEntity<TeacherDashboardDto> dashboard(long teacherId) {
+        TeacherDashboard dashboard = store.get(teacherId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Docente no encontrado"));
+
+        List<GroupMetricsDto> groups = new ArrayList<>(dashboard.groups().size());
+        int students = 0;
+        int captured = 0;
+        int expected = 0;
+        long gradeSum = 0;
+        int grades = 0;
+        for (TeacherDashboard.Group group : dashboard.groups()) {
+            GroupMetricsDto dto = toDto(group);
+            groups.add(dto);
+            students += dto.students();
+            captured += dto.gradesCaptured();
+            expected += dto.gradesExpected();
+            for (TeacherDashboard.SubjectGrades s : group.subjects()) {
+                gradeSum += s.gradeSum();
+                grades += s.grades();
+            }
+        }
+
+        return ResponseEntity.ok(new TeacherDashboardDto(
+                dashboard.teacherId(),
+                groups.size(),
+                students,
+                captured,
+                expected,
+                completion(captured, expected),
+                grades == 0 ? null : (double) gradeSum / grades,
+                dashboard.rankingAverage(),
+                dashboard.rankingCount(),
+                groups,
+                dashboard.loadedAt()
+        ));
+    }
+
+    private GroupMetricsDto toDto(TeacherDashboard.Group group) {
+        Set<Long> subjectIds = new HashSet<>();
+        for (ModuleDto module : catalogCache.modules(group.curriculumId())) {
+            for (SubjectDto subject : module.subjects()) subjectIds.add(subject.id());
+        }
+
+        // Solo cuentan las materias del plan y a lo más una calificación por alumno activo
+        int captured = 0;
+        long gradeSum = 0;
+        int grades = 0;
+        for (TeacherDashboard.SubjectGrades s : group.subjects()) {
+            if (subjectIds.contains(s.subjectId())) captured += Math.min(s.students(), group.students());
+            gradeSum += s.gradeSum();
+            grades += s.grades();
+        }
+        int expected = group.students() * subjectIds.size();
+
+        String curriculumName = catalogCache.curriculum(group.curriculumId())
+                .map(CurriculumDto::name)
+                .orElse(group.curriculumName());
+
+        return new GroupMetricsDto(
+                group.groupId(),
+                group.groupName(),
+                group.status().name(),
+                group.weekDay() + " " + group.startTime() + "-" + group.endTime(),
+                group.careerId(),
+                group.careerName(),
+                group.curriculumId(),
+                curriculumName,
+                group.students(),
+                subjectIds.size(),
+                captured,
+                expected,
+                completion(captured, expected),
+                grades == 0 ? null : (double) gradeSum / grades,
+                group.rankingAverage(),
+                group.rankingCount()
+        );
+    }
+
+    /* Porcentaje de calificaciones capturadas */
+    private static double completion(int captured, int expected) {
+        return expected == 0 ? 0.0 : captured * 100.0 / expected;
+    }
+}
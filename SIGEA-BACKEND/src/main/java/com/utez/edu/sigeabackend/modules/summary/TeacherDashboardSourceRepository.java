@@ -0,0 +1,61 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.UserEntity;
+import com.utez.edu.sigeabackend.modules.repositories.IdCountProjection;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lecturas del tablero de docentes: agregados por grupo para un lote de docentes,
+ * de modo que las filas crecen con grupos × materias y no con alumnos × materias
+ */
+public interface TeacherDashboardSourceRepository extends Repository<UserEntity, Long> {
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :teacherIds")
+    List<Long> findExistingIds(@Param("teacherIds") Collection<Long> teacherIds);
+
+    @Query("SELECT g.id AS groupId, g.teacher.id AS teacherId, g.name AS groupName, g.status AS status, " +
+            "g.weekDay AS weekDay, g.startTime AS startTime, g.endTime AS endTime, " +
+            "c.id AS careerId, c.name AS careerName, cu.id AS curriculumId, cu.name AS curriculumName " +
+            "FROM GroupEntity g " +
+            "JOIN g.career c " +
+            "JOIN g.curriculum cu " +
+            "WHERE g.teacher.id IN :teacherIds " +
+            "ORDER BY g.name")
+    List<TeacherDashboardRow.Group> findGroups(@Param("teacherIds") Collection<Long> teacherIds);
+
+    @Query("SELECT gs.id.groupId AS id, COUNT(gs) AS total " +
+            "FROM GroupStudentEntity gs " +
+            "WHERE gs.status = 'ACTIVE' AND gs.group.teacher.id IN :teacherIds " +
+            "GROUP BY gs.id.groupId")
+    List<IdCountProjection> countActiveStudents(@Param("teacherIds") Collection<Long> teacherIds);
+
+    @Query("SELECT q.group.id AS groupId, q.subject.id AS subjectId, COUNT(DISTINCT q.student.id) AS students, " +
+            "SUM(q.grade) AS gradeSum, COUNT(q) AS grades " +
+            "FROM QualificationEntity q " +
+            "JOIN GroupStudentEntity gs ON gs.id.groupId = q.group.id AND gs.id.studentId = q.student.id " +
+            "WHERE gs.status = 'ACTIVE' AND q.group.teacher.id IN :teacherIds " +
+            "GROUP BY q.group.id, q.subject.id")
+    List<TeacherDashboardRow.SubjectGrades> findSubjectGrades(@Param("teacherIds") Collection<Long> teacherIds);
+
+    /**
+     * Evaluaciones al docente hechas por alumnos del grupo en módulos del plan del grupo
+     */
+    @Query("SELECT g.id AS id, AVG(r.star) AS average, COUNT(r) AS total " +
+            "FROM RankingEntity r " +
+            "JOIN GroupStudentEntity gs ON gs.id.studentId = r.student.id " +
+            "JOIN gs.group g " +
+            "WHERE r.teacher.id = g.teacher.id AND g.teacher.id IN :teacherIds " +
+            "AND r.moduleId IN (SELECT m.id FROM ModuleEntity m WHERE m.curriculum.id = g.curriculum.id) " +
+            "GROUP BY g.id")
+    List<TeacherDashboardRow.Rating> findGroupRatings(@Param("teacherIds") Collection<Long> teacherIds);
+
+    @Query("SELECT r.teacher.id AS id, AVG(r.star) AS average, COUNT(r) AS total " +
+            "FROM RankingEntity r WHERE r.teacher.id IN :teacherIds " +
+            "GROUP BY r.teacher.id")
+    List<TeacherDashboardRow.Rating> findTeacherRatings(@Param("teacherIds") Collection<Long> teacherIds);
+}
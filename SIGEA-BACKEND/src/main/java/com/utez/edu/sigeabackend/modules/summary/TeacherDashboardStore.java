@@ -0,0 +1,88 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.repositories.IdCountProjection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Tableros de docentes: por cada grupo, alumnos activos, calificaciones por materia y
+ * promedio de evaluaciones, leídos con cinco consultas agregadas por lote de docentes.
+ * Se recargan cuando cambian calificaciones, inscripciones o evaluaciones de sus grupos.
+ */
+@Service
+public class TeacherDashboardStore extends SummaryStore<TeacherDashboard> {
+
+    private final TeacherDashboardSourceRepository source;
+
+    public TeacherDashboardStore(TeacherDashboardSourceRepository source,
+                                 @Qualifier("summaryExecutor") TaskExecutor executor,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${sigea.teacher-dashboard.max-entries:5000}") int maxEntries) {
+        super(executor, transactionManager, maxEntries);
+        this.source = source;
+    }
+
+    @Override
+    protected boolean touches(TeacherDashboard dashboard, Changes changes) {
+        return changes.groups().stream().anyMatch(dashboard::touchesGroup)
+                || changes.careers().stream().anyMatch(dashboard::touchesCareer);
+    }
+
+    @Override
+    protected Map<Long, TeacherDashboard> build(List<Long> teacherIds) {
+        Map<Long, Integer> students = new HashMap<>();
+        for (IdCountProjection row : source.countActiveStudents(teacherIds)) {
+            students.put(row.getId(), row.getTotal().intValue());
+        }
+
+        Map<Long, List<TeacherDashboard.SubjectGrades>> subjects = new HashMap<>();
+        for (TeacherDashboardRow.SubjectGrades row : source.findSubjectGrades(teacherIds)) {
+            subjects.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(new TeacherDashboard.SubjectGrades(
+                    row.getSubjectId(), row.getStudents().intValue(),
+                    row.getGradeSum() == null ? 0 : row.getGradeSum(), row.getGrades().intValue()));
+        }
+
+        Map<Long, TeacherDashboardRow.Rating> groupRatings = new HashMap<>();
+        for (TeacherDashboardRow.Rating row : source.findGroupRatings(teacherIds)) {
+            groupRatings.put(row.getId(), row);
+        }
+
+        Map<Long, List<TeacherDashboard.Group>> groups = new HashMap<>();
+        for (TeacherDashboardRow.Group row : source.findGroups(teacherIds)) {
+            TeacherDashboardRow.Rating rating = groupRatings.get(row.getGroupId());
+            groups.computeIfAbsent(row.getTeacherId(), k -> new ArrayList<>()).add(new TeacherDashboard.Group(
+                    row.getGroupId(), row.getGroupName(), row.getStatus(), row.getWeekDay(),
+                    row.getStartTime(), row.getEndTime(), row.getCareerId(), row.getCareerName(),
+                    row.getCurriculumId(), row.getCurriculumName(),
+                    students.getOrDefault(row.getGroupId(), 0),
+                    List.copyOf(subjects.getOrDefault(row.getGroupId(), List.of())),
+                    rating != null ? rating.getAverage() : null,
+                    rating != null ? rating.getTotal().intValue() : 0));
+        }
+
+        Map<Long, TeacherDashboardRow.Rating> teacherRatings = new HashMap<>();
+        for (TeacherDashboardRow.Rating row : source.findTeacherRatings(teacherIds)) {
+            teacherRatings.put(row.getId(), row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, TeacherDashboard> built = new HashMap<>();
+        for (Long teacherId : source.findExistingIds(teacherIds)) {
+            TeacherDashboardRow.Rating rating = teacherRatings.get(teacherId);
+            built.put(teacherId, new TeacherDashboard(
+                    teacherId,
+                    List.copyOf(groups.getOrDefault(teacherId, List.of())),
+                    rating != null ? rating.getAverage() : null,
+                    rating != null ? rating.getTotal().intValue() : 0,
+                    now
+            ));
+        }
+        return built;
+    }
+}
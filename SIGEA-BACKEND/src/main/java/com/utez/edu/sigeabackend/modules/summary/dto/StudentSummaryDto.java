@@ -0,0 +1,52 @@
+package com.utez.edu.sigeabackend.modules.summary.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tablero del estudiante en una sola respuesta: promedios, avance por plan,
+ * módulo actual y evaluaciones a docentes pendientes
+ */
+public record StudentSummaryDto(
+        long                          studentId,
+        Double                        average,
+        int                           subjectsCompleted,
+        int                           subjectsTotal,
+        int                           rankingsGiven,
+        Double                        averageStarsGiven,
+        List<CareerSummaryDto>        careers,
+        List<PendingEvaluationDto>    pendingEvaluations,
+        LocalDateTime                 updatedAt
+) {
+
+    public record CareerSummaryDto(
+            long                          careerId,
+            String                        careerName,
+            Double                        average,
+            List<CurriculumSummaryDto>    curricula
+    ) {}
+
+    /** Avance en un plan de estudios; el grupo es la inscripción más reciente en ese plan */
+    public record CurriculumSummaryDto(
+            long      curriculumId,
+            String    curriculumName,
+            long      groupId,
+            String    groupName,
+            boolean   active,
+            Double    average,
+            int       subjectsCompleted,
+            int       subjectsTotal,
+            Long      currentModuleId,
+            String    currentModuleName
+    ) {}
+
+    /** Módulo ya abierto cuyo docente el estudiante aún no evalúa */
+    public record PendingEvaluationDto(
+            long      groupId,
+            String    groupName,
+            Long      teacherId,
+            String    teacherName,
+            long      moduleId,
+            String    moduleName
+    ) {}
+}
@@ -0,0 +1,42 @@
+package com.utez.edu.sigeabackend.modules.summary.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Página de inicio del docente en una sola respuesta: totales y métricas por grupo.
+ * Las calificaciones esperadas son alumnos activos × materias del plan del grupo.
+ */
+public record TeacherDashboardDto(
+        long                      teacherId,
+        int                       groups,
+        int                       students,
+        int                       gradesCaptured,
+        int                       gradesExpected,
+        double                    completion,
+        Double                    averageGrade,
+        Double                    rankingAverage,
+        int                       rankingCount,
+        List<GroupMetricsDto>     groupMetrics,
+        LocalDateTime             updatedAt
+) {
+
+    public record GroupMetricsDto(
+            long      groupId,
+            String    groupName,
+            String    status,
+            String    schedule,
+            long      careerId,
+            String    careerName,
+            long      curriculumId,
+            String    curriculumName,
+            int       students,
+            int       subjects,
+            int       gradesCaptured,
+            int       gradesExpected,
+            double    completion,
+            Double    averageGrade,
+            Double    rankingAverage,
+            int       rankingCount
+    ) {}
+}
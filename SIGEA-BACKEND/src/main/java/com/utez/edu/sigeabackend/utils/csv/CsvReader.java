@@ -0,0 +1,100 @@
+package com.utez.edu.sigeabackend.utils.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV mínimo (RFC 4180): campos entre comillas, comillas dobles escapadas y
+ * saltos de línea dentro de comillas. Lee registro por registro sin cargar el archivo.
+ * El separador se detecta en la primera línea (',' o ';', como exporta Excel en español).
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader in;
+    private char separator;
+    private boolean separatorDetected;
+    private int line;
+    private int recordLine;
+
+    public CsvReader(Reader reader) {
+        this.in = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+    }
+
+    /** Siguiente registro o null al final del archivo; las líneas vacías se saltan */
+    public List<String> next() throws IOException {
+        String current;
+        do {
+            current = in.readLine();
+            if (current == null) return null;
+            line++;
+            if (line == 1 && !current.isEmpty() && current.charAt(0) == '\uFEFF') current = current.substring(1);
+        } while (current.isBlank());
+
+        if (!separatorDetected) {
+            separator = count(current, ';') > count(current, ',') ? ';' : ',';
+            separatorDetected = true;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= current.length()) {
+                if (!quoted) break;
+                // Salto de línea dentro de un campo entre comillas
+                String continuation = in.readLine();
+                if (continuation == null) break;
+                line++;
+                field.append('\n');
+                current = continuation;
+                i = 0;
+                continue;
+            }
+            char c = current.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < current.length() && current.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /** Línea del archivo (1-based) donde empezó el último registro leído */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private static int count(String s, char c) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) if (s.charAt(i) == c) n++;
+        return n;
+    }
+}
@@ -1,10 +1,13 @@
 package com.utez.edu.sigeabackend.utils.security;
 
+import com.utez.edu.sigeabackend.config.DebugLogSampler;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,13 +22,17 @@ import java.io.IOException;
 @Component
 public class JWTRequestFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JWTRequestFilter.class);
+
     private final CustomUserDetailsService userDetailsService;
     private final JWTUtil jwtUtil;
+    private final DebugLogSampler sampler;
 
     @Autowired
-    public JWTRequestFilter(CustomUserDetailsService userDetailsService, JWTUtil jwtUtil) {
+    public JWTRequestFilter(CustomUserDetailsService userDetailsService, JWTUtil jwtUtil, DebugLogSampler sampler) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.sampler = sampler;
     }
 
     @Override
@@ -39,47 +46,43 @@ public class JWTRequestFilter extends OncePerRequestFilter {
         String method = request.getMethod();
 
         if ("OPTIONS".equalsIgnoreCase(method)) {
-            System.out.println("=== OPTIONS REQUEST - SKIPPING JWT FILTER ===");
+            debug(method, requestPath, "options", null, false);
             chain.doFilter(request, response);
             return;
         }
 
         if (isPublicEndpoint(requestPath, method)) {
-            System.out.println("=== PUBLIC ENDPOINT - SKIPPING JWT FILTER: " + method + " " + requestPath + " ===");
+            debug(method, requestPath, "public", null, false);
             chain.doFilter(request, response);
             return;
         }
 
         final String authHeader = request.getHeader("Authorization");
         String username = null, jwt = null;
-
-        System.out.println("=== JWT FILTER DEBUG ===");
-        System.out.println("Method: " + method);
-        System.out.println("Path: " + requestPath);
-        System.out.println("Auth Header: " + (authHeader != null ? "PRESENT (" + authHeader.length() + " chars)" : "NULL"));
+        String outcome;
+        boolean failure = false;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7);
-            System.out.println("JWT Token: " + (!jwt.isEmpty() ? "EXTRACTED (" + jwt.length() + " chars)" : "EMPTY"));
+            outcome = "token";
             try {
                 username = jwtUtil.extractUsername(jwt);
-                System.out.println("Username extracted: " + username);
             } catch (ExpiredJwtException ex) {
-                System.out.println("JWT EXPIRED: " + ex.getMessage());
+                outcome = "expired";
             } catch (io.jsonwebtoken.security.SignatureException ex) {
-                System.out.println("JWT SIGNATURE ERROR: " + ex.getMessage());
+                outcome = "invalid-signature";
+                failure = true;
             } catch (Exception ex) {
-                System.out.println("JWT OTHER ERROR: " + ex.getClass().getSimpleName() + " - " + ex.getMessage());
+                outcome = "error:" + ex.getClass().getSimpleName();
+                failure = true;
             }
         } else {
-            System.out.println("No Bearer token found");
+            outcome = "no-token";
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            System.out.println("Attempting to authenticate user: " + username);
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
             if (jwtUtil.validateToken(jwt, userDetails)) {
-                System.out.println("Token validation SUCCESS");
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities()
@@ -88,14 +91,30 @@ public class JWTRequestFilter extends OncePerRequestFilter {
                         new WebAuthenticationDetailsSource().buildDetails(request)
                 );
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                outcome = "authenticated";
             } else {
-                System.out.println("Token validation FAILED");
+                outcome = "rejected";
+                failure = true;
             }
         }
-        System.out.println("========================");
+        debug(method, requestPath, outcome, username, failure);
         chain.doFilter(request, response);
     }
 
+    /**
+     * Un solo evento por petición y solo con DEBUG activo para este logger (se cambia en
+     * caliente desde /sigea/api/logging). Los éxitos se muestrean; los fallos no.
+     */
+    private void debug(String method, String path, String outcome, String username, boolean failure) {
+        if (!log.isDebugEnabled() || !(failure || sampler.sample())) return;
+        log.atDebug()
+                .addKeyValue("method", method)
+                .addKeyValue("path", path)
+                .addKeyValue("outcome", outcome)
+                .addKeyValue("username", username)
+                .log("Filtro JWT: {}", outcome);
+    }
+
     private boolean isPublicEndpoint(String requestPath, String method) {
         if ("GET".equalsIgnoreCase(method)) {
             if (requestPath.startsWith("/sigea/api/media/raw/")) {
@@ -141,8 +141,16 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
             this.role = role;
         }
 
+        /**
+         * WebSocketService envía a /user/{id}/queue/...: el nombre con el que Spring resuelve
+         * los destinos de usuario tiene que ser el id, no el correo.
+         */
         @Override
         public String getName() {
+            return userId != null ? userId.toString() : name;
+        }
+
+        public String getUsername() {
             return name;
         }
 
@@ -82,6 +82,16 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/sigea/api/dev-status").permitAll()
                                 .requestMatchers("/sigea/ws/**").permitAll()
                                 .requestMatchers("/sigea/ws-native/**").permitAll()
+                                .requestMatchers("/sigea/api/media/cache/**").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/curriculums/cache/**").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/jpa-cache/**", "/sigea/api/jpa-cache").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/metrics/**", "/sigea/api/metrics").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/search/index/**").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/analytics/rollups/**").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/logging/**", "/sigea/api/logging").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers(HttpMethod.POST, "/sigea/api/notifications/broadcast").hasAnyRole("ADMIN", "DEV")
+                                .requestMatchers("/sigea/api/enrollments/import/**", "/sigea/api/enrollments/import")
+                                    .hasAnyRole("ADMIN", "SUPERVISOR", "DEV")
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(sess ->
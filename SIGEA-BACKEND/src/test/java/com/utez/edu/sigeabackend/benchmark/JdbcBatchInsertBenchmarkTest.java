@@ -0,0 +1,182 @@
+package com.utez.edu.sigeabackend.benchmark;
+
+import com.utez.edu.sigeabackend.config.IdGeneratorSeeder;
+import com.utez.edu.sigeabackend.config.JpaBatchConfig;
+import com.utez.edu.sigeabackend.modules.entities.NotificationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara la inserción de notificaciones fila por fila (lote de 1, como con IDENTITY)
+ * contra lotes JDBC con el generador por tabla. Usa H2 en modo MySQL y cuenta las
+ * llamadas reales al driver (executeUpdate vs executeBatch) con un DataSource envuelto.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "NON_KEYWORDS=USER,VALUE,YEAR,MONTH,DAY;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "sigea.jpa.batch-size=" + JdbcBatchInsertBenchmarkTest.BATCH_SIZE
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaBatchConfig.class, IdGeneratorSeeder.class, JdbcBatchInsertBenchmarkTest.CountingJdbcConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchInsertBenchmarkTest.class);
+
+    static final int BATCH_SIZE = 50;
+    private static final int ROWS = 5_000;
+    private static final int WARM_UP_ROWS = 1_000;
+    private static final int FLUSH_EVERY = 500;
+
+    /* Llamadas al driver para "insert into notifications" */
+    private static final AtomicInteger INSERT_BATCHES = new AtomicInteger();
+    private static final AtomicInteger INSERT_SINGLE = new AtomicInteger();
+
+    private record Run(int rows, int batchSize, long nanos, int batches, int singleInserts) {
+        double rowsPerSecond() { return rows / (nanos / 1_000_000_000.0); }
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchedInsertsUseOneRoundTripPerBatch() {
+        // Calentamiento: JIT, pool y primer bloque de ids
+        insert(WARM_UP_ROWS, 1);
+        insert(WARM_UP_ROWS, BATCH_SIZE);
+
+        Run single = insert(ROWS, 1);
+        Run batched = insert(ROWS, BATCH_SIZE);
+
+        log.info("Fila por fila: {} filas en {} ms ({} filas/s, {} executeUpdate)",
+                single.rows(), single.nanos() / 1_000_000, Math.round(single.rowsPerSecond()), single.singleInserts());
+        log.info("En lotes de {}: {} filas en {} ms ({} filas/s, {} executeBatch)",
+                BATCH_SIZE, batched.rows(), batched.nanos() / 1_000_000, Math.round(batched.rowsPerSecond()),
+                batched.batches());
+        log.info("Aceleración: {}x", String.format("%.2f", batched.rowsPerSecond() / single.rowsPerSecond()));
+
+        assertEquals(ROWS, single.singleInserts());
+        assertEquals(0, single.batches());
+        assertEquals(0, batched.singleInserts());
+        assertEquals(ROWS / BATCH_SIZE, batched.batches());
+    }
+
+    private Run insert(int rows, int batchSize) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            INSERT_BATCHES.set(0);
+            INSERT_SINGLE.set(0);
+
+            long start = System.nanoTime();
+            em.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                em.persist(notification(i));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.getTransaction().commit();
+            long nanos = System.nanoTime() - start;
+
+            return new Run(rows, batchSize, nanos, INSERT_BATCHES.get(), INSERT_SINGLE.get());
+        } finally {
+            em.close();
+        }
+    }
+
+    private static NotificationEntity notification(int i) {
+        NotificationEntity n = new NotificationEntity();
+        n.setUserId((long) (i % 300) + 1);
+        n.setType("SYSTEM");
+        n.setTitle("Aviso " + i);
+        n.setMessage("Mensaje de prueba para el benchmark de inserciones en lote");
+        n.setJson("{}");
+        return n;
+    }
+
+    /** Envuelve el DataSource para contar cómo llegan los INSERT al driver */
+    @TestConfiguration
+    static class CountingJdbcConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? countingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource countingDataSource(DataSource target) {
+            return proxy(DataSource.class, target, (method, result, args) ->
+                    result instanceof Connection c ? countingConnection(c) : result);
+        }
+
+        private static Connection countingConnection(Connection target) {
+            return proxy(Connection.class, target, (method, result, args) -> {
+                if (result instanceof PreparedStatement ps && "prepareStatement".equals(method.getName())
+                        && args[0] instanceof String sql
+                        && sql.trim().toLowerCase().startsWith("insert into notifications")) {
+                    return countingStatement(ps);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement countingStatement(PreparedStatement target) {
+            return proxy(PreparedStatement.class, target, (method, result, args) -> {
+                switch (method.getName()) {
+                    case "executeBatch" -> INSERT_BATCHES.incrementAndGet();
+                    case "executeUpdate", "execute" -> INSERT_SINGLE.incrementAndGet();
+                    default -> { }
+                }
+                return result;
+            });
+        }
+
+        private interface ResultMapper {
+            Object map(Method method, Object result, Object[] args);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                try {
+                    return mapper.map(method, method.invoke(target, args), args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.utez.edu.sigeabackend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ruteo de lecturas y escrituras con dos bases H2 en memoria que hacen de primario y
+ * réplica; cada una guarda su propio nombre en la tabla "node" para saber a cuál se llegó.
+ */
+class ReadWriteDataSourceConfigTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaHealthMonitor monitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        init(primaryJdbc, "primary");
+        init(replicaJdbc, "replica");
+        replicaJdbc.execute("CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        replicaJdbc.update("INSERT INTO replica_status VALUES (0)");
+
+        monitor = new ReplicaHealthMonitor(replica, MAX_LAG_SECONDS, "SELECT * FROM replica_status");
+        DataSource routing = ReadWriteDataSourceConfig.routingDataSource(primary, replica, monitor);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+
+        jdbc = new JdbcTemplate(routing);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(txManager);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals(1, monitor.getReplicaReads());
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        readWrite.executeWithoutResult(status -> {
+            assertEquals("primary", currentNode());
+            jdbc.update("INSERT INTO grades (score) VALUES (10)");
+        });
+
+        assertEquals(1, count(primaryJdbc));
+        assertEquals(0, count(replicaJdbc));
+    }
+
+    @Test
+    void primaryReadTemplateReadsFromPrimaryWhileReplicaIsHealthy() {
+        DataSource routing = jdbc.getDataSource();
+        PrimaryReadTemplate primaryRead = new PrimaryReadTemplate(new DataSourceTransactionManager(routing));
+
+        // Escrito en el primario y todavía no replicado
+        primaryJdbc.update("INSERT INTO grades (score) VALUES (9)");
+
+        assertEquals("primary", primaryRead.execute(status -> currentNode()));
+        int rows = primaryRead.execute(status -> count(jdbc));
+        assertEquals(1, rows);
+        assertTrue(monitor.isAvailable());
+        assertEquals(0, monitor.getFallbackReads());
+
+        // Fuera de la plantilla las lecturas vuelven a la réplica
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void credentialsFollowTheSameRouting() throws SQLException {
+        DataSource readOnlyTarget = new ReadOnlyRoutingDataSource(
+                primaryJdbc.getDataSource(), replicaJdbc.getDataSource(), monitor);
+
+        try (Connection connection = readOnlyTarget.getConnection("sa", "")) {
+            assertEquals("replica", node(connection));
+        }
+
+        monitor.markDown("prueba");
+        try (Connection connection = readOnlyTarget.getConnection("sa", "")) {
+            assertEquals("primary", node(connection));
+        }
+        assertEquals(1, monitor.getReplicaReads());
+        assertEquals(1, monitor.getFallbackReads());
+    }
+
+    @Test
+    void lagBeyondThresholdFallsBackToPrimaryUntilReplicaCatchesUp() {
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = ?", MAX_LAG_SECONDS + 25);
+        monitor.check();
+
+        assertFalse(monitor.isAvailable());
+        assertEquals(30L, monitor.getLastLagSeconds());
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+        assertEquals(1, monitor.getFallbackReads());
+
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = 1");
+        monitor.check();
+
+        assertTrue(monitor.isAvailable());
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void stoppedReplicationCountsAsUnavailable() {
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = NULL");
+        monitor.check();
+
+        assertFalse(monitor.isAvailable());
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        ReplicaHealthMonitor missingMonitor = new ReplicaHealthMonitor(missing, MAX_LAG_SECONDS, "SELECT 0");
+        DataSource routing = ReadWriteDataSourceConfig.routingDataSource(
+                primaryJdbc.getDataSource(), missing, missingMonitor);
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        tx.setReadOnly(true);
+
+        assertEquals("primary", tx.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class)));
+        assertFalse(missingMonitor.isAvailable());
+        assertEquals(1, missingMonitor.getFallbackReads());
+    }
+
+    private String currentNode() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static String node(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static int count(JdbcTemplate template) {
+        Integer rows = template.queryForObject("SELECT COUNT(*) FROM grades", Integer.class);
+        return rows == null ? 0 : rows;
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void init(JdbcTemplate template, String name) {
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        template.execute("CREATE TABLE grades (id BIGINT AUTO_INCREMENT PRIMARY KEY, score INT)");
+    }
+}
@@ -0,0 +1,111 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import com.utez.edu.sigeabackend.modules.search.SearchIndex.Filter;
+import com.utez.edu.sigeabackend.modules.search.dto.SearchHitDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private static final Filter ALL = new Filter(Set.of(), null, null, true);
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.replaceAll(List.of(
+                user(1, "Juan García López", "juan.garcia@utez.edu.mx", 10L, true),
+                user(2, "Ana Garza", "ana.garza@utez.edu.mx", 10L, true),
+                user(3, "Luis Núñez", "luis.nunez@utez.edu.mx", 20L, false),
+                career(4, "Ingeniería en Software", 10L)
+        ));
+    }
+
+    @Test
+    void prefixMatchesEveryTermStartingWithTheToken() {
+        // Mismo puntaje: se ordenan por título
+        assertEquals(List.of(2L, 1L), ids(index.search("gar", ALL, 10)));
+    }
+
+    @Test
+    void everyQueryTokenMustMatch() {
+        assertEquals(List.of(1L), ids(index.search("gar lop", ALL, 10)));
+        assertTrue(index.search("gar xyz", ALL, 10).isEmpty());
+    }
+
+    @Test
+    void exactTermAndTitleStartRankFirst() {
+        index.put(user(5, "Garcia Ruiz", "garcia.ruiz@utez.edu.mx", 10L, true));
+        index.put(user(6, "Anabel Ruiz", "anabel.ruiz@utez.edu.mx", 10L, true));
+
+        // El título empieza con el término
+        assertEquals(List.of(5L, 1L), ids(index.search("garcia", ALL, 10)));
+        assertEquals(List.of(5L, 2L), ids(index.search("gar", ALL, 2)));
+        // Coincidencia exacta antes que por prefijo
+        assertEquals(List.of(2L, 6L), ids(index.search("ana", ALL, 10)));
+    }
+
+    @Test
+    void accentsAndCaseAreIgnoredInQueries() {
+        assertEquals(List.of(3L), ids(index.search("NUÑEZ", ALL, 10)));
+    }
+
+    @Test
+    void identifiersMatchWholeOrByWords() {
+        assertEquals(List.of(1L), ids(index.search("juan.garcia@", ALL, 10)));
+        // Sin término completo que empiece así, se busca por sus palabras
+        assertEquals(List.of(1L), ids(index.search("garcia-juan", ALL, 10)));
+    }
+
+    @Test
+    void filtersByTypeCampusAndActive() {
+        assertEquals(List.of(4L), ids(index.search("software", new Filter(Set.of(SearchType.CAREER), null, null, true), 10)));
+        assertTrue(index.search("software", new Filter(Set.of(SearchType.USER), null, null, true), 10).isEmpty());
+        assertEquals(List.of(2L, 1L), ids(index.search("gar", new Filter(Set.of(), 10L, null, false), 10)));
+        assertTrue(index.search("nunez", new Filter(Set.of(), null, null, false), 10).isEmpty());
+    }
+
+    @Test
+    void putReplacesPostingsOfThePreviousVersion() {
+        int terms = index.termCount();
+        index.put(user(2, "Ana Torres", "ana.torres@utez.edu.mx", 10L, true));
+
+        assertTrue(index.search("garza", ALL, 10).isEmpty());
+        assertEquals(List.of(2L), ids(index.search("torres", ALL, 10)));
+        assertEquals(terms, index.termCount());
+    }
+
+    @Test
+    void removeDropsDocumentAndUnusedTerms() {
+        index.remove(SearchType.USER, 3);
+
+        assertTrue(index.search("nunez", ALL, 10).isEmpty());
+        assertEquals(Map.of(SearchType.USER, 2, SearchType.GROUP, 0, SearchType.CAREER, 1), index.countByType());
+    }
+
+    private static List<Long> ids(List<SearchHitDto> hits) {
+        return hits.stream().map(SearchHitDto::id).toList();
+    }
+
+    private static SearchDocument user(long id, String name, String email, Long campusId, boolean active) {
+        Set<String> terms = new HashSet<>();
+        SearchText.addWords(terms, name);
+        SearchText.addIdentifier(terms, email);
+        return SearchDocument.of(SearchType.USER, id, name, email, campusId, "STUDENT", active, terms);
+    }
+
+    private static SearchDocument career(long id, String name, Long campusId) {
+        Set<String> terms = new HashSet<>();
+        SearchText.addWords(terms, name);
+        return SearchDocument.of(SearchType.CAREER, id, name, null, campusId, null, true, terms);
+    }
+}
@@ -0,0 +1,58 @@
+package com.utez.edu.sigeabackend.modules.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchTextTest {
+
+    @Test
+    void normalizeRemovesAccentsAndCase() {
+        assertEquals("nunez garcia", SearchText.normalize("  Núñez GARCÍA "));
+        assertEquals("", SearchText.normalize(null));
+    }
+
+    @Test
+    void addWordsSplitsOnPunctuationAndSpaces() {
+        Set<String> terms = new HashSet<>();
+        SearchText.addWords(terms, "María José Pérez-López");
+
+        assertEquals(Set.of("maria", "jose", "perez", "lopez"), terms);
+    }
+
+    @Test
+    void addIdentifierKeepsWholeValueAndItsParts() {
+        Set<String> terms = new HashSet<>();
+        SearchText.addIdentifier(terms, "Juan.Perez@utez.edu.mx");
+
+        assertEquals(Set.of("juan.perez@utez.edu.mx", "juan", "perez", "utez", "edu", "mx"), terms);
+    }
+
+    @Test
+    void addIdentifierIgnoresBlankValues() {
+        Set<String> terms = new HashSet<>();
+        SearchText.addIdentifier(terms, "   ");
+        SearchText.addIdentifier(terms, null);
+
+        assertTrue(terms.isEmpty());
+    }
+
+    @Test
+    void queryTokensSplitOnlyOnWhitespaceWithoutDuplicates() {
+        assertEquals(List.of("garcia", "juan.pe"), SearchText.queryTokens("García  juan.pe garcia"));
+        assertTrue(SearchText.queryTokens("   ").isEmpty());
+    }
+
+    @Test
+    void wordsAndIsWord() {
+        assertEquals(List.of("garcia", "lopez"), SearchText.words("garcia-lopez"));
+        assertTrue(SearchText.isWord("garcia"));
+        assertFalse(SearchText.isWord("juan.pe"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.ModuleDto;
+import com.utez.edu.sigeabackend.modules.entities.dto.academics.SubjectDto;
+import com.utez.edu.sigeabackend.modules.services.AcademicCatalogCache;
+import com.utez.edu.sigeabackend.modules.services.CurriculumTimeline;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto;
+import com.utez.edu.sigeabackend.modules.summary.dto.StudentSummaryDto.CurriculumSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentSummaryServiceTest {
+
+    private static final long STUDENT = 1L;
+    private static final long CAREER = 5L;
+    private static final long CURRICULUM = 100L;
+    private static final long SOURCE_GROUP = 10L;
+    private static final long TARGET_GROUP = 20L;
+
+    @Test
+    void transferredStudentCountsEachSubjectOnce() {
+        LocalDateTime transferredAt = LocalDateTime.now().minusWeeks(1);
+        StudentSummary summary = new StudentSummary(
+                STUDENT,
+                List.of(
+                        enrollment(TARGET_GROUP, transferredAt, null, true),
+                        enrollment(SOURCE_GROUP, transferredAt.minusWeeks(10), transferredAt, false)
+                ),
+                List.of(
+                        // Calificada después de la transferencia
+                        new StudentSummary.Grade(TARGET_GROUP, 3L, 6),
+                        // Copias de la transferencia
+                        new StudentSummary.Grade(TARGET_GROUP, 2L, 10),
+                        new StudentSummary.Grade(TARGET_GROUP, 1L, 8),
+                        // Originales en el grupo de origen
+                        new StudentSummary.Grade(SOURCE_GROUP, 2L, 10),
+                        new StudentSummary.Grade(SOURCE_GROUP, 1L, 8)
+                ),
+                Set.of(),
+                0,
+                null,
+                LocalDateTime.now()
+        );
+
+        StudentSummaryStore store = mock(StudentSummaryStore.class);
+        when(store.get(STUDENT)).thenReturn(Optional.of(summary));
+        AcademicCatalogCache catalogCache = mock(AcademicCatalogCache.class);
+        when(catalogCache.timeline(CURRICULUM)).thenReturn(CurriculumTimeline.of(List.of(
+                new ModuleDto(1L, "Módulo 1", List.of(
+                        new SubjectDto(1L, "Materia 1", 15),
+                        new SubjectDto(2L, "Materia 2", 15),
+                        new SubjectDto(3L, "Materia 3", 15))))));
+        when(catalogCache.curriculum(CURRICULUM)).thenReturn(Optional.empty());
+
+        StudentSummaryDto dto = new StudentSummaryService(store, catalogCache).summary(STUDENT).getBody();
+
+        // (6 + 10 + 8) / 3; contando las copias sería (6 + 10 + 8 + 10 + 8) / 5 = 8.4
+        assertEquals(8.0, dto.average());
+        assertEquals(8.0, dto.careers().get(0).average());
+        CurriculumSummaryDto curriculum = dto.careers().get(0).curricula().get(0);
+        assertEquals(8.0, curriculum.average());
+        assertEquals(TARGET_GROUP, curriculum.groupId());
+        assertEquals(3, curriculum.subjectsCompleted());
+        assertEquals(3, dto.subjectsTotal());
+    }
+
+    @Test
+    void retakenSubjectUsesTheLatestGrade() {
+        StudentSummary summary = new StudentSummary(
+                STUDENT,
+                List.of(enrollment(SOURCE_GROUP, LocalDateTime.now().minusWeeks(2), null, true)),
+                List.of(
+                        new StudentSummary.Grade(SOURCE_GROUP, 1L, 9),
+                        new StudentSummary.Grade(SOURCE_GROUP, 1L, 6)
+                ),
+                Set.of(),
+                0,
+                null,
+                LocalDateTime.now()
+        );
+
+        StudentSummaryStore store = mock(StudentSummaryStore.class);
+        when(store.get(STUDENT)).thenReturn(Optional.of(summary));
+        AcademicCatalogCache catalogCache = mock(AcademicCatalogCache.class);
+        when(catalogCache.timeline(CURRICULUM)).thenReturn(CurriculumTimeline.EMPTY);
+        when(catalogCache.curriculum(CURRICULUM)).thenReturn(Optional.empty());
+
+        StudentSummaryDto dto = new StudentSummaryService(store, catalogCache).summary(STUDENT).getBody();
+
+        assertEquals(9.0, dto.average());
+    }
+
+    private static StudentSummary.Enrollment enrollment(long groupId, LocalDateTime entry, LocalDateTime exit,
+                                                        boolean active) {
+        return new StudentSummary.Enrollment(groupId, "Grupo " + groupId, CAREER, "Carrera", CURRICULUM, "Plan",
+                null, null, entry, exit, active);
+    }
+}
@@ -0,0 +1,113 @@
+package com.utez.edu.sigeabackend.modules.summary;
+
+import com.utez.edu.sigeabackend.config.ReadWriteDataSourceConfig;
+import com.utez.edu.sigeabackend.config.ReplicaHealthMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Recarga después del commit con la réplica activa: el primario y la réplica son dos
+ * bases H2 independientes, así que la réplica se comporta como una réplica atrasada
+ * que nunca recibe la escritura.
+ */
+class SummaryStoreReplicaTest {
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private ScoreStore store;
+
+    /*
+     * Como el ejecutor "summary-": la recarga corre en otro hilo, fuera de la transacción
+     * que hizo el commit. Se espera a que termine para revisar el resultado.
+     */
+    private static final TaskExecutor OTHER_THREAD = task -> {
+        Thread thread = new Thread(task, "summary-test");
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    /** Resumen mínimo: la calificación guardada para cada clave */
+    private static final class ScoreStore extends SummaryStore<Integer> {
+
+        private final JdbcTemplate jdbc;
+
+        ScoreStore(JdbcTemplate jdbc, DataSourceTransactionManager txManager) {
+            super(OTHER_THREAD, txManager, 100);
+            this.jdbc = jdbc;
+        }
+
+        @Override
+        protected Map<Long, Integer> build(List<Long> keys) {
+            String in = keys.stream().map(String::valueOf).collect(Collectors.joining(","));
+            return jdbc.query("SELECT id, score FROM scores WHERE id IN (" + in + ")",
+                            (rs, n) -> Map.entry(rs.getLong(1), rs.getInt(2)))
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        @Override
+        protected boolean touches(Integer summary, Changes changes) {
+            return false;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        init(primaryJdbc);
+        init(replicaJdbc);
+
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, 5, "SELECT 0");
+        DataSource routing = ReadWriteDataSourceConfig.routingDataSource(primary, replica, monitor);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+
+        jdbc = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(txManager);
+        store = new ScoreStore(jdbc, txManager);
+    }
+
+    @Test
+    void reloadAfterCommitReadsTheCommittedValue() {
+        assertEquals(Optional.of(7), store.get(1L));
+
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE scores SET score = 9 WHERE id = 1");
+            store.changed(1L);
+        });
+
+        assertEquals(9, primaryJdbc.queryForObject("SELECT score FROM scores WHERE id = 1", Integer.class));
+        // La recarga ya terminó en el otro hilo y está publicada
+        assertEquals(Optional.of(9), store.get(1L));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:summary-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void init(JdbcTemplate template) {
+        template.execute("CREATE TABLE scores (id BIGINT PRIMARY KEY, score INT)");
+        template.update("INSERT INTO scores VALUES (1, 7)");
+    }
+}